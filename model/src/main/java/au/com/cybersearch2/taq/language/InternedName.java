@@ -0,0 +1,181 @@
+/** Copyright 2026 TAQ contributors
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License. */
+package au.com.cybersearch2.taq.language;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * InternedName
+ * Immutable three-part name obtained from a global symbol table, so that each distinct
+ * combination of scope, template and name is represented by a single object. Equality 
+ * is identity and the hash code is computed once, which makes InternedName an efficient 
+ * map key where a QualifiedName would compare and hash three strings on every lookup.
+ * Two names are interned to the same object only if they are equal as qualified names,
+ * so a scope or template part which is present but empty is distinct from an absent one.
+ * @see QualifiedName#intern()
+ */
+public final class InternedName implements Serializable
+{
+    private static final long serialVersionUID = -2815207409432637185L;
+
+    /** Symbol table key. Scope and template are null when the part is absent. */
+    private static final class Key
+    {
+        final String scope;
+        final String template;
+        final String name;
+
+        Key(QualifiedName qname)
+        {
+            scope = qname.scope == -1 ? null : qname.parts[qname.scope];
+            template = qname.template == -1 ? null : qname.parts[qname.template];
+            name = qname.getName();
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return Objects.hashCode(scope) ^ Objects.hashCode(template) ^ name.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj)
+        {
+            if (!(obj instanceof Key))
+                return false;
+            Key other = (Key)obj;
+            return name.equals(other.name) && Objects.equals(template, other.template) && Objects.equals(scope, other.scope);
+        }
+    }
+
+    /** Global symbol table. Names are program symbols, so the table does not grow beyond the vocabulary of loaded scripts. */
+    private static final ConcurrentMap<Key, InternedName> symbolTable = new ConcurrentHashMap<>();
+
+    /** Copy of the qualified name first interned with these parts */
+    private final QualifiedName qualifiedName;
+    /** Scope - empty for global scope */
+    private final String scope;
+    /** Template - may be empty */
+    private final String template;
+    /** Name - may be empty */
+    private final String name;
+    /** Cached hash code, same as that of the qualified name */
+    private final int hash;
+
+    /**
+     * Construct InternedName object
+     * @param qname Qualified name to copy
+     */
+    private InternedName(QualifiedName qname)
+    {
+        qualifiedName = new QualifiedName(qname);
+        scope = qname.getScope();
+        template = qname.getTemplate();
+        name = qname.getName();
+        hash = qname.hashCode();
+    }
+
+    /**
+     * Returns interned name for given parts, which are interpreted as by the
+     * QualifiedName(scope, template, name) constructor
+     * @param scope Scope - empty or "global" for global scope
+     * @param template Template - may be empty
+     * @param name Name - may be empty
+     * @return InternedName object
+     */
+    public static InternedName intern(String scope, String template, String name)
+    {
+        return intern(new QualifiedName(scope, template, name));
+    }
+
+    /**
+     * Returns interned name for given qualified name
+     * @param qname Qualified name
+     * @return InternedName object
+     */
+    public static InternedName intern(QualifiedName qname)
+    {
+        Key key = new Key(qname);
+        InternedName internedName = symbolTable.get(key);
+        if (internedName == null)
+            internedName = symbolTable.computeIfAbsent(key, k -> new InternedName(qname));
+        return internedName;
+    }
+
+    /**
+     * Returns scope
+     * @return String
+     */
+    public String getScope()
+    {
+        return scope;
+    }
+
+    /**
+     * Returns template
+     * @return String
+     */
+    public String getTemplate()
+    {
+        return template;
+    }
+
+    /**
+     * Returns name
+     * @return String
+     */
+    public String getName()
+    {
+        return name;
+    }
+
+    /**
+     * Returns new mutable qualified name with same parts as this name
+     * @return QualifiedName object
+     */
+    public QualifiedName toQualifiedName()
+    {
+        return new QualifiedName(qualifiedName);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        return this == obj;
+    }
+
+    @Override
+    public String toString()
+    {
+        return qualifiedName.toString();
+    }
+
+    /**
+     * Preserve identity on deserialization
+     * @return InternedName object from symbol table
+     */
+    private Object readResolve()
+    {
+        return intern(qualifiedName);
+    }
+}
@@ -50,6 +50,8 @@ public class QualifiedName implements Comparable<QualifiedName>, Serializable
     protected String[] parts;
     transient protected String source;
     transient protected AtomicInteger referenceCount;
+    /** Interned version of this name, cleared when any part changes */
+    transient protected InternedName interned;
 
     /**
      * Construct name-only QualifiedName in global namespace
@@ -155,6 +157,7 @@ public class QualifiedName implements Comparable<QualifiedName>, Serializable
      */
     public void setScope(String scopeName)
     {
+        interned = null;
         if (scope == -1)
         {
             String[] newParts = new String[parts.length + 1];
@@ -204,6 +207,7 @@ public class QualifiedName implements Comparable<QualifiedName>, Serializable
      */
     public QualifiedName toTemplateName()
     {
+        interned = null;
         if (template != -1)
             scope = template;
         if (name != -1)
@@ -220,6 +224,7 @@ public class QualifiedName implements Comparable<QualifiedName>, Serializable
      */
     public QualifiedName toScopeName()
     {
+        interned = null;
         if (template != -1)
         {
             if (scope != -1)
@@ -235,6 +240,7 @@ public class QualifiedName implements Comparable<QualifiedName>, Serializable
      */
     public void toContextName()
     {
+        interned = null;
         switch (parts.length)
         {
         case 3:
@@ -266,6 +272,7 @@ public class QualifiedName implements Comparable<QualifiedName>, Serializable
      */
     public void clearTemplate()
     {
+        interned = null;
         if (template != -1)
             parts[template] = EMPTY;
         template = -1;
@@ -276,11 +283,24 @@ public class QualifiedName implements Comparable<QualifiedName>, Serializable
      */
     public void clearScope()
     {
+        interned = null;
         if (scope != -1)
             parts[scope] = EMPTY;
         scope = -1;
     }
  
+    /**
+     * Returns immutable interned version of this name, which has identity equality and a cached hash code.
+     * Note the interned name is cached until this name is modified.
+     * @return InternedName object
+     */
+    public InternedName intern()
+    {
+        if (interned == null)
+            interned = InternedName.intern(this);
+        return interned;
+    }
+
     /**
      * @return the name in part format used to construct this object 
      */
@@ -0,0 +1,234 @@
+/** Copyright 2026 TAQ contributors
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License. */
+package au.com.cybersearch2.taq;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Supplier;
+
+import au.com.cybersearch2.taq.axiom.PartitionedAxiomSource;
+import au.com.cybersearch2.taq.interfaces.AxiomSource;
+import au.com.cybersearch2.taq.interfaces.SolutionHandler;
+import au.com.cybersearch2.taq.language.QualifiedName;
+import au.com.cybersearch2.taq.language.QueryType;
+import au.com.cybersearch2.taq.pattern.Axiom;
+import au.com.cybersearch2.taq.query.QueryExecutionException;
+import au.com.cybersearch2.taq.result.Result;
+import au.com.cybersearch2.taq.result.ResultCollector;
+
+/**
+ * ParallelQuery
+ * Executes a logic query with the head query axiom source split into contiguous partitions.
+ * The head axiom source is read once and its axioms are shared by the partitions.
+ * Each partition is run on a separate thread by its own query program, so every partition
+ * has its own template chain and solution. Results are merged in partition order, which preserves 
+ * the order of the head axiom source. Solutions are passed to the solution handler one at a time 
+ * as they arrive unless ordering is selected, in which case they are held until all partitions complete.
+ * A query which does not have a head axiom source is run as normal, as is a query of a program
+ * which declares resources, because resource providers are shared by the partitions and are
+ * not safe to use from more than one thread.
+ * Partitions run on an executor service shared by all ParallelQuery objects unless one is set.
+ */
+public class ParallelQuery
+{
+	/** Executor service used when none is set, created on first use */
+	private static ExecutorService sharedExecutorService;
+
+	/** Supplies a query program for each partition. All programs must be compiled from the same script. */
+	private final Supplier<QueryProgram> programFactory;
+	/** Maximum number of partitions */
+	private final int partitionCount;
+	/** Flag set true if solutions are passed to the solution handler in head axiom order */
+	private boolean isOrdered;
+	/** Executor service to run partitions or null to use the shared executor service */
+	private ExecutorService executorService;
+
+	/**
+	 * Construct ParallelQuery object
+	 * @param programFactory Supplies a query program for each partition
+	 * @param partitionCount Maximum number of partitions
+	 */
+	public ParallelQuery(Supplier<QueryProgram> programFactory, int partitionCount)
+	{
+		if (partitionCount < 1)
+			throw new IllegalArgumentException("Partition count must be at least 1");
+		this.programFactory = programFactory;
+		this.partitionCount = partitionCount;
+	}
+
+	/**
+	 * Construct ParallelQuery object which runs each partition in a new session of given program
+	 * @param queryProgram Query program
+	 * @param partitionCount Maximum number of partitions
+	 * @see QueryProgram#newSession()
+	 */
+	public ParallelQuery(QueryProgram queryProgram, int partitionCount)
+	{
+		this(queryProgram::newSession, partitionCount);
+	}
+
+	/**
+	 * Returns flag set true if solutions are passed to the solution handler in head axiom order
+	 * @return boolean
+	 */
+	public boolean isOrdered()
+	{
+		return isOrdered;
+	}
+
+	/**
+	 * Set flag for solutions to be passed to the solution handler in head axiom order.
+	 * Solutions are then held in memory until all partitions complete.
+	 * @param isOrdered boolean
+	 */
+	public void setOrdered(boolean isOrdered)
+	{
+		this.isOrdered = isOrdered;
+	}
+
+	/**
+	 * Set executor service to run partitions in place of the shared executor service.
+	 * The executor service is not shut down by this object.
+	 * @param executorService Executor service
+	 */
+	public void setExecutorService(ExecutorService executorService)
+	{
+		this.executorService = executorService;
+	}
+
+	/**
+	 * Execute query identified by name, potentially qualified with scope.
+	 * @param queryName Query name
+	 * @return Result object
+	 */
+	public Result executeQuery(String queryName)
+	{
+		return executeQuery(queryName, QueryParams.DO_NOTHING);
+	}
+
+	/**
+	 * Execute query identified by name, potentially qualified with scope. Use
+	 * provided solution handler
+	 * @param queryName Query name
+	 * @param solutionHandler Handler to process each Solution generated by the query
+	 * @return Result object containing any result lists generated by the query
+	 */
+	public Result executeQuery(String queryName, SolutionHandler solutionHandler)
+	{
+		return executeQuery(QueryProgram.getScopePart(queryName), QueryProgram.getNamePart(queryName), solutionHandler);
+	}
+
+	/**
+	 * Execute query identified by name in named scope.
+	 * @param scopeName Scope name
+	 * @param queryName Query name
+	 * @param solutionHandler Handler to process each Solution generated by the query
+	 * @return Result object containing any result lists generated by the query
+	 */
+	public Result executeQuery(String scopeName, String queryName, SolutionHandler solutionHandler)
+	{
+		QueryProgram queryProgram = programFactory.get();
+		if (queryProgram.hasResources())
+			return queryProgram.executeQuery(scopeName, queryName, solutionHandler);
+		List<Axiom> headAxioms = getHeadAxioms(queryProgram, scopeName, queryName);
+		int axiomCount = headAxioms != null ? headAxioms.size() : 0;
+		int partitions = Math.min(partitionCount, axiomCount);
+		if (partitions < 2)
+			return queryProgram.executeQuery(scopeName, queryName, solutionHandler);
+		int partitionSize = (axiomCount + partitions - 1) / partitions;
+		ResultCollector resultCollector = new ResultCollector(partitions, solutionHandler, isOrdered);
+		ExecutorService executor = executorService != null ? executorService : getSharedExecutorService();
+		List<Future<?>> futureList = new ArrayList<>(partitions);
+		try
+		{
+			for (int i = 0; i < partitions; i++)
+			{
+				final int partition = i;
+				final int start = i * partitionSize;
+				final int end = Math.min(start + partitionSize, axiomCount);
+				final QueryProgram firstProgram = i == 0 ? queryProgram : null;
+				futureList.add(executor.submit(() -> {
+					// Compile on the worker thread so compilation also runs concurrently
+					QueryProgram program = firstProgram != null ? firstProgram : programFactory.get();
+					QueryParams queryParams = program.getQueryParams(scopeName, queryName);
+					queryParams.setPartition(headAxioms, start, end);
+					queryParams.setSolutionHandler(resultCollector.getSolutionHandler(partition));
+					resultCollector.addResult(partition, program.executeQuery(queryParams));
+				}));
+			}
+			for (Future<?> future: futureList)
+				future.get();
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			throw new QueryExecutionException("Query \"" + queryName + "\" interrupted", e);
+		}
+		catch (ExecutionException e)
+		{
+			throw new QueryExecutionException("Query \"" + queryName + "\" failed", e.getCause());
+		}
+		finally
+		{   // Cancel any partitions still running after a failure
+			for (Future<?> future: futureList)
+				future.cancel(true);
+		}
+		return resultCollector.getResult();
+	}
+
+	/**
+	 * Returns executor service shared by all ParallelQuery objects which do not have one set.
+	 * It has a daemon thread for each available processor.
+	 * @return ExecutorService object
+	 */
+	private static synchronized ExecutorService getSharedExecutorService()
+	{
+		if (sharedExecutorService == null)
+		{
+			ThreadFactory defaultFactory = Executors.defaultThreadFactory();
+			sharedExecutorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), runnable -> {
+				Thread thread = defaultFactory.newThread(runnable);
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		return sharedExecutorService;
+	}
+
+	/**
+	 * Returns all axioms of the head query axiom source or null if the query cannot be partitioned
+	 * @param queryProgram Query program
+	 * @param scopeName Scope name
+	 * @param queryName Query name
+	 * @return List of axioms or null
+	 */
+	private List<Axiom> getHeadAxioms(QueryProgram queryProgram, String scopeName, String queryName)
+	{
+		QueryParams queryParams = queryProgram.getQueryParams(scopeName, queryName);
+		if ((queryParams.getQuerySpec().getQueryType() == QueryType.calculator) || !queryParams.hasAxiomSource())
+			return null;
+		Scope scope = queryParams.getScope();
+		QualifiedName axiomKey = queryParams.getQuerySpec().getKeyNameList().get(0).getAxiomKey();
+		AxiomSource axiomSource = scope.findAxiomSource(axiomKey);
+		if (axiomSource == null)
+			// Source is bound when the query is launched
+			return null;
+		return PartitionedAxiomSource.getAxioms(axiomSource, scope.getExecutionContext());
+	}
+}
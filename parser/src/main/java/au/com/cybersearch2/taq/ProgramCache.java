@@ -0,0 +1,188 @@
+/** Copyright 2026 TAQ contributors
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License. */
+package au.com.cybersearch2.taq;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReference;
+
+import au.com.cybersearch2.taq.compile.ParserContext;
+
+/**
+ * ProgramCache
+ * Cache of compiled query programs keyed by program file and validated by a digest of the content
+ * of the program file and every file it includes. Each load of a cached program, provided 
+ * none of the source files have changed, is handed a new session of the program,
+ * so no state of query evaluation carries over from one client to the next.
+ * A session is compiled from source ahead of the load which takes it, so a warm load does not 
+ * wait for compilation unless it arrives before the session is ready.
+ * Programs are held only in memory, so the cache only helps repeated loads within one process.
+ */
+public class ProgramCache
+{
+	/** Programs compiled from a set of source files */
+	private static class CacheEntry
+	{
+		/** Digest of the content of all source files */
+		final byte[] digest;
+		/** Program file followed by included files in order of inclusion */
+		final List<File> sourceFiles;
+		/** Next session to hand out, compiled in the background */
+		final AtomicReference<CompletableFuture<ParserContext>> nextSession;
+
+		CacheEntry(byte[] digest, List<File> sourceFiles, CompletableFuture<ParserContext> nextSession)
+		{
+			this.digest = digest;
+			this.sourceFiles = sourceFiles;
+			this.nextSession = new AtomicReference<>(nextSession);
+		}
+	}
+
+	/** Cache entries referenced by program file */
+	private final Map<File, CacheEntry> entryMap;
+	/** Executor to compile sessions ahead of the loads which take them */
+	private final Executor executor;
+
+	/**
+	 * Construct ProgramCache object which compiles sessions on the common fork join pool
+	 */
+	public ProgramCache()
+	{
+		this(ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Construct ProgramCache object
+	 * @param executor Executor to compile sessions ahead of the loads which take them
+	 */
+	public ProgramCache(Executor executor)
+	{
+		this.executor = executor;
+		entryMap = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Returns a new session of the program compiled from given file or null if none available.
+	 * A program compiled from a previous version of the sources is discarded.
+	 * @param programFile Program file
+	 * @return ParserContext object containing the query program or null
+	 */
+	public ParserContext acquire(File programFile)
+	{
+		File key = programFile.getAbsoluteFile();
+		CacheEntry entry = entryMap.get(key);
+		if (entry == null)
+			return null;
+		byte[] digest = digest(entry.sourceFiles);
+		if ((digest.length == 0) || !Arrays.equals(digest, entry.digest))
+		{   // Source has changed
+			entryMap.remove(key, entry);
+			return null;
+		}
+		// Take the next session and compile the one to follow it once it is ready
+		CompletableFuture<ParserContext> nextSession = new CompletableFuture<>();
+		CompletableFuture<ParserContext> session = entry.nextSession.getAndSet(nextSession);
+		session.thenApplyAsync(this::newSession, executor).whenComplete((context, e) -> {
+			if (e == null)
+				nextSession.complete(context);
+			else
+				nextSession.completeExceptionally(e);
+		});
+		try
+		{
+			return session.join();
+		}
+		catch (CompletionException e)
+		{   // Compile failed, so remove the entry and let the caller compile the program
+			entryMap.remove(key, entry);
+			return null;
+		}
+	}
+
+	/**
+	 * Add program compiled from given file. The program is not handed out,
+	 * as it belongs to the caller, but is used to compile sessions.
+	 * @param programFile Program file
+	 * @param parserContext Parser context containing the query program
+	 */
+	public void add(File programFile, ParserContext parserContext)
+	{
+		File key = programFile.getAbsoluteFile();
+		List<File> sourceFiles = new ArrayList<>();
+		sourceFiles.add(key);
+		parserContext.getQueryProgram().getSourceDocumentList().forEach(document -> {
+			File sourceFile = new File(document).getAbsoluteFile();
+			if (!sourceFiles.contains(sourceFile))
+				sourceFiles.add(sourceFile);
+		});
+		byte[] digest = digest(sourceFiles);
+		CompletableFuture<ParserContext> nextSession = 
+			CompletableFuture.supplyAsync(() -> newSession(parserContext), executor);
+		entryMap.put(key, new CacheEntry(digest, sourceFiles, nextSession));
+	}
+
+	/**
+	 * Discard all cached programs
+	 */
+	public void clear()
+	{
+		entryMap.clear();
+	}
+
+	/**
+	 * Returns a new session compiled from the same source as given program
+	 * @param parserContext Parser context containing the query program
+	 * @return ParserContext object
+	 */
+	private ParserContext newSession(ParserContext parserContext)
+	{
+		return parserContext.getQueryProgram().newSessionContext();
+	}
+
+	/**
+	 * Returns digest of the content of given files
+	 * @param sourceFiles Source files
+	 * @return byte array
+	 */
+	private static byte[] digest(List<File> sourceFiles)
+	{
+		try
+		{
+			MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+			for (File sourceFile: sourceFiles)
+			{
+				messageDigest.update(sourceFile.toString().getBytes("UTF-8"));
+				if (sourceFile.exists())
+					messageDigest.update(Files.readAllBytes(sourceFile.toPath()));
+			}
+			return messageDigest.digest();
+		}
+		catch (NoSuchAlgorithmException | IOException e)
+		{   // Return an empty digest so the cache entry is replaced
+			return new byte[0];
+		}
+	}
+}
@@ -42,6 +42,7 @@ import au.com.cybersearch2.taq.provider.generic.EntityPersistence;
 /**
  * ProviderManager
  * Provider factory for resources and functions.
+ * Methods are synchronized so programs sharing a provider manager may be compiled concurrently.
  * @author Andrew Bowley
  * 6 Mar 2015
  */
@@ -94,7 +95,7 @@ public class ProviderManager
 	 * Returns external classes path
 	 * @return File object or null if not set
 	 */
-	public File getClassesBase() {
+	public synchronized File getClassesBase() {
 		return classesBase;
 	}
 
@@ -102,7 +103,7 @@ public class ProviderManager
 	 * Returns external libraries path
 	 * @return File object or null if not set
 	 */
-	public File getLibraries() {
+	public synchronized File getLibraries() {
 		return libraries;
 	}
 
@@ -110,7 +111,7 @@ public class ProviderManager
 	 * Set external classes path
 	 * @param classesBase External classes path 
 	 */
-	public void setClassesBase(File classesBase) {
+	public synchronized void setClassesBase(File classesBase) {
 		this.classesBase = classesBase;
     	if (propertiesMap == null)
     		propertiesMap = new HashMap<>();
@@ -122,7 +123,7 @@ public class ProviderManager
 	 * Set external libraries path
 	 * @param libraries External classes path 
 	 */
-	public void setLibraries(File libraries) {
+	public synchronized void setLibraries(File libraries) {
 		this.libraries = libraries;
     	if (propertiesMap == null)
     		propertiesMap = new HashMap<>();
@@ -134,7 +135,7 @@ public class ProviderManager
 	 * Returns external resources path
 	 * @return File object or null if not set
 	 */
-	public File getResourceBase() {
+	public synchronized File getResourceBase() {
 		return resourceBase;
 	}
 
@@ -142,7 +143,7 @@ public class ProviderManager
 	 * Set external resources path
 	 * @param resourceBase External resources path 
 	 */
-	public void setResourceBase(File resourceBase) {
+	public synchronized void setResourceBase(File resourceBase) {
 		this.resourceBase = resourceBase;
     	if (propertiesMap == null)
     		propertiesMap = new HashMap<>();
@@ -153,7 +154,7 @@ public class ProviderManager
 	 * Returns flag set true if no resource providers are configured
 	 * @return boolean
 	 */
-	public boolean isEmpty() {
+	public synchronized boolean isEmpty() {
 		return providerSet.size() == 0;
 	}
 
@@ -161,7 +162,7 @@ public class ProviderManager
      * Add resource provider
      * @param providerFactory Provider Factory object
      */
-    public void putResourceProvider(final ProviderFactory providerFactory)
+    public synchronized void putResourceProvider(final ProviderFactory providerFactory)
     {
     	providerSet.add(providerFactory) ;
     }
@@ -169,7 +170,7 @@ public class ProviderManager
     /**
      * Returns flag set true if worker service is required
      */
-    public boolean activate() {
+    public synchronized boolean activate() {
     	return databaseProviderList.size() > 0;
 	}
 
@@ -178,7 +179,7 @@ public class ProviderManager
      * @param key Key
      * @param value Value as Object
      */
-    public void setProperty(String key, Object value) {
+    public synchronized void setProperty(String key, Object value) {
     	if (propertiesMap == null)
     		propertiesMap = new HashMap<>();
     	propertiesMap.put(key, value);
@@ -195,7 +196,7 @@ public class ProviderManager
      * @param name Name of provider to receive the listener
      * @param axiomListener Axiom listener
      */
-    public void chainAxiomListener(String name, LocaleAxiomListener axiomListener) {
+    public synchronized void chainAxiomListener(String name, LocaleAxiomListener axiomListener) {
     	if (listenerMap == null) 
     		listenerMap = new HashMap<>();
     	listenerMap.computeIfAbsent(name, key -> { return new ArrayList<>(); });
@@ -207,7 +208,7 @@ public class ProviderManager
      * @param name Name of provider
      * @return flag set true if provider found
      */
-    public boolean hasResourceProvider(String name) {
+    public synchronized boolean hasResourceProvider(String name) {
     	for (ProviderFactory factory: providerSet)
     		if (factory.isResourceName(name))
     			return true;
@@ -215,14 +216,22 @@ public class ProviderManager
     }
 
     /**
-     * Shutdown database providers and wait for all pending tasks to complete
+     * Shutdown database providers and wait for all pending tasks to complete.
+     * Every provider is closed before the first error is thrown, with any others suppressed.
      */
-    public void close() {
-    	if (databaseProviderList.size() > 0) {
-        	databaseProviderList.forEach(provider -> {
-        		provider.close();
-        	});
-     	}
+    public synchronized void close() {
+    	RuntimeException closeException = null;
+    	for (DatabaseProvider<?,?> provider: databaseProviderList)
+    		try {
+    			provider.close();
+    		} catch (RuntimeException e) {
+    			if (closeException == null)
+    				closeException = e;
+    			else
+    				closeException.addSuppressed(e);
+    		}
+    	if (closeException != null)
+    		throw closeException;
     }
     
     /**
@@ -231,7 +240,7 @@ public class ProviderManager
      * @return ResourceProvider implementation or null if not found
      */
     @SuppressWarnings("unchecked")
-	public ResourceProvider getResourceProvider(String resourceName) {
+	public synchronized ResourceProvider getResourceProvider(String resourceName) {
     	ResourceProvider resourceProvider = null;
     	for (ProviderFactory factory: providerSet)
     		if (factory.isResourceName(resourceName)) {
@@ -259,7 +268,7 @@ public class ProviderManager
      * @param databasePath Path to database file
      * @return DatabaseProvider object cast as ResourceProvider
      */
-	public ResourceProvider getDatabaseProvider(String resourceName, String classname, DbType dbType, String databasePath)  {
+	public synchronized ResourceProvider getDatabaseProvider(String resourceName, String classname, DbType dbType, String databasePath)  {
     	if (getResourceBase() == null)
     		throw new IllegalStateException("Resource base location not set");
     	// Resolve path if not absolute
@@ -338,7 +347,7 @@ public class ProviderManager
      * Return list of all database providers
      * @return DatabaseProvider list
      */
-	public List<DatabaseProvider<? extends EntityCollector<?>, ? extends EntityEmitter<?>>> getDatabaseProviders() {
+	public synchronized List<DatabaseProvider<? extends EntityCollector<?>, ? extends EntityEmitter<?>>> getDatabaseProviders() {
 		return databaseProviderList;
 	} 
 
@@ -348,7 +357,7 @@ public class ProviderManager
      * @param functionProvider The library object which implements FunctionProvider interface
      * @see au.com.cybersearch2.taq.interfaces.FunctionProvider
      */
-    public void putFunctionProvider(String name, FunctionProvider functionProvider) {
+    public synchronized void putFunctionProvider(String name, FunctionProvider functionProvider) {
         functionProviderMap.put(name, functionProvider);
     }
 
@@ -357,7 +366,7 @@ public class ProviderManager
      * @param name The provider name
      * @return FunctionProvider implementation or null if not found
      */
-    public FunctionProvider findFunctionProvider(String name)
+    public synchronized FunctionProvider findFunctionProvider(String name)
     {
     	FunctionProvider functionProvider = functionProviderMap.get(name);
     	if ((functionProvider != null) && (propertiesMap != null))
@@ -386,7 +395,7 @@ public class ProviderManager
      * @param dbTypeObject Optional database type property
      * @return ResourceProvider object
      */
-    public ResourceProvider getResourceProvider(String resourceName, Object databaseObject, Object providerObject, Object dbTypeObject) {
+    public synchronized ResourceProvider getResourceProvider(String resourceName, Object databaseObject, Object providerObject, Object dbTypeObject) {
     	String classname = providerObject != null ? providerObject.toString() : null;
     	ResourceProvider resourceProvider = null;
      	if (databaseObject != null) {
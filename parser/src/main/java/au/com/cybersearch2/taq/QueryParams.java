@@ -65,6 +65,12 @@ public class QueryParams
 	private Map<QualifiedName, Axiom> parametersMap;
 	/** Set of scopes participating in this query */
 	private Set<String> queryScopes;
+	/** All head axioms shared by the partitions or null if the query is not partitioned */
+	private List<Axiom> partitionAxioms;
+	/** Position of first head axiom in partition */
+	private int partitionStart;
+	/** Position after the last head axiom in partition */
+	private int partitionEnd;
 
     static
     {
@@ -282,6 +288,50 @@ public class QueryParams
         return initialSolution;
     }
 
+    /**
+     * Restrict the head query to a contiguous range of positions in its axiom source
+     * @param headAxioms All axioms of the head query axiom source, shared by the partitions
+     * @param start Position of first axiom in the partition
+     * @param end Position after the last axiom in the partition
+     */
+    public void setPartition(List<Axiom> headAxioms, int start, int end) {
+    	partitionAxioms = headAxioms;
+    	partitionStart = start;
+    	partitionEnd = end;
+    }
+
+    /**
+     * Returns flag set true if the head query is restricted to a partition of its axiom source
+     * @return boolean
+     */
+    public boolean isPartitioned() {
+    	return partitionAxioms != null;
+    }
+
+    /**
+     * Returns all axioms of the head query axiom source, shared by the partitions
+     * @return List of axioms or null if the query is not partitioned
+     */
+    public List<Axiom> getPartitionAxioms() {
+    	return partitionAxioms;
+    }
+
+    /**
+     * Returns position of first head axiom in partition
+     * @return int
+     */
+    public int getPartitionStart() {
+    	return partitionStart;
+    }
+
+    /**
+     * Returns position after the last head axiom in partition
+     * @return int
+     */
+    public int getPartitionEnd() {
+    	return partitionEnd;
+    }
+
     /**
      * Returns flag set true if first key name specifies an axiom source
      * @return boolean
@@ -329,10 +379,10 @@ public class QueryParams
      */
     private void replicateCopyGlobalListeners(Template replicate, ListAssembler listAssembler) {
     	QualifiedName replicateName = replicate.getQualifiedName();
-        List<LocaleAxiomListener> listeners = listAssembler.getAxiomListenerMap().get(replicateName);
+        List<LocaleAxiomListener> listeners = listAssembler.getAxiomListenerMap().get(replicateName.intern());
         if (listeners == null) {
         	QualifiedName queryName = new QualifiedName(NameParser.GLOBAL_SCOPE, replicateName.getTemplate(), QualifiedName.EMPTY);
-         	listeners = scope.getGlobalListAssembler().getAxiomListenerMap().get(queryName);
+         	listeners = scope.getGlobalListAssembler().getAxiomListenerMap().get(queryName.intern());
             if (listeners != null) 
             	listeners.forEach(item -> listAssembler.add(replicateName, item));
         }
@@ -23,6 +23,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.PriorityQueue;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import com.j256.simplelogging.Logger;
 
@@ -36,6 +39,7 @@ import au.com.cybersearch2.taq.db.DatabaseProvider;
 import au.com.cybersearch2.taq.db.EntityCollector;
 import au.com.cybersearch2.taq.db.EntityEmitter;
 import au.com.cybersearch2.taq.debug.ExecutionConsole;
+import au.com.cybersearch2.taq.expression.ConstantFolder;
 import au.com.cybersearch2.taq.expression.ExpressionException;
 import au.com.cybersearch2.taq.expression.PatternFactory;
 import au.com.cybersearch2.taq.expression.ResourceOperand;
@@ -47,11 +51,13 @@ import au.com.cybersearch2.taq.language.QuerySpec;
 import au.com.cybersearch2.taq.list.AxiomTermList;
 import au.com.cybersearch2.taq.log.LogManager;
 import au.com.cybersearch2.taq.model.TaqParser;
+import au.com.cybersearch2.taq.pattern.Axiom;
 import au.com.cybersearch2.taq.pattern.Template;
 import au.com.cybersearch2.taq.provider.ProviderAgent;
 import au.com.cybersearch2.taq.provider.ResourceFunctions;
 import au.com.cybersearch2.taq.query.QueryExecutionException;
 import au.com.cybersearch2.taq.query.QueryLauncher;
+import au.com.cybersearch2.taq.query.SolutionSpliterator;
 import au.com.cybersearch2.taq.result.Result;
 import au.com.cybersearch2.taq.result.ResultList;
 import au.com.cybersearch2.taq.scope.ScopeContext;
@@ -128,6 +134,8 @@ public class QueryProgram extends QueryLauncher implements ExecutionConsole {
 	private final ScopeManager scopeManager;
 	/** Provides indirect access to optional ProviderManager */
 	private final ProviderAgent providerAgent;
+	/** Optional resource provider aggregator, shared with sessions */
+	private final ProviderManager providerManager;
 	
 	/** Resource path base */
 	private File resourceBase;
@@ -139,6 +147,8 @@ public class QueryProgram extends QueryLauncher implements ExecutionConsole {
 	private Template headTemplate;
 	/** Compiler used to parse TAQ which has pending tasks to complete */
 	private Compiler compiler;
+	/** Compiles the TAQ of this program into a new program or null if nothing has been compiled */
+	private Supplier<ParserContext> sessionFactory;
 
 	/**
 	 * Default QueryProgram constructor
@@ -153,6 +163,7 @@ public class QueryProgram extends QueryLauncher implements ExecutionConsole {
 	 * @param providerManager Resource provider aggregator
 	 */
 	public QueryProgram(ProviderManager providerManager) {
+		this.providerManager = providerManager;
 		scopeManager = new ScopeManager();
 		providerAgent = providerManager == null ? new ProviderAgent() : new ProviderAgent(providerManager);
 		resourceBase = providerAgent.getResourceBase();
@@ -206,6 +217,57 @@ public class QueryProgram extends QueryLauncher implements ExecutionConsole {
 		this.compiler = compiler;
 	}
 
+	/**
+	 * Returns names of the documents compiled into this program, starting with the main document
+	 * followed by included documents
+	 * 
+	 * @return String list, empty if the program was not compiled from a document
+	 */
+	public List<String> getSourceDocumentList() {
+		if (compiler == null)
+			return Collections.emptyList();
+		return compiler.getSourceTracker().getSourceDocumentList();
+	}
+
+	/**
+	 * Set factory to compile the TAQ of this program into a new program
+	 * 
+	 * @param sessionFactory Session factory which returns the parser context of the new program
+	 * @see #newSession()
+	 */
+	public void setSessionFactory(Supplier<ParserContext> sessionFactory) {
+		this.sessionFactory = sessionFactory;
+	}
+
+	/**
+	 * Returns a new session of this program, which can execute queries concurrently
+	 * with this program and any other session. Templates, operands and evaluators hold
+	 * the state of query evaluation, so a session is compiled from the same TAQ 
+	 * to obtain its own template graph. Changes made to this program after compilation
+	 * are not carried over. The resource base and any resource providers are shared.
+	 * 
+	 * @return QueryProgram object
+	 * @throws QueryExecutionException if no TAQ has been compiled into this program
+	 */
+	public QueryProgram newSession() {
+		return newSessionContext().getQueryProgram();
+	}
+
+	/**
+	 * Returns parser context of a new session of this program
+	 * 
+	 * @return ParserContext object
+	 * @throws QueryExecutionException if no TAQ has been compiled into this program
+	 * @see #newSession()
+	 */
+	public ParserContext newSessionContext() {
+		if (sessionFactory == null)
+			throw new QueryExecutionException("Query program has no script from which to create a session");
+		ParserContext sessionContext = sessionFactory.get();
+		sessionContext.getQueryProgram().setSessionFactory(sessionFactory);
+		return sessionContext;
+	}
+
 	/**
 	 * Compile TAQ program
 	 * 
@@ -214,6 +276,18 @@ public class QueryProgram extends QueryLauncher implements ExecutionConsole {
 	 * @throws ExpressionException if parse error encountered
 	 */
 	public ParserContext parseScript(String script) {
+		// Sessions compile every script parsed by this program in the same order
+		final Supplier<ParserContext> baseFactory = sessionFactory;
+		sessionFactory = () -> {
+			QueryProgram session;
+			if (baseFactory != null)
+				session = baseFactory.get().getQueryProgram();
+			else {
+				session = new QueryProgram(providerManager);
+				session.setResourceBase(resourceBase);
+			}
+			return session.parseScript(script);
+		};
 		try {
 			InputStream stream = new ByteArrayInputStream(script.getBytes("UTF-8"));
 			TaqParser queryParser = new TaqParser(stream, "UTF-8");
@@ -324,26 +398,13 @@ public class QueryProgram extends QueryLauncher implements ExecutionConsole {
 		Map<QualifiedName, ResultList<?>> listMap = new HashMap<>();
 		Map<QualifiedName, AxiomTermList> axiomMap = new HashMap<>();
 		boolean isWorkerServiceActive = false;
+		RuntimeException queryException = null;
 		try {
-			String sourceDocument = "";
 			if (providerAgent.activate()) {
 				workerService.addClient();
 				isWorkerServiceActive = true;
 			}
-				
-			// Evaluate resource templates
-			if (compiler != null) {
-				List<String> docList = compiler.getSourceTracker().getSourceDocumentList();
-				if (!docList.isEmpty())
-					sourceDocument = docList.get(0);
-				runPreLaunchTasks();
-			}
-			scope.getGlobalScope().evaluateScopeTemplate();
-			scopeManager.forEach(item -> {
-				if (!GLOBAL_SCOPE.equals(item.getName()))
-					item.evaluateScopeTemplate();
-			});
-			logger.trace(String.format("Launching query %s", sourceDocument));
+			prepareLaunch(scope);
 			// Launch query
 			launch(queryParams);
 			// Collect results
@@ -355,27 +416,136 @@ public class QueryProgram extends QueryLauncher implements ExecutionConsole {
 			scopeManager.processResults();
 		} catch (ExpressionException e) {
 			e.printStackTrace();
+		} catch (RuntimeException e) {
+			queryException = e;
+			throw e;
+		} finally {
+			completeLaunch(scope, scopeContext, isWorkerServiceActive, queryException);
+		}
+		return new Result(listMap, axiomMap);
+	}
+
+	/**
+	 * Returns stream of axioms produced by query identified by name, potentially qualified with scope.
+	 * 
+	 * @param queryName Query name
+	 * @return Axiom stream
+	 * @see #stream(QueryParams)
+	 */
+	public Stream<Axiom> stream(String queryName) {
+		return stream(getQueryParams(getScopePart(queryName), getNamePart(queryName)));
+	}
+
+	/**
+	 * Returns stream of axioms produced by query framed with query parameters. Each solution is
+	 * found only when the next axiom is requested and no Result is assembled. Each axiom is that 
+	 * produced by the last query in the chain for a solution. Closing the stream before it is
+	 * exhausted cancels the query. The stream must be closed if not exhausted, so use of a 
+	 * try-with-resources statement is recommended. Note that lists declared in the script, 
+	 * including the result list of a query declared with a list type, are still populated.
+	 * 
+	 * @param queryParams The query parameters, including the query specification
+	 * @return Axiom stream
+	 */
+	public Stream<Axiom> stream(QueryParams queryParams) {
+		Scope scope = queryParams.getScope();
+		ScopeContext scopeContext = scope.getContext(false);
+		boolean isWorkerServiceActive = false;
+		SolutionSpliterator spliterator = null;
+		RuntimeException queryException = null;
+		try {
+			if (providerAgent.activate()) {
+				workerService.addClient();
+				isWorkerServiceActive = true;
+			}
+			prepareLaunch(scope);
+			spliterator = launchSpliterator(queryParams);
+		} catch (RuntimeException e) {
+			queryException = e;
+			throw e;
 		} finally {
+			if (spliterator == null)
+				completeLaunch(scope, scopeContext, isWorkerServiceActive, queryException);
+		}
+		final SolutionSpliterator solutionSpliterator = spliterator;
+		final boolean isWorkerActive = isWorkerServiceActive;
+		solutionSpliterator.setCloseHandler(() -> {
+			RuntimeException resultsException = null;
+			try {
+				if (solutionSpliterator.isExhausted())
+					scopeManager.processResults();
+			} catch (RuntimeException e) {
+				resultsException = e;
+				throw e;
+			} finally {
+				completeLaunch(scope, scopeContext, isWorkerActive, resultsException);
+			}
+		});
+		return StreamSupport.stream(solutionSpliterator, false).onClose(solutionSpliterator::close);
+	}
+
+	/**
+	 * Run pre-launch tasks and evaluate scope templates
+	 * 
+	 * @param scope Query scope
+	 */
+	private void prepareLaunch(Scope scope) {
+		String sourceDocument = "";
+		// Evaluate resource templates
+		if (compiler != null) {
+			List<String> docList = compiler.getSourceTracker().getSourceDocumentList();
+			if (!docList.isEmpty())
+				sourceDocument = docList.get(0);
+			runPreLaunchTasks();
+		}
+		scope.getGlobalScope().evaluateScopeTemplate();
+		scopeManager.forEach(item -> {
+			if (!GLOBAL_SCOPE.equals(item.getName()))
+				item.evaluateScopeTemplate();
+		});
+		logger.trace(String.format("Launching query %s", sourceDocument));
+	}
+
+	/**
+	 * Close resources and restore scopes following query completion. An error closing
+	 * providers does not interrupt the rest of the cleanup. It is then thrown, unless the
+	 * query itself failed, in which case it is added as suppressed to the query error.
+	 * 
+	 * @param scope                 Query scope
+	 * @param scopeContext          Scope context to reset
+	 * @param isWorkerServiceActive Flag set true if this query is a worker service client
+	 * @param queryException        Error thrown by the query or null if none
+	 */
+	private void completeLaunch(Scope scope, ScopeContext scopeContext, boolean isWorkerServiceActive, RuntimeException queryException) {
+		RuntimeException closeException = null;
+		try {
 			providerAgent.close();
-			scopeContext.resetScope();
-			if (resourcesList != null)
-				resourcesList.forEach(functionObject -> {
-					try {
-						// Call close() for all resources to cover exception thrown
-						functionObject.close();
-					} catch (RuntimeException e) {
-						e.printStackTrace();
-					}
-				});
-			scopeManager.forEach(item -> {
-				if (!GLOBAL_SCOPE.equals(item.getName()))
-					item.backupScopeTemplate();
+		} catch (RuntimeException e) {
+			closeException = e;
+		}
+		scopeContext.resetScope();
+		if (resourcesList != null)
+			resourcesList.forEach(functionObject -> {
+				try {
+					// Call close() for all resources to cover exception thrown
+					functionObject.close();
+				} catch (RuntimeException e) {
+					e.printStackTrace();
+				}
 			});
-			scope.getGlobalScope().backupScopeTemplate();
-			if (isWorkerServiceActive)
-				workerService.removeClient();
+		scopeManager.forEach(item -> {
+			if (!GLOBAL_SCOPE.equals(item.getName()))
+				item.backupScopeTemplate();
+		});
+		scope.getGlobalScope().backupScopeTemplate();
+		if (isWorkerServiceActive)
+			workerService.removeClient();
+		if (closeException != null) {
+			if (queryException != null)
+				queryException.addSuppressed(closeException);
+			else
+				throw closeException;
 		}
-		return new Result(listMap, axiomMap);
 	}
 
 	/**
@@ -432,6 +602,15 @@ public class QueryProgram extends QueryLauncher implements ExecutionConsole {
 		return resourceOperand;
 	}
 
+	/**
+	 * Returns flag set true if any resource has been declared in this program
+	 * 
+	 * @return boolean
+	 */
+	public boolean hasResources() {
+		return resourcesList != null;
+	}
+
 	/**
 	 * Run all parser tasks, which completes compilation after entire program has
 	 * been input
@@ -459,6 +638,15 @@ public class QueryProgram extends QueryLauncher implements ExecutionConsole {
 			TemplateAssembler templateAssembler = scope.getParserAssembler().getTemplateAssembler();
 			templateAssembler.doParserTask();
 		});
+		if (ConstantFolder.IS_ENABLED) {
+			// Replace expressions which evaluate the same every time with their result
+			ConstantFolder constantFolder = new ConstantFolder();
+			scopeManager.forEach(scope -> {
+				TemplateAssembler templateAssembler = scope.getParserAssembler().getTemplateAssembler();
+				for (QualifiedName templateName: templateAssembler.getTemplateNames())
+					constantFolder.fold(templateAssembler.getTemplate(templateName));
+			});
+		}
 	}
 
 	/**
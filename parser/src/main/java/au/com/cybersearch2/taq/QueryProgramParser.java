@@ -61,8 +61,10 @@ public class QueryProgramParser
     protected ProviderManager providerManager;
     /** Path to resource files */
     protected File resourcePath;
-    /** Parser context to aggregates variables required while parsing */
-    protected ParserContext context;
+    /** Parser context of the most recently loaded program */
+    protected volatile ParserContext context;
+    /** Optional cache of compiled programs */
+    protected ProgramCache programCache;
 
     /**
      * Create QueryProgramParser object
@@ -121,26 +123,74 @@ public class QueryProgramParser
     }
     
     /**
-     * Returns query program from compiling given file
+     * Set cache of compiled programs. Each load of a cached program returns a new session
+     * of the program as it was when first compiled.
+     * @param programCache Program cache
+     */
+    public void setProgramCache(ProgramCache programCache)
+    {
+        this.programCache = programCache;
+    }
+
+    /**
+     * Returns query program from compiling given file. If a program cache is set,
+     * a new session of a program compiled from the same sources is returned instead, if available.
+     * Each load has its own parser context, so programs may be loaded concurrently.
      * @param programFile File path
      * @return QueryProgram object
      */
-    public synchronized QueryProgram loadScript(String programFile)
+    public QueryProgram loadScript(String programFile)
     {
         File filePath = new File(resourcePath, programFile);
-        QueryProgram queryProgram = null;
+        ParserContext parserContext = null;
+        if (programCache != null)
+        {
+            parserContext = programCache.acquire(filePath);
+            if (parserContext == null)
+            {
+                parserContext = compile(filePath);
+                programCache.add(filePath, parserContext);
+            }
+        }
+        else
+            parserContext = compile(filePath);
+        context = parserContext;
+        return parserContext.getQueryProgram();
+    }
+
+    /**
+     * Returns query program from compiling given file. 
+     * Use in testing when not intending to execute a query.
+     * @param programFile File path
+     * @return QueryProgram object
+     */
+    public QueryProgram loadProgram(String programFile) {
+    	QueryProgram queryProgram = loadScript(programFile);
+    	queryProgram.runPreLaunchTasks();
+    	return queryProgram;
+    }
+    
+    /**
+     * Compile given file into a new query program
+     * @param filePath File path
+     * @return Parser context containing the query program
+     */
+    private ParserContext compile(File filePath)
+    {
         InputStream stream = null;
         try
         {
             stream = new FileInputStream(filePath);
             TaqParser queryParser = new TaqParser(stream, "UTF-8");
-            queryProgram = new QueryProgram(providerManager);
+            QueryProgram queryProgram = new QueryProgram(providerManager);
             queryProgram.setResourceBase(resourcePath);
-            context = new ParserContext(queryProgram, filePath.toString());
-        	Compiler compiler = new Compiler(queryParser.publish(), context);
+            ParserContext parserContext = new ParserContext(queryProgram, filePath.toString());
+        	Compiler compiler = new Compiler(queryParser.publish(), parserContext);
         	compiler.compile();
         	queryProgram.setCompiler(compiler);
-            return queryProgram;
+        	// Sessions are compiled from the same file
+        	queryProgram.setSessionFactory(() -> compile(filePath));
+            return parserContext;
         }
         catch (IOException e)
         {
@@ -165,18 +215,7 @@ public class QueryProgramParser
     }
 
     /**
-     * Returns query program from compiling given file. 
-     * Use in testing when not intending to execute a query.
-     * @param programFile File path
-     * @return QueryProgram object
-     */
-    public synchronized QueryProgram loadProgram(String programFile) {
-    	QueryProgram queryProgram = loadScript(programFile);
-    	queryProgram.runPreLaunchTasks();
-    	return queryProgram;
-    }
-    
-    /**
+     * Returns parser context of the most recently loaded program
      * @return the context
      */
     public ParserContext getContext()
@@ -38,6 +38,7 @@ import au.com.cybersearch2.taq.interfaces.AxiomSource;
 import au.com.cybersearch2.taq.interfaces.ItemList;
 import au.com.cybersearch2.taq.interfaces.LocaleAxiomListener;
 import au.com.cybersearch2.taq.language.ITemplate;
+import au.com.cybersearch2.taq.language.InternedName;
 import au.com.cybersearch2.taq.language.KeyName;
 import au.com.cybersearch2.taq.language.NameParser;
 import au.com.cybersearch2.taq.language.QualifiedName;
@@ -453,22 +454,22 @@ public class Scope
      * Returns object containing all axiom listeners belonging to this scope
      * @return  Unmodifiable AxiomListener map object
      */
-    public Map<QualifiedName, List<LocaleAxiomListener>> getAxiomListenerMap()
+    public Map<InternedName, List<LocaleAxiomListener>> getAxiomListenerMap()
     {
-        Map<QualifiedName, List<LocaleAxiomListener>> axiomListenerMap = null;
+        Map<InternedName, List<LocaleAxiomListener>> axiomListenerMap = null;
         if (!name.equals(QueryProgram.GLOBAL_SCOPE))
         {
             ListAssembler globalListAssembler = getGlobalListAssembler(); 
             if (globalListAssembler.getAxiomListenerMap().size() > 0)
                 axiomListenerMap = globalListAssembler.getAxiomListenerMap();
         }
-        Map<QualifiedName, List<LocaleAxiomListener>> localListenerMap = 
+        Map<InternedName, List<LocaleAxiomListener>> localListenerMap = 
             parserAssembler.getListAssembler().getAxiomListenerMap();
         if (localListenerMap.size() > 0)
         {
             if (axiomListenerMap != null)
             {
-                Map<QualifiedName, List<LocaleAxiomListener>> newAxiomListenerMap = new HashMap<>();
+                Map<InternedName, List<LocaleAxiomListener>> newAxiomListenerMap = new HashMap<>();
                 newAxiomListenerMap.putAll(axiomListenerMap);
                 axiomListenerMap = newAxiomListenerMap;
                 axiomListenerMap.putAll(localListenerMap);
@@ -0,0 +1,153 @@
+/** Copyright 2026 TAQ contributors
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License. */
+package au.com.cybersearch2.taq.axiom;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import au.com.cybersearch2.taq.language.Term;
+import au.com.cybersearch2.taq.pattern.Axiom;
+
+/**
+ * AxiomIndex
+ * Hash index over an axiom list, built lazily for each term name on first lookup.
+ * Only term values of a single, equality-safe class are indexed. Any other mix of
+ * values renders the index for that term unusable, in which case the caller must
+ * fall back to a full scan of the axiom list. The index is rebuilt whenever the 
+ * version of the list changes, so only a {@link VersionedAxiomList} can be indexed.
+ */
+public class AxiomIndex
+{
+    /** Index of one term, mapping term value to axioms containing that value */
+    private static class TermIndex
+    {
+        /** Class of all indexed values or null if the index is unusable */
+        Class<?> keyClass;
+        /** Axiom list version when index was built */
+        int version;
+        /** Axioms referenced by term value */
+        Map<Object, List<Axiom>> axiomMap;
+    }
+
+    /** The axiom list */
+    private final List<Axiom> axiomList;
+    /** Term indexes referenced by term name */
+    private final Map<String, TermIndex> termIndexMap;
+
+    /**
+     * Construct AxiomIndex object
+     * @param axiomList The axiom list to index
+     */
+    public AxiomIndex(List<Axiom> axiomList)
+    {
+        this.axiomList = axiomList;
+        termIndexMap = new HashMap<>();
+    }
+
+    /**
+     * Returns the indexed axiom list
+     * @return Axiom list
+     */
+    public List<Axiom> getAxiomList()
+    {
+        return axiomList;
+    }
+
+    /**
+     * Returns axioms which have a term of given name matching given value
+     * @param termName Term name
+     * @param key Value to match
+     * @return Axiom list, which may be empty, or null if the term cannot be indexed
+     */
+    public List<Axiom> lookup(String termName, Object key)
+    {
+        if (!(axiomList instanceof VersionedAxiomList))
+            // Changes to the list cannot be detected
+            return null;
+        if ((key == null) || !isIndexable(key.getClass()))
+            return null;
+        TermIndex termIndex = getTermIndex(termName);
+        if (termIndex.keyClass != key.getClass())
+            return null;
+        List<Axiom> axioms = termIndex.axiomMap.get(key);
+        return axioms != null ? axioms : Collections.emptyList();
+    }
+
+    /**
+     * Returns index for given term name, building it if not available or the axiom list has changed
+     * @param termName Term name
+     * @return TermIndex object
+     */
+    private synchronized TermIndex getTermIndex(String termName)
+    {
+        TermIndex termIndex = termIndexMap.get(termName);
+        if ((termIndex == null) || (termIndex.version != getVersion()))
+        {
+            termIndex = buildTermIndex(termName);
+            termIndexMap.put(termName, termIndex);
+        }
+        return termIndex;
+    }
+
+    /**
+     * Build index for given term name
+     * @param termName Term name
+     * @return TermIndex object
+     */
+    private TermIndex buildTermIndex(String termName)
+    {
+        TermIndex termIndex = new TermIndex();
+        termIndex.version = getVersion();
+        termIndex.axiomMap = new HashMap<>();
+        for (Axiom axiom: axiomList)
+        {
+            Term term = axiom.getTermByName(termName);
+            Object value = term != null ? term.getValue() : null;
+            Class<?> valueClass = value != null ? value.getClass() : null;
+            if ((valueClass == null) || !isIndexable(valueClass) ||
+                ((termIndex.keyClass != null) && (termIndex.keyClass != valueClass)))
+            {   // Mixed or unsupported values. Release the map as it will never be used.
+                termIndex.keyClass = null;
+                termIndex.axiomMap = Collections.emptyMap();
+                return termIndex;
+            }
+            termIndex.keyClass = valueClass;
+            termIndex.axiomMap.computeIfAbsent(value, k -> new ArrayList<>()).add(axiom);
+        }
+        return termIndex;
+    }
+
+    /**
+     * Returns modification count of the axiom list
+     * @return int
+     */
+    private int getVersion()
+    {
+        return ((VersionedAxiomList)axiomList).getVersion();
+    }
+
+    /**
+     * Returns flag set true if values of given class have equals() consistent with TAQ "==" operator
+     * @param valueClass Value class
+     * @return boolean
+     */
+    private static boolean isIndexable(Class<?> valueClass)
+    {
+        return (valueClass == String.class) || (valueClass == Long.class) ||
+               (valueClass == Integer.class) || (valueClass == Boolean.class);
+    }
+}
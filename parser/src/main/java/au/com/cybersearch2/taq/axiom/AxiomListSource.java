@@ -74,6 +74,14 @@ public class AxiomListSource  implements AxiomSource, Iterable<Axiom>
         return getArchetype().getTermNameList();
     }
 
+    @Override
+    public int getVersion()
+    {
+        if (axiomList instanceof VersionedAxiomList)
+            return ((VersionedAxiomList)axiomList).getVersion();
+        return -1;
+    }
+
     @Override
     public Iterator<Axiom> iterator(ExecutionContext context) 
     {
@@ -0,0 +1,114 @@
+/** Copyright 2026 TAQ contributors
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License. */
+package au.com.cybersearch2.taq.axiom;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import au.com.cybersearch2.taq.language.OperatorEnum;
+
+/**
+ * AxiomSelection
+ * Criteria and term names which a query passes to an axiom provider so it can select only 
+ * those axioms which may satisfy the query, and only the terms the query uses. Each criterion 
+ * compares a term with a value. The query still tests every axiom it receives, so a provider 
+ * may ignore any part of the selection it cannot apply.
+ */
+public class AxiomSelection
+{
+    /** Comparison of an axiom term with a value */
+    public static class TermCriterion
+    {
+        /** Axiom term name */
+        public final String termName;
+        /** Relational operator with the term on the left */
+        public final OperatorEnum operator;
+        /** Value to compare */
+        public final Object value;
+
+        /**
+         * Construct TermCriterion object
+         * @param termName Axiom term name
+         * @param operator Relational operator with the term on the left
+         * @param value Value to compare
+         */
+        public TermCriterion(String termName, OperatorEnum operator, Object value)
+        {
+            this.termName = termName;
+            this.operator = operator;
+            this.value = value;
+        }
+
+        @Override
+        public String toString()
+        {
+            return termName + " " + operator.toString() + " " + value.toString();
+        }
+    }
+
+    /** Criteria which an axiom must satisfy */
+    private final List<TermCriterion> criteria;
+    /** Names of terms used by the query */
+    private final Set<String> termNames;
+
+    /**
+     * Construct AxiomSelection object
+     */
+    public AxiomSelection()
+    {
+        criteria = new ArrayList<>();
+        termNames = new LinkedHashSet<>();
+    }
+
+    /**
+     * Add criterion
+     * @param termName Axiom term name
+     * @param operator Relational operator with the term on the left
+     * @param value Value to compare
+     */
+    public void addCriterion(String termName, OperatorEnum operator, Object value)
+    {
+        criteria.add(new TermCriterion(termName, operator, value));
+    }
+
+    /**
+     * Add name of a term used by the query
+     * @param termName Term name
+     */
+    public void addTermName(String termName)
+    {
+        termNames.add(termName);
+    }
+
+    /**
+     * Returns criteria which an axiom must satisfy
+     * @return TermCriterion list
+     */
+    public List<TermCriterion> getCriteria()
+    {
+        return Collections.unmodifiableList(criteria);
+    }
+
+    /**
+     * Returns names of terms used by the query
+     * @return set of names, empty if all terms are required
+     */
+    public Set<String> getTermNames()
+    {
+        return Collections.unmodifiableSet(termNames);
+    }
+}
@@ -0,0 +1,55 @@
+/** Copyright 2026 TAQ contributors
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License. */
+package au.com.cybersearch2.taq.axiom;
+
+import java.util.Iterator;
+import java.util.List;
+
+import au.com.cybersearch2.taq.language.Term;
+import au.com.cybersearch2.taq.pattern.Archetype;
+import au.com.cybersearch2.taq.pattern.Axiom;
+
+/**
+ * IndexedAxiomSource
+ * Axiom list source which can also iterate over only those axioms with a term matching a given value.
+ * The index is shared by all sources created for the same axiom list.
+ */
+public class IndexedAxiomSource extends AxiomListSource
+{
+    /** Hash index over the axiom list */
+    private final AxiomIndex axiomIndex;
+
+    /**
+     * Construct IndexedAxiomSource object
+     * @param axiomIndex Index which contains the axiom list
+     * @param archetype The axiom archetype 
+     */
+    public IndexedAxiomSource(AxiomIndex axiomIndex, Archetype<Axiom,Term> archetype)
+    {
+        super(axiomIndex.getAxiomList(), archetype);
+        this.axiomIndex = axiomIndex;
+    }
+
+    /**
+     * Returns iterator over axioms with term of given name matching given value
+     * @param termName Term name
+     * @param key Value to match
+     * @return Iterator of generic type Axiom or null if the term is not indexable
+     */
+    public Iterator<Axiom> iterator(String termName, Object key)
+    {
+        List<Axiom> axioms = axiomIndex.lookup(termName, key);
+        return axioms != null ? axioms.iterator() : null;
+    }
+}
@@ -0,0 +1,124 @@
+/** Copyright 2026 TAQ contributors
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License. */
+package au.com.cybersearch2.taq.axiom;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import au.com.cybersearch2.taq.debug.ExecutionContext;
+import au.com.cybersearch2.taq.interfaces.AxiomSource;
+import au.com.cybersearch2.taq.language.Term;
+import au.com.cybersearch2.taq.pattern.Archetype;
+import au.com.cybersearch2.taq.pattern.Axiom;
+
+/**
+ * PartitionedAxiomSource
+ * Restricts an axiom source to a contiguous range of axiom positions so the range can be
+ * processed independently of the rest of the source. The axioms are obtained once from the source
+ * and then shared by all partitions. A list-backed source is used as it is. Any other source is read 
+ * into a list, so each axiom is fetched only once however many partitions there are.
+ */
+public class PartitionedAxiomSource implements AxiomSource
+{
+    /** The source being partitioned */
+    private final AxiomSource axiomSource;
+    /** All axioms of the source, in source order */
+    private final List<Axiom> axiomList;
+    /** Position of first axiom in the partition */
+    private final int start;
+    /** Position after the last axiom in the partition */
+    private final int end;
+
+    /**
+     * Construct PartitionedAxiomSource object
+     * @param axiomSource The source being partitioned
+     * @param axiomList All axioms of the source, obtained by calling {@link #getAxioms(AxiomSource, ExecutionContext)}
+     * @param start Position of first axiom in the partition
+     * @param end Position after the last axiom in the partition
+     */
+    public PartitionedAxiomSource(AxiomSource axiomSource, List<Axiom> axiomList, int start, int end)
+    {
+        if ((start < 0) || (end < start))
+            throw new IllegalArgumentException("Invalid partition range " + start + " to " + end);
+        this.axiomSource = axiomSource;
+        this.axiomList = axiomList;
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Returns the source being partitioned
+     * @return AxiomSource object
+     */
+    public AxiomSource getAxiomSource()
+    {
+        return axiomSource;
+    }
+
+    /**
+     * Returns position of first axiom in the partition
+     * @return int
+     */
+    public int getStart()
+    {
+        return start;
+    }
+
+    /**
+     * Returns position after the last axiom in the partition
+     * @return int
+     */
+    public int getEnd()
+    {
+        return end;
+    }
+
+    @Override
+    public Iterator<Axiom> iterator(ExecutionContext context)
+    {
+        if (start >= axiomList.size())
+            return Collections.emptyIterator();
+        return axiomList.subList(start, Math.min(end, axiomList.size())).iterator();
+    }
+
+    @Override
+    public Archetype<Axiom, Term> getArchetype()
+    {
+        return axiomSource.getArchetype();
+    }
+
+    /**
+     * Returns all axioms available from given source, in source order. The list backing
+     * a list source is returned as it is, otherwise the source is read once into a new list.
+     * @param axiomSource Axiom source
+     * @param context Execution context
+     * @return List of axioms
+     */
+    public static List<Axiom> getAxioms(AxiomSource axiomSource, ExecutionContext context)
+    {
+        if (axiomSource instanceof AxiomListSource)
+        {
+            Iterable<Axiom> iterable = ((AxiomListSource)axiomSource).getIterable();
+            if (iterable instanceof List)
+                return (List<Axiom>)iterable;
+        }
+        List<Axiom> axiomList = new ArrayList<>();
+        Iterator<Axiom> iterator = axiomSource.iterator(context);
+        while (iterator.hasNext())
+            axiomList.add(iterator.next());
+        return axiomList;
+    }
+}
@@ -50,9 +50,25 @@ public class ResourceAxiomSource implements AxiomSource
         return resourceProvider.iterator(archetype);
     }
 
+    /**
+     * Returns axiom iterator which may skip axioms not satisfying given selection
+     * @param selection Criteria and term names used by the query
+     * @return Axiom iterator
+     */
+    public Iterator<Axiom> select(AxiomSelection selection)
+    {
+        return resourceProvider.iterator(archetype, selection);
+    }
+
     @Override
     public Archetype<Axiom, Term> getArchetype()
     {
         return archetype;
     }
+
+    @Override
+    public int getVersion()
+    {
+        return resourceProvider.getVersion(archetype);
+    }
 }
@@ -0,0 +1,62 @@
+/** Copyright 2026 TAQ contributors
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License. */
+package au.com.cybersearch2.taq.axiom;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import au.com.cybersearch2.taq.pattern.Axiom;
+
+/**
+ * VersionedAxiomList
+ * Axiom list which counts every modification, including replacing an element, so
+ * that structures derived from the list, such as an index, can tell when they are stale.
+ * Sub-lists are read-only views so they cannot modify this list unseen.
+ */
+public class VersionedAxiomList extends ArrayList<Axiom>
+{
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Construct empty VersionedAxiomList object
+     */
+    public VersionedAxiomList()
+    {
+        super();
+    }
+
+    /**
+     * Returns count of modifications made to this list
+     * @return int
+     */
+    public int getVersion()
+    {
+        return modCount;
+    }
+
+    @Override
+    public Axiom set(int index, Axiom axiom)
+    {
+        Axiom previous = super.set(index, axiom);
+        ++modCount;
+        return previous;
+    }
+
+    @Override
+    public List<Axiom> subList(int fromIndex, int toIndex)
+    {
+        return Collections.unmodifiableList(super.subList(fromIndex, toIndex));
+    }
+}
@@ -13,6 +13,7 @@
     limitations under the License. */
 package au.com.cybersearch2.taq.compile;
 
+import java.util.AbstractMap;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -20,9 +21,11 @@ import java.util.Map;
 
 import au.com.cybersearch2.taq.QueryProgram;
 import au.com.cybersearch2.taq.Scope;
-import au.com.cybersearch2.taq.axiom.AxiomListSource;
+import au.com.cybersearch2.taq.axiom.AxiomIndex;
+import au.com.cybersearch2.taq.axiom.IndexedAxiomSource;
 import au.com.cybersearch2.taq.axiom.SingleAxiomSource;
 import au.com.cybersearch2.taq.interfaces.AxiomSource;
+import au.com.cybersearch2.taq.language.InternedName;
 import au.com.cybersearch2.taq.language.QualifiedName;
 import au.com.cybersearch2.taq.language.Term;
 import au.com.cybersearch2.taq.pattern.Axiom;
@@ -43,9 +46,13 @@ public class AxiomAssembler
     }
     
     /** Container for axioms under construction */
-    private final Map<QualifiedName, Axiom> axiomMap;
+    private final Map<InternedName, Axiom> axiomMap;
     /** Archetypes for axioms */
-    private final Map<QualifiedName, AxiomArchetype> axiomArchetypeMap;
+    private final Map<InternedName, AxiomArchetype> axiomArchetypeMap;
+    /** Hash indexes for axiom lists, shared by all axiom sources created for the same list */
+    private final Map<InternedName, AxiomIndex> axiomIndexMap;
+    /** Hash tables built for hash joins, each paired with the version of the axiom source it was read from */
+    private final Map<InternedName, Map.Entry<Integer, AxiomIndex>> joinIndexMap;
     /** Scope */
     private Scope scope;
 
@@ -56,8 +63,10 @@ public class AxiomAssembler
     public AxiomAssembler(Scope scope)
     {
         this.scope = scope;
-        axiomMap = new HashMap<QualifiedName, Axiom>();
-        axiomArchetypeMap = new HashMap<QualifiedName, AxiomArchetype>();
+        axiomMap = new HashMap<InternedName, Axiom>();
+        axiomArchetypeMap = new HashMap<InternedName, AxiomArchetype>();
+        axiomIndexMap = new HashMap<InternedName, AxiomIndex>();
+        joinIndexMap = new HashMap<InternedName, Map.Entry<Integer, AxiomIndex>>();
     }
 
     /**
@@ -67,7 +76,7 @@ public class AxiomAssembler
      */
     public void addAxiom(QualifiedName qualifiedAxiomName, Term term)
     {
-        Axiom axiom = axiomMap.get(qualifiedAxiomName);
+        Axiom axiom = axiomMap.get(qualifiedAxiomName.intern());
         if (axiom == null)
             // No axiom currently under construction, so create one.
         	axiom = createAxiom(qualifiedAxiomName);
@@ -80,11 +89,11 @@ public class AxiomAssembler
      * @return Axiom object
      */
     public Axiom createAxiom(QualifiedName qualifiedAxiomName) {
-        AxiomArchetype axiomArchetype = axiomArchetypeMap.get(qualifiedAxiomName);
+        AxiomArchetype axiomArchetype = axiomArchetypeMap.get(qualifiedAxiomName.intern());
         if (axiomArchetype == null)
             axiomArchetype = createAxiomArchetype(qualifiedAxiomName);
         Axiom axiom = axiomArchetype.itemInstance();
-        axiomMap.put(qualifiedAxiomName, axiom);
+        axiomMap.put(qualifiedAxiomName.intern(), axiom);
         return axiom;
     }
     /**
@@ -94,7 +103,7 @@ public class AxiomAssembler
      */
     public void addAxiomTermName(QualifiedName qualifiedAxiomName, String termName)
     {
-        AxiomArchetype axiomArchetype = axiomArchetypeMap.get(qualifiedAxiomName);
+        AxiomArchetype axiomArchetype = axiomArchetypeMap.get(qualifiedAxiomName.intern());
         if (axiomArchetype == null)
             axiomArchetype = createAxiomArchetype(qualifiedAxiomName);
         axiomArchetype.addTermName(termName);
@@ -108,7 +117,7 @@ public class AxiomAssembler
     public AxiomArchetype createAxiomArchetype(QualifiedName qualifiedAxiomName)
     {
         AxiomArchetype axiomArchetype = new AxiomArchetype(qualifiedAxiomName);
-        axiomArchetypeMap.put(qualifiedAxiomName, axiomArchetype);
+        axiomArchetypeMap.put(qualifiedAxiomName.intern(), axiomArchetype);
         return axiomArchetype;
     }
     
@@ -120,7 +129,7 @@ public class AxiomAssembler
      */
     public String getAxiomTermName(QualifiedName qualifiedAxiomName, int position)
     {
-        AxiomArchetype axiomArchetype = axiomArchetypeMap.get(qualifiedAxiomName);
+        AxiomArchetype axiomArchetype = axiomArchetypeMap.get(qualifiedAxiomName.intern());
         if (axiomArchetype == null)
             return null;
         return axiomArchetype.getMetaDataByIndex(position).getName();
@@ -134,9 +143,9 @@ public class AxiomAssembler
     public String getAxiomTermName(QualifiedName qualifiedAxiomName)
     {
     	AxiomArchetype axiomArchetype;
-        Axiom axiom = axiomMap.get(qualifiedAxiomName);
+        Axiom axiom = axiomMap.get(qualifiedAxiomName.intern());
         if (axiom == null) {
-	        axiomArchetype = axiomArchetypeMap.get(qualifiedAxiomName);
+	        axiomArchetype = axiomArchetypeMap.get(qualifiedAxiomName.intern());
 	        if ((axiomArchetype == null) || (axiomArchetype.getTermNameList().size() == 0))
 	            return "";
 	        return axiomArchetype.getTermNameList().get(0);
@@ -155,9 +164,9 @@ public class AxiomAssembler
      */
     public List<String> getTermNameList(QualifiedName qualifiedAxiomName)
     {
-        AxiomArchetype axiomArchetype = scope.getGlobalAxiomAssembler().axiomArchetypeMap.get(qualifiedAxiomName);
+        AxiomArchetype axiomArchetype = scope.getGlobalAxiomAssembler().axiomArchetypeMap.get(qualifiedAxiomName.intern());
         if ((axiomArchetype == null) && !QueryProgram.GLOBAL_SCOPE.equals(scope.getName()))
-            axiomArchetype = axiomArchetypeMap.get(qualifiedAxiomName);
+            axiomArchetype = axiomArchetypeMap.get(qualifiedAxiomName.intern());
         return axiomArchetype == null ? EMPTY_NAME_LIST : axiomArchetype.getTermNameList();
     }
     
@@ -168,9 +177,9 @@ public class AxiomAssembler
      */
     public Axiom saveAxiom(QualifiedName qualifiedAxiomName)
     {
-        Axiom axiom = axiomMap.get(qualifiedAxiomName);
+        Axiom axiom = axiomMap.get(qualifiedAxiomName.intern());
         scope.getParserAssembler().getListAssembler().add(qualifiedAxiomName, axiom);
-        axiomMap.remove(qualifiedAxiomName);
+        axiomMap.remove(qualifiedAxiomName.intern());
         return axiom;
     }
 
@@ -181,12 +190,35 @@ public class AxiomAssembler
      */
     public AxiomArchetype getAxiomArchetype(QualifiedName qualifiedAxiomName)
     {
-        return axiomArchetypeMap.get(qualifiedAxiomName);
+        return axiomArchetypeMap.get(qualifiedAxiomName.intern());
     }
     
+    /**
+     * Returns hash table built for a hash join on the axiom source of given name, provided the source has not changed
+     * @param qualifiedAxiomName Qualified axiom name
+     * @param version Current version of the axiom source
+     * @return AxiomIndex object or null if not available
+     */
+    public synchronized AxiomIndex getJoinIndex(QualifiedName qualifiedAxiomName, int version)
+    {
+        Map.Entry<Integer, AxiomIndex> entry = joinIndexMap.get(qualifiedAxiomName.intern());
+        return (entry != null) && (entry.getKey() == version) ? entry.getValue() : null;
+    }
+
+    /**
+     * Save hash table built for a hash join on the axiom source of given name
+     * @param qualifiedAxiomName Qualified axiom name
+     * @param version Version of the axiom source when it was read
+     * @param joinIndex Hash table
+     */
+    public synchronized void putJoinIndex(QualifiedName qualifiedAxiomName, int version, AxiomIndex joinIndex)
+    {
+        joinIndexMap.put(qualifiedAxiomName.intern(), new AbstractMap.SimpleImmutableEntry<>(version, joinIndex));
+    }
+
     protected List<String> findTermNameList(QualifiedName qualifiedAxiomName)
     {
-        AxiomArchetype axiomArchetype = axiomArchetypeMap.get(qualifiedAxiomName);
+        AxiomArchetype axiomArchetype = axiomArchetypeMap.get(qualifiedAxiomName.intern());
         List<String> axiomTermNameList;
         if (axiomArchetype == null)
             axiomTermNameList = Collections.emptyList();
@@ -197,16 +229,21 @@ public class AxiomAssembler
     
     protected AxiomSource createAxiomSource(QualifiedName qualifiedAxiomName, List<Axiom> axiomList)
     {
-        AxiomArchetype axiomArchetype = axiomArchetypeMap.get(qualifiedAxiomName);
+        AxiomArchetype axiomArchetype = axiomArchetypeMap.get(qualifiedAxiomName.intern());
         if (axiomArchetype == null)
             axiomArchetype = createAxiomArchetype(qualifiedAxiomName);
-        AxiomListSource axiomListSource = new AxiomListSource(axiomList, axiomArchetype);
-        return axiomListSource;
+        AxiomIndex axiomIndex = axiomIndexMap.get(qualifiedAxiomName.intern());
+        if ((axiomIndex == null) || (axiomIndex.getAxiomList() != axiomList))
+        {
+            axiomIndex = new AxiomIndex(axiomList);
+            axiomIndexMap.put(qualifiedAxiomName.intern(), axiomIndex);
+        }
+        return new IndexedAxiomSource(axiomIndex, axiomArchetype);
     }
     
     protected AxiomSource createAxiomSource(QualifiedName qualifiedAxiomName, Axiom axiom)
     {
-        AxiomArchetype axiomArchetype = axiomArchetypeMap.get(qualifiedAxiomName);
+        AxiomArchetype axiomArchetype = axiomArchetypeMap.get(qualifiedAxiomName.intern());
         if (axiomArchetype == null)
             axiomArchetype = createAxiomArchetype(qualifiedAxiomName);
         return  new SingleAxiomSource(axiom);
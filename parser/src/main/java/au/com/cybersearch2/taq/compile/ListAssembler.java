@@ -27,6 +27,7 @@ import java.util.TreeMap;
 
 import au.com.cybersearch2.taq.QueryProgram;
 import au.com.cybersearch2.taq.Scope;
+import au.com.cybersearch2.taq.axiom.VersionedAxiomList;
 import au.com.cybersearch2.taq.expression.ExpressionException;
 import au.com.cybersearch2.taq.expression.ListOperand;
 import au.com.cybersearch2.taq.interfaces.AxiomContainer;
@@ -36,6 +37,7 @@ import au.com.cybersearch2.taq.interfaces.ItemList;
 import au.com.cybersearch2.taq.interfaces.ListType;
 import au.com.cybersearch2.taq.interfaces.LocaleAxiomListener;
 import au.com.cybersearch2.taq.interfaces.TermListIterable;
+import au.com.cybersearch2.taq.language.InternedName;
 import au.com.cybersearch2.taq.language.OperandType;
 import au.com.cybersearch2.taq.language.QualifiedName;
 import au.com.cybersearch2.taq.list.AxiomList;
@@ -61,7 +63,7 @@ public class ListAssembler
     /** AxiomTermLists in template scope */
     private final Map<QualifiedName, AxiomTermList> axiomTermListMap;
     /** The axiom listeners, all belonging to list variables */
-    private final Map<QualifiedName, List<LocaleAxiomListener>> axiomListenerMap;
+    private final Map<InternedName, List<LocaleAxiomListener>> axiomListenerMap;
     /** The axiom list listeners */
     private final Map<QualifiedName, QualifiedName> axiomListAliases;
     /** Item lists */
@@ -219,7 +221,7 @@ public class ListAssembler
      */
     public List<Axiom> axiomItemsInstance(QualifiedName qualifiedName)
     {
-    	List<Axiom> axiomList = new ArrayList<>();
+    	List<Axiom> axiomList = new VersionedAxiomList();
         axiomListMap.put(qualifiedName, axiomList);
         return axiomList;
     }
@@ -262,10 +264,10 @@ public class ListAssembler
     }
     
     /**
-     * Returns container with all axiom listeners belonging to this scope mapped by name
+     * Returns container with all axiom listeners belonging to this scope mapped by interned name
      * @return map object
      */
-    public Map<QualifiedName, List<LocaleAxiomListener>> getAxiomListenerMap()
+    public Map<InternedName, List<LocaleAxiomListener>> getAxiomListenerMap()
     {
         return axiomListenerMap;
     }
@@ -637,11 +639,12 @@ public class ListAssembler
      */
     public List<LocaleAxiomListener> getAxiomListenerList(QualifiedName qualifiedName)
     {
-        List<LocaleAxiomListener> axiomListenerList = axiomListenerMap.get(qualifiedName);
+        InternedName internedName = qualifiedName.intern();
+        List<LocaleAxiomListener> axiomListenerList = axiomListenerMap.get(internedName);
         if (axiomListenerList == null)
         {
             axiomListenerList = new ArrayList<>();
-            axiomListenerMap.put(qualifiedName, axiomListenerList);
+            axiomListenerMap.put(internedName, axiomListenerList);
         }
         return axiomListenerList;
     }
@@ -60,6 +60,8 @@ import au.com.cybersearch2.taq.language.Term;
 import au.com.cybersearch2.taq.list.AxiomList;
 import au.com.cybersearch2.taq.list.AxiomTermList;
 import au.com.cybersearch2.taq.list.ListItemVariable;
+import au.com.cybersearch2.taq.list.ListKernel;
+import au.com.cybersearch2.taq.list.ListKernel.Kernel;
 import au.com.cybersearch2.taq.list.ListLength;
 import au.com.cybersearch2.taq.pattern.Axiom;
 import au.com.cybersearch2.taq.pattern.Choice;
@@ -256,45 +258,84 @@ public class ParserFunctionFactory implements FunctionFactoryArtifact {
 		}
 		if (callOperand == null)
 			callOperand = createObjectOperand(qname, parserFunction, parserAssembler);
-		if ((callOperand == null) && (parserFunction.getFunctionName().equals("size"))) {
-			ListAssembler listAssembler = parserAssembler.getListAssembler();
-	     	OperandMap operandMap = parserAssembler.getOperandMap();
-	     	String listName = parserFunction.getLibrary();
-	     	QualifiedName qualifiedListName = name(listName, true, false);
-            if (operandMap.existsName(listName)) {
-       	        Operand operand = operandMap.getOperand(qname);
-       	        if (operand instanceof ListOperand)
-    	     		callOperand = new ListLength(QualifiedName.ANONYMOUS, (ListOperand<?>)operand);
-       	    }
-            if (callOperand == null) {
-            	ListLength listLength = null;
-		     	if (parserContext.getVariableSpec(listName) != null) {
-		     		qualifiedListName = new QualifiedName(Scope.SCOPE, QualifiedName.EMPTY, listName);
-		     		listLength = new ListLength(QualifiedName.ANONYMOUS, qualifiedListName);
-		     	} else {
-			     	ListType listType = listAssembler.getListType(qualifiedListName);
-					if ((listType != ListType.none) && (listType != ListType.cursor)) {
-				         boolean isList = 
-				             (listType == ListType.basic) || 
-				             (listType == ListType.term) || 
-				             (listType == ListType.axiom_item) || 
-				             (listType == ListType.axiom_dynamic);
-				         if (isList)
-				        	 listLength = new ListLength(QualifiedName.ANONYMOUS, qualifiedListName);
-				    }
-	            }
-		     	if (listLength != null) {
-		     		callOperand = listLength;
-			        ParserTask parserTask = parserAssembler.addPending(listLength);
-			        parserTask.setPriority(ParserTask.Priority.variable.ordinal());
-		     	}
-	        }
+		if (callOperand == null) {
+			String functionName = parserFunction.getFunctionName();
+			Kernel kernel = ListKernel.getKernel(functionName);
+			int termCount = parametersTemplate == null ? 0 : parametersTemplate.getTermCount();
+			if (functionName.equals("size"))
+				callOperand = createListOperand(qname, parserFunction.getLibrary(), null);
+			else if ((kernel != null) && (termCount == kernel.getArity())) {
+				ListKernel listKernel = (ListKernel)createListOperand(qname, parserFunction.getLibrary(), kernel);
+				if ((listKernel != null) && (termCount > 0)) {
+					String argumentName = parametersTemplate.getTermByIndex(0).getName();
+					ListLength argument = createListOperand(name(argumentName, true, false), argumentName, null);
+					if (argument == null)
+						throw new CompilerException(String.format("List function %s.%s() argument \"%s\" is not a list",
+								parserFunction.getLibrary(), functionName, argumentName));
+					listKernel.setArgument(argument);
+				}
+				callOperand = listKernel;
+			}
 		}
 		if (callOperand == null)
 			callOperand = flowQuery(parserFunction);
 		return callOperand;
 	}
 	
+	/**
+	 * Returns operand which evaluates a function of a list, being it's size if no kernel function is specified
+	 * @param qname Qualified name of function
+	 * @param listName List name
+	 * @param kernel Kernel function or null for list size
+	 * @return ListLength object or null if list name does not refer to a list
+	 */
+	private ListLength createListOperand(QualifiedName qname, String listName, Kernel kernel) {
+		ParserAssembler parserAssembler = getParserAssembler();
+		ListAssembler listAssembler = parserAssembler.getListAssembler();
+     	OperandMap operandMap = parserAssembler.getOperandMap();
+     	QualifiedName qualifiedListName = name(listName, true, false);
+        if (operandMap.existsName(listName)) {
+   	        Operand operand = operandMap.getOperand(qname);
+   	        if (operand instanceof ListOperand)
+	     		return kernel == null ?
+	     			new ListLength(QualifiedName.ANONYMOUS, (ListOperand<?>)operand) :
+	     			new ListKernel(QualifiedName.ANONYMOUS, (ListOperand<?>)operand, kernel);
+   	    }
+    	ListLength listLength = null;
+     	if (parserContext.getVariableSpec(listName) != null) {
+     		qualifiedListName = new QualifiedName(Scope.SCOPE, QualifiedName.EMPTY, listName);
+     		listLength = newListOperand(qualifiedListName, kernel);
+     	} else {
+	     	ListType listType = listAssembler.getListType(qualifiedListName);
+			if ((listType != ListType.none) && (listType != ListType.cursor)) {
+		         boolean isList = 
+		             (listType == ListType.basic) || 
+		             (listType == ListType.term) || 
+		             (listType == ListType.axiom_item) || 
+		             (listType == ListType.axiom_dynamic);
+		         if (isList)
+		        	 listLength = newListOperand(qualifiedListName, kernel);
+		    }
+        }
+     	if (listLength != null) {
+	        ParserTask parserTask = parserAssembler.addPending(listLength);
+	        parserTask.setPriority(ParserTask.Priority.variable.ordinal());
+     	}
+     	return listLength;
+	}
+
+	/**
+	 * Returns list operand to be bound to named list on second pass
+	 * @param listName Qualified list name
+	 * @param kernel Kernel function or null for list size
+	 * @return ListLength object
+	 */
+	private ListLength newListOperand(QualifiedName listName, Kernel kernel) {
+		return kernel == null ?
+			new ListLength(QualifiedName.ANONYMOUS, listName) :
+			new ListKernel(QualifiedName.ANONYMOUS, listName, kernel);
+	}
+
 	/**
 	 * Set optional list reference to extract an item from a returned list
 	 * @param callOperand Function operand
@@ -15,6 +15,7 @@ package au.com.cybersearch2.taq.complex;
 
 import au.com.cybersearch2.taq.expression.ComplexOperand;
 import au.com.cybersearch2.taq.expression.ExpressionException;
+import au.com.cybersearch2.taq.helper.DoubleKernels;
 import au.com.cybersearch2.taq.language.QualifiedName;
 import au.com.cybersearch2.taq.operator.ComplexOperator;
 
@@ -144,6 +145,35 @@ public class Complex {
         return ((ComplexOperator)operand.getOperator()).divides(sin(), cos());
     }
 
+	/**
+	 * Returns products of complex numbers multiplied element by element. 
+	 * Both arrays hold complex numbers as interleaved real and imaginary parts.
+	 * @param a First array
+	 * @param b Second array of same length
+	 * @return double[]
+	 */
+	public static double[] multiply(double[] a, double[] b) {
+		if ((a.length % 2 != 0) || (b.length != a.length))
+			throw new ExpressionException("Invalid array length = " + b.length);
+		double[] product = new double[a.length];
+		DoubleKernels.complexMultiply(a, b, product, a.length / 2);
+		return product;
+	}
+
+	/**
+	 * Returns magnitude of each complex number in given array of interleaved real and imaginary parts.
+	 * Unlike abs(), magnitudes above about 1.0E154 are infinite.
+	 * @param a Array
+	 * @return double[]
+	 */
+	public static double[] abs(double[] a) {
+		if (a.length % 2 != 0)
+			throw new ExpressionException("Invalid array length = " + a.length);
+		double[] magnitude = new double[a.length / 2];
+		DoubleKernels.complexAbs(a, magnitude, magnitude.length);
+		return magnitude;
+	}
+
     public double[] toArray() {
 		if (operand.isEmpty())
 			return new double[] {0.0,0.0};
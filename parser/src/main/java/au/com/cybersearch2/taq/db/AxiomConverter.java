@@ -92,6 +92,14 @@ public class AxiomConverter {
 		fromAxiomDataMap = new HashMap<>();
 	}
 
+	/**
+	 * Returns object which translates between the term names of an Axiom Archetype and Java field names
+	 * @return AxiomReflection object
+	 */
+	public AxiomReflection getAxiomReflection() {
+		return axiomReflection;
+	}
+
 	/**
 	 * Returns axiom archetype
 	 * @return Archetype object
@@ -0,0 +1,299 @@
+/** Copyright 2026 TAQ contributors
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License. */
+package au.com.cybersearch2.taq.db;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import au.com.cybersearch2.taq.interfaces.LocaleAxiomListener;
+import au.com.cybersearch2.taq.language.Parameter;
+import au.com.cybersearch2.taq.language.QualifiedName;
+import au.com.cybersearch2.taq.language.Term;
+import au.com.cybersearch2.taq.pattern.Axiom;
+import au.com.cybersearch2.taq.pattern.AxiomArchetype;
+import au.com.cybersearch2.taq.query.QueryExecutionException;
+
+/**
+ * AxiomPipeline
+ * Bounded queue between query threads and a dedicated writer thread which passes
+ * axioms to database emitters. Query evaluation and database writes therefore overlap.
+ * All emitters of a database provider share the one writer, so axioms are written in the
+ * order received. The writer thread shares the provider connection with collectors reading
+ * on query threads, so emitters given to this pipeline must synchronize their use of it.
+ * The first writer error is raised on the next axiom received and on {@link #close()}.
+ * Set system property "taq.db.queuedepth" to change the default queue depth. A depth
+ * of 0 writes each axiom on the query thread.
+ */
+public class AxiomPipeline
+{
+    /** Action taken when an axiom is received and the queue is full */
+    public static enum Backpressure
+    {
+        /** Wait for space in the queue */
+        BLOCK,
+        /** Raise an error */
+        FAIL
+    }
+
+    /** Axiom waiting to be written */
+    private static class PendingAxiom
+    {
+        final LocaleAxiomListener emitter;
+        final QualifiedName qname;
+        final Axiom axiom;
+        final Locale locale;
+
+        PendingAxiom(LocaleAxiomListener emitter, QualifiedName qname, Axiom axiom, Locale locale)
+        {
+            this.emitter = emitter;
+            this.qname = qname;
+            this.axiom = axiom;
+            this.locale = locale;
+        }
+    }
+
+    /** System property to set default queue depth */
+    public static final String QUEUE_DEPTH_PROPERTY = "taq.db.queuedepth";
+    /** Default number of axioms which may wait to be written */
+    public static final int DEFAULT_QUEUE_DEPTH = Integer.getInteger(QUEUE_DEPTH_PROPERTY, 1024);
+    /** Maximum number of axioms written in one drain of the queue */
+    private static final int DRAIN_LIMIT = 256;
+    /** Marks end of axioms */
+    private static final PendingAxiom END = new PendingAxiom(null, null, null, null);
+
+    /** Name of writer thread */
+    private final String name;
+    /** Maximum number of axioms waiting to be written */
+    private int queueDepth;
+    /** Action when queue is full */
+    private Backpressure backpressure;
+    /** Queue of pending axioms or null if writer not running */
+    private BlockingQueue<PendingAxiom> queue;
+    /** Writer thread or null if not running */
+    private Thread writer;
+    /** First error thrown by an emitter */
+    private volatile RuntimeException writerException;
+
+    /**
+     * Construct AxiomPipeline object
+     * @param name Name to identify writer thread
+     */
+    public AxiomPipeline(String name)
+    {
+        this.name = name;
+        queueDepth = DEFAULT_QUEUE_DEPTH;
+        backpressure = Backpressure.BLOCK;
+    }
+
+    /**
+     * Set maximum number of axioms waiting to be written. Takes effect when writer next starts.
+     * @param queueDepth Queue depth. A value of 0 writes each axiom on the query thread.
+     */
+    public void setQueueDepth(int queueDepth)
+    {
+        this.queueDepth = Math.max(queueDepth, 0);
+    }
+
+    /**
+     * Set action when an axiom is received and the queue is full
+     * @param backpressure Backpressure policy
+     */
+    public void setBackpressure(Backpressure backpressure)
+    {
+        this.backpressure = backpressure;
+    }
+
+    /**
+     * Returns listener which passes axioms to given emitter via this pipeline
+     * @param emitter Axiom listener which writes to the database
+     * @return LocaleAxiomListener object
+     */
+    public LocaleAxiomListener listenerInstance(LocaleAxiomListener emitter)
+    {
+        return new LocaleAxiomListener() {
+
+            @Override
+            public boolean onNextAxiom(QualifiedName qname, Axiom axiom, Locale locale)
+            {
+                submit(emitter, qname, axiom, locale);
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Wait for all pending axioms to be written and stop the writer
+     * @throws QueryExecutionException if an emitter failed
+     */
+    public void close()
+    {
+        Thread thread;
+        synchronized(this)
+        {
+            thread = writer;
+            if (thread != null)
+                enqueue(END);
+            writer = null;
+            queue = null;
+        }
+        if (thread != null)
+        {
+            boolean interrupted = false;
+            while (thread.isAlive())
+                try
+                {
+                    thread.join();
+                }
+                catch (InterruptedException e)
+                {
+                    interrupted = true;
+                }
+            if (interrupted)
+                Thread.currentThread().interrupt();
+        }
+        RuntimeException exception = writerException;
+        writerException = null;
+        if (exception != null)
+            throw exception;
+    }
+
+    /**
+     * Queue axiom to be written by given emitter
+     * @param emitter Axiom listener which writes to the database
+     * @param qname Qualified name of axiom
+     * @param axiom Axiom object
+     * @param locale Locale for text to number conversions
+     */
+    private void submit(LocaleAxiomListener emitter, QualifiedName qname, Axiom axiom, Locale locale)
+    {
+        RuntimeException exception = writerException;
+        if (exception != null)
+        {   // Report once only
+            writerException = null;
+            throw exception;
+        }
+        if (queueDepth == 0)
+        {
+            synchronized(this)
+            {
+                emitter.onNextAxiom(qname, axiom, locale);
+            }
+            return;
+        }
+        // The axiom may be modified by the query once this method returns
+        PendingAxiom pendingAxiom = new PendingAxiom(emitter, qname, snapshot(axiom), locale);
+        synchronized(this)
+        {
+            if (writer == null)
+                start();
+            if (backpressure == Backpressure.FAIL)
+            {
+                if (!queue.offer(pendingAxiom))
+                    throw new QueryExecutionException(String.format("Queue full when writing axiom '%s'", axiom.toString()));
+            }
+            else
+                enqueue(pendingAxiom);
+        }
+    }
+
+    /**
+     * Start writer thread
+     */
+    private void start()
+    {
+        BlockingQueue<PendingAxiom> writerQueue = new ArrayBlockingQueue<>(queueDepth);
+        queue = writerQueue;
+        writer = new Thread(() -> write(writerQueue), name + " writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Put given item in queue, waiting for space if necessary
+     * @param pendingAxiom Item to queue
+     */
+    private void enqueue(PendingAxiom pendingAxiom)
+    {
+        try
+        {
+            queue.put(pendingAxiom);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new QueryExecutionException("Interrupted while writing to database");
+        }
+    }
+
+    /**
+     * Writer thread loop. Once an emitter fails, remaining axioms are discarded so the query is not blocked.
+     * @param writerQueue Queue of pending axioms
+     */
+    private void write(BlockingQueue<PendingAxiom> writerQueue)
+    {
+        List<PendingAxiom> pendingList = new ArrayList<>(DRAIN_LIMIT);
+        while (true)
+        {
+            try
+            {
+                pendingList.add(writerQueue.take());
+            }
+            catch (InterruptedException e)
+            {
+                return;
+            }
+            writerQueue.drainTo(pendingList, DRAIN_LIMIT - 1);
+            for (PendingAxiom pendingAxiom: pendingList)
+            {
+                if (pendingAxiom == END)
+                    return;
+                if (writerException == null)
+                    try
+                    {
+                        pendingAxiom.emitter.onNextAxiom(pendingAxiom.qname, pendingAxiom.axiom, pendingAxiom.locale);
+                    }
+                    catch (RuntimeException e)
+                    {
+                        writerException = e;
+                    }
+            }
+            pendingList.clear();
+        }
+    }
+
+    /**
+     * Returns copy of given axiom with term values captured. An axiom with a mutable archetype
+     * is copied to an axiom with a detached archetype, as adding terms would alter the original.
+     * @param axiom Axiom to copy
+     * @return Axiom object
+     */
+    private static Axiom snapshot(Axiom axiom)
+    {
+        AxiomArchetype archetype = (AxiomArchetype)axiom.getArchetype();
+        List<Term> terms = new ArrayList<>(axiom.getTermCount());
+        for (int i = 0; i < axiom.getTermCount(); ++i)
+        {
+            Term term = axiom.getTermByIndex(i);
+            terms.add(term.isEmpty() ? term : new Parameter(term.getName(), term.getValue()));
+        }
+        if (archetype.isMutable())
+            return new Axiom(new AxiomArchetype(archetype.getQualifiedName()), terms);
+        Axiom copy = new Axiom(archetype);
+        terms.forEach(term -> copy.addTerm(term));
+        return copy;
+    }
+}
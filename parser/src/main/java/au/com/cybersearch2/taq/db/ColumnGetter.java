@@ -106,10 +106,17 @@ public class ColumnGetter<T> extends MethodAnalyser<T>{
 		}
 	}
 	
-	private Object getValue(String termName, String columnName, ResultSet rs) throws SQLException {
+	/**
+	 * Returns value of result set column converted to given field type
+	 * @param rs Result set positioned on a row
+	 * @param column Column index
+	 * @param clazz Field type
+	 * @param columnName Name of field mapped to column
+	 * @return Object of field type or Null object if the column is null
+	 * @throws SQLException
+	 */
+	public static Object getColumnValue(ResultSet rs, int column, Class<?> clazz, String columnName) throws SQLException {
 		Object value = null;
-		int column = rs.findColumn(termName);
-		Class<?> clazz = getType(columnName);
 		switch (clazz.getName()) {
 		case "java.lang.String":
 			value = rs.getString(column); break;
@@ -146,13 +153,17 @@ public class ColumnGetter<T> extends MethodAnalyser<T>{
 					throw new QueryExecutionException(String.format(DESERIALIZATION_ERROR, "for column" + columnName), e);
 				}
 			}
-           	throw new UnsupportedOperationException(String.format("Type '%s' not supported", getType(columnName)));
+           	throw new UnsupportedOperationException(String.format("Type '%s' not supported", clazz));
         }
         if (value == null)
         	value = new Null();
 		return value;
 	}
 
+	private Object getValue(String termName, String columnName, ResultSet rs) throws SQLException {
+		return getColumnValue(rs, rs.findColumn(termName), getType(columnName), columnName);
+	}
+
 	private static Object deserialize(String columnName, InputStream binaryStream) throws IOException {
         // Reading the object from a byte array
         ObjectInputStream in = new ObjectInputStream(binaryStream);
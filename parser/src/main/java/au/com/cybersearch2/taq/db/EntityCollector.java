@@ -84,6 +84,14 @@ public abstract class EntityCollector<E> extends QueryBase<E> implements DataCol
 		this.batchCollector = batchCollector;
 	}
 
+	/**
+	 * Returns flag set true if a batch collector is set
+	 * @return boolean
+	 */
+	public boolean hasBatchCollector() {
+		return batchCollector != null;
+	}
+
 	@Override
 	public List<?> getData() {
 		List<E> data = null;
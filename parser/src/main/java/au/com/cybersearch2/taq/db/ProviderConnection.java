@@ -19,7 +19,9 @@ import java.util.Map;
 import java.util.Properties;
 
 /**
- * Holds connection information to allow re-establishment following a disconnection
+ * Holds connection information to allow re-establishment following a disconnection.
+ * The connection is shared by collectors reading on query threads and emitters writing
+ * on an axiom writer thread, so each synchronizes on this object while using it.
   */
 public class ProviderConnection {
 
@@ -13,6 +13,7 @@
     limitations under the License. */
 package au.com.cybersearch2.taq.db;
 
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
 
@@ -67,6 +68,14 @@ public abstract class QueryBase<E> {
 		this.conn = conn;
 	}
 
+	/**
+	 * Returns holder of current connection, which threads sharing the connection lock to use it
+	 * @return ProviderConnection object or null if not set
+	 */
+	public ProviderConnection getProviderConnection() {
+		return conn;
+	}
+
 	/**
 	 * Returns new Statement object bound to current connection
 	 * @return Statement object
@@ -77,6 +86,18 @@ public abstract class QueryBase<E> {
 			throw new IllegalStateException("Connection not set");
 		return conn.getConnection().createStatement();
 	}
+
+	/**
+	 * Returns new PreparedStatement object bound to current connection
+	 * @param sql SQL statement with optional '?' parameter placeholders
+	 * @return PreparedStatement object
+	 * @throws SQLException
+	 */
+	public PreparedStatement prepareStatement(String sql) throws SQLException {
+		if (conn == null)
+			throw new IllegalStateException("Connection not set");
+		return conn.getConnection().prepareStatement(sql);
+	}
 	
 	/**
 	 * Returns limit set on number of results a query will produce
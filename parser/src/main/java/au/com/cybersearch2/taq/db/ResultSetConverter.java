@@ -0,0 +1,212 @@
+/** Copyright 2026 TAQ contributors
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License. */
+package au.com.cybersearch2.taq.db;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import au.com.cybersearch2.taq.axiom.AxiomReflection;
+import au.com.cybersearch2.taq.axiom.NameMap;
+import au.com.cybersearch2.taq.db.MethodAnalyser.MethodData;
+import au.com.cybersearch2.taq.language.Parameter;
+import au.com.cybersearch2.taq.language.Term;
+import au.com.cybersearch2.taq.pattern.Axiom;
+import au.com.cybersearch2.taq.pattern.AxiomArchetype;
+
+/**
+ * Translates database rows directly to axioms of a particular archetype. 
+ * The column, field type and term position of each axiom term are resolved 
+ * once from the entity field map, so no entity object is created and no 
+ * reflection method is called while rows are read. If the archetype does not
+ * declare terms, the axiom can be narrowed to only those terms a query uses.
+ */
+public class ResultSetConverter {
+
+	/** Axiom archetype. If initially empty, terms are defined by the first axiom. */
+	private final AxiomArchetype archetype;
+	/** Flag set true if archetype does not define any terms */
+	private final boolean isArchetypeEmpty;
+	/** Term names in axiom term order */
+	private final String[] termNames;
+	/** Column names in axiom term order */
+	private final String[] columnNames;
+	/** Field names in axiom term order */
+	private final String[] fieldNames;
+	/** Field types in axiom term order */
+	private final Class<?>[] fieldTypes;
+	/** Maps term name to column name for every mapped term */
+	private final Map<String, String> termColumnMap;
+	/** Maps term name to field type for every mapped term */
+	private final Map<String, Class<?>> termTypeMap;
+	/** Flag set true if every archetype term is mapped to a column */
+	private final boolean isMapped;
+	/** Result set column indexes in axiom term order, resolved on first row */
+	private int[] columnIndexes;
+
+	/**
+	 * Construct ResultSetConverter object
+	 * @param axiomReflection Translates between the term names of an Axiom Archetype and Java field names
+	 * @param columns Translates a database row to an entity-object
+	 */
+	public ResultSetConverter(AxiomReflection axiomReflection, ColumnGetter<?> columns) {
+		this(axiomReflection, columns, Collections.emptySet());
+	}
+
+	/**
+	 * Construct ResultSetConverter object which translates only given terms, 
+	 * provided the archetype does not declare terms
+	 * @param axiomReflection Translates between the term names of an Axiom Archetype and Java field names
+	 * @param columns Translates a database row to an entity-object
+	 * @param projection Names of terms to translate. If empty, all terms are translated.
+	 */
+	public ResultSetConverter(AxiomReflection axiomReflection, ColumnGetter<?> columns, Set<String> projection) {
+		archetype = axiomReflection.getArchetype();
+		isArchetypeEmpty = axiomReflection.isArchetypeEmpty();
+		List<NameMap> termNameList = axiomReflection.getTermNameList();
+		int termCount = 0;
+		for (NameMap nameMap: termNameList) 
+			termCount = Math.max(termCount, nameMap.getPosition() + 1);
+		String[] termNames = new String[termCount];
+		String[] columnNames = new String[termCount];
+		String[] fieldNames = new String[termCount];
+		Class<?>[] fieldTypes = new Class<?>[termCount];
+		for (Map.Entry<String, MethodData> entry: columns.getFieldMap().entrySet()) {
+			String fieldName = entry.getKey();
+			for (NameMap nameMap: termNameList) 
+				if (nameMap.getFieldName().equalsIgnoreCase(fieldName)) {
+					int position = nameMap.getPosition();
+					termNames[position] = nameMap.getTermName();
+					columnNames[position] = entry.getValue().term;
+					fieldNames[position] = fieldName;
+					fieldTypes[position] = columns.getType(fieldName);
+					break;
+				}
+		}
+		// Compact term list when term positions are set by the entity
+		int count = 0;
+		boolean isComplete = termCount > 0;
+		for (int index = 0; index < termCount; ++index) 
+			if (columnNames[index] != null) {
+				termNames[count] = termNames[index];
+				columnNames[count] = columnNames[index];
+				fieldNames[count] = fieldNames[index];
+				fieldTypes[count++] = fieldTypes[index];
+			} else
+				isComplete = false;
+		termColumnMap = new HashMap<>();
+		termTypeMap = new HashMap<>();
+		for (int index = 0; index < count; ++index) {
+			termColumnMap.put(termNames[index], columnNames[index]);
+			termTypeMap.put(termNames[index], fieldTypes[index]);
+		}
+		if (isArchetypeEmpty && !projection.isEmpty()) {
+			int projected = 0;
+			for (int index = 0; index < count; ++index) 
+				if (projection.contains(termNames[index])) {
+					termNames[projected] = termNames[index];
+					columnNames[projected] = columnNames[index];
+					fieldNames[projected] = fieldNames[index];
+					fieldTypes[projected++] = fieldTypes[index];
+				}
+			// Keep all terms if none are used
+			if (projected > 0)
+				count = projected;
+		}
+		// Only relevant bean properties are set when the archetype is empty. A declared
+		// archetype term without a column is left to the entity translation.
+		isMapped = isArchetypeEmpty ? count > 0 : isComplete;
+		this.termNames = Arrays.copyOf(termNames, count);
+		this.columnNames = Arrays.copyOf(columnNames, count);
+		this.fieldNames = Arrays.copyOf(fieldNames, count);
+		this.fieldTypes = Arrays.copyOf(fieldTypes, count);
+	}
+
+	/**
+	 * Returns flag set true if all axiom terms can be translated directly from columns
+	 * @return boolean
+	 */
+	public boolean isMapped() {
+		return isMapped;
+	}
+
+	/**
+	 * Returns names of columns read to translate a row, in axiom term order
+	 * @return list of column names
+	 */
+	public List<String> getColumnNames() {
+		return Collections.unmodifiableList(Arrays.asList(columnNames));
+	}
+
+	/**
+	 * Returns name of column mapped to given term
+	 * @param termName Term name
+	 * @return column name or null if the term is not mapped
+	 */
+	public String getColumnName(String termName) {
+		return termColumnMap.get(termName);
+	}
+
+	/**
+	 * Returns type of field mapped to given term
+	 * @param termName Term name
+	 * @return Class object or null if the term is not mapped
+	 */
+	public Class<?> getFieldType(String termName) {
+		return termTypeMap.get(termName);
+	}
+
+	/**
+	 * Returns axiom archetype
+	 * @return AxiomArchetype object
+	 */
+	public AxiomArchetype getArchetype() {
+		return archetype;
+	}
+
+	/**
+	 * Returns axiom translated from the current row of given result set
+	 * @param rs Result set positioned on a row
+	 * @return Axiom object
+	 * @throws SQLException
+	 */
+	public Axiom getAxiom(ResultSet rs) throws SQLException {
+		if (!isMapped)
+			throw new IllegalStateException(String.format("Axiom %s terms are not mapped to columns", archetype.getName()));
+		if (columnIndexes == null) {
+			columnIndexes = new int[columnNames.length];
+			for (int index = 0; index < columnNames.length; ++index)
+				columnIndexes[index] = rs.findColumn(columnNames[index]);
+		}
+		List<Term> termList = new ArrayList<>(termNames.length);
+		for (int index = 0; index < termNames.length; ++index) {
+			Object value = ColumnGetter.getColumnValue(rs, columnIndexes[index], fieldTypes[index], fieldNames[index]);
+			termList.add(new Parameter(termNames[index], value));
+		}
+		if (isArchetypeEmpty) {
+			Axiom axiom = archetype.newInstance();
+			for (Term term: termList)
+				axiom.addTerm(term);
+			return axiom;
+		}
+		archetype.clearMutable();
+		return new Axiom(archetype, termList);
+	}
+}
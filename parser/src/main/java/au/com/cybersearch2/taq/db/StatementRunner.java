@@ -30,4 +30,22 @@ public interface StatementRunner<E> {
 	 */
 	int insertEntity(E entity) throws InterruptedException, ExecutionException;
 
+	/**
+	 * Adds a database row mapped to given entity object, which may be deferred until
+	 * the next {@link #flush()}. The generated key is not returned.
+	 * @param entity Entity object
+	 * @throws InterruptedException
+	 * @throws ExecutionException
+	 */
+	default void addEntity(E entity) throws InterruptedException, ExecutionException {
+		insertEntity(entity);
+	}
+
+	/**
+	 * Inserts all deferred rows
+	 * @throws ExecutionException
+	 */
+	default void flush() throws ExecutionException {
+	}
+
 }
@@ -17,6 +17,7 @@ import java.math.BigDecimal;
 
 import au.com.cybersearch2.taq.Scope;
 import au.com.cybersearch2.taq.helper.EvaluationStatus;
+import au.com.cybersearch2.taq.helper.TriState;
 import au.com.cybersearch2.taq.interfaces.LocaleListener;
 import au.com.cybersearch2.taq.interfaces.Operand;
 import au.com.cybersearch2.taq.interfaces.Operator;
@@ -154,6 +155,18 @@ public class BigDecimalOperand extends ExpressionOperand<BigDecimal> implements
 		super.assign(converted);
 	}
 
+    /**
+     * Returns truth value, which is false for zero and true for any other decimal value
+     * @see au.com.cybersearch2.taq.interfaces.Operand#getTruthValue()
+     */
+    @Override
+    public TriState getTruthValue()
+    {
+    	if (value instanceof BigDecimal)
+    		return TriState.of(((BigDecimal)value).signum() != 0);
+    	return super.getTruthValue();
+    }
+
     /**
      * Returns null     
      * @see au.com.cybersearch2.taq.interfaces.Operand#getRightOperand()
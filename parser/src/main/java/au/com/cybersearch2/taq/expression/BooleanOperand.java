@@ -14,6 +14,7 @@
 package au.com.cybersearch2.taq.expression;
 
 import au.com.cybersearch2.taq.helper.EvaluationStatus;
+import au.com.cybersearch2.taq.helper.TriState;
 import au.com.cybersearch2.taq.interfaces.Operand;
 import au.com.cybersearch2.taq.interfaces.Operator;
 import au.com.cybersearch2.taq.language.Parameter;
@@ -88,6 +89,30 @@ public class BooleanOperand extends ExpressionOperand<Boolean>
         return status;
     }
 
+    /**
+     * Returns value as primitive boolean. Boolean objects are shared constants, so
+     * no primitive copy is kept.
+     * @return boolean
+     */
+    public boolean getBoolean()
+    {
+    	if (value instanceof Boolean)
+    		return ((Boolean)value).booleanValue();
+    	return operator.convertObject(value, getValueClass());
+    }
+
+    /**
+     * Returns truth value directly from the Boolean value
+     * @see au.com.cybersearch2.taq.interfaces.Operand#getTruthValue()
+     */
+    @Override
+    public TriState getTruthValue()
+    {
+    	if (value instanceof Boolean)
+    		return TriState.of(((Boolean)value).booleanValue());
+    	return super.getTruthValue();
+    }
+
     /**
      * Assign a value to this Operand derived from a parameter 
      * @param parameter Parameter containing non-null value
@@ -0,0 +1,213 @@
+/** Copyright 2026 TAQ contributors
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License. */
+package au.com.cybersearch2.taq.expression;
+
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import com.j256.simplelogging.Logger;
+
+import au.com.cybersearch2.taq.interfaces.Operand;
+import au.com.cybersearch2.taq.language.OperatorEnum;
+import au.com.cybersearch2.taq.language.QualifiedName;
+import au.com.cybersearch2.taq.log.LogManager;
+import au.com.cybersearch2.taq.pattern.Template;
+
+/**
+ * ConstantFolder
+ * Optimization pass run once compilation is complete. Replaces every anonymous expression
+ * which has only integer, double or boolean literals for operands with a literal holding
+ * the result, working from the leaves up so nested expressions such as "60 * 60 * 24"
+ * collapse into a single constant. A criterion whose expression folds to true then
+ * tests a constant instead of evaluating the expression on every unification.
+ * Expressions which fail to evaluate are left in place to report the error at run time.
+ * Set system property "taq.opt.fold" to "false" to disable folding and "taq.opt.trace"
+ * to "true" to log each fold.
+ */
+public class ConstantFolder {
+
+	/** System property to enable or disable folding */
+	public static final String FOLD_PROPERTY = "taq.opt.fold";
+	/** System property to log folding */
+	public static final String TRACE_PROPERTY = "taq.opt.trace";
+	/** Flag set true if constant folding is enabled */
+	public static final boolean IS_ENABLED = !"false".equalsIgnoreCase(System.getProperty(FOLD_PROPERTY));
+
+	/** Modification id of trial evaluation, which must not be 0 to allow backup */
+	private static final int FOLD_ID = Integer.MIN_VALUE;
+
+	/** Logger */
+	private static final Logger logger = LogManager.getLogger(ConstantFolder.class);
+
+	/** Binary operators which produce a value from the operand values alone */
+	private static final Set<OperatorEnum> BINARY_OPS = EnumSet.of(
+			OperatorEnum.PLUS, OperatorEnum.MINUS, OperatorEnum.STAR, OperatorEnum.SLASH, OperatorEnum.REM,
+			OperatorEnum.BIT_AND, OperatorEnum.BIT_OR, OperatorEnum.XOR,
+			OperatorEnum.LSHIFT, OperatorEnum.RSIGNEDSHIFT, OperatorEnum.RUNSIGNEDSHIFT,
+			OperatorEnum.LT, OperatorEnum.GT, OperatorEnum.EQ, OperatorEnum.LE, OperatorEnum.GE, OperatorEnum.NE);
+	/** Prefix unary operators which produce a value from the operand value alone */
+	private static final Set<OperatorEnum> PREFIX_OPS = EnumSet.of(
+			OperatorEnum.PLUS, OperatorEnum.MINUS, OperatorEnum.TILDE, OperatorEnum.NOT);
+
+	/** Flag set true if folds are logged */
+	private final boolean isTrace;
+	/** Maps each operand visited to its replacement, which is the operand itself if not folded */
+	private final Map<Operand, Operand> foldedMap;
+	/** Number of expressions folded */
+	private int foldCount;
+
+	/**
+	 * Construct ConstantFolder object
+	 */
+	public ConstantFolder() {
+		isTrace = Boolean.getBoolean(TRACE_PROPERTY);
+		foldedMap = new IdentityHashMap<>();
+	}
+
+	/**
+	 * Fold constant expressions in all terms of given template. A term itself is not
+	 * replaced, as it belongs to the template, only the expressions below it.
+	 * @param template Template
+	 */
+	public void fold(Template template) {
+		template.forEach(term -> foldOperands(term, template));
+	}
+
+	/**
+	 * Returns number of expressions folded
+	 * @return int
+	 */
+	public int getFoldCount() {
+		return foldCount;
+	}
+
+	/**
+	 * Fold constant expressions in operand tree of given operand. The result is memoised
+	 * so every parent of a shared subtree receives the same replacement.
+	 * @param operand Operand at root of tree
+	 * @param template Template to which the operand belongs, used for tracing
+	 * @return literal operand to replace given operand or the operand itself
+	 */
+	private Operand fold(Operand operand, Template template) {
+		if ((operand == null) || operand.isShadow())
+			return operand;
+		Operand folded = foldedMap.get(operand);
+		if (folded != null)
+			return folded;
+		// Mark operand as visited, as operand graphs may contain cycles
+		foldedMap.put(operand, operand);
+		foldOperands(operand, template);
+		if ((operand instanceof Evaluator) && isFoldable((Evaluator)operand)) {
+			Operand literal = evaluate((Evaluator)operand);
+			if (literal != null) {
+				++foldCount;
+				if (isTrace)
+					logger.info(String.format("Template %s: folded %s to %s",
+							template.getQualifiedName().toString(), operand.toString(), literal.toString()));
+				foldedMap.put(operand, literal);
+				return literal;
+			}
+		}
+		return operand;
+	}
+
+	/**
+	 * Fold constant expressions in the left and right operand trees of given operand and
+	 * replace the operands which fold
+	 * @param operand Operand
+	 * @param template Template to which the operand belongs, used for tracing
+	 */
+	private void foldOperands(Operand operand, Template template) {
+		if ((operand == null) || operand.isShadow())
+			return;
+		Operand left = operand.getLeftOperand();
+		Operand right = operand.getRightOperand();
+		Operand foldedLeft = fold(left, template);
+		Operand foldedRight = fold(right, template);
+		if (operand instanceof Evaluator) {
+			Evaluator evaluator = (Evaluator)operand;
+			if (foldedLeft != left)
+				evaluator.setLeftOperand(foldedLeft);
+			if (foldedRight != right)
+				evaluator.setRightOperand(foldedRight);
+		} else if ((foldedLeft != left) && ((operand instanceof Variable) || (operand instanceof ExpressionOperand)))
+			// Expression assigning a value to a variable is now a constant
+			operand.setLeftOperand(foldedLeft);
+	}
+
+	/**
+	 * Returns flag set true if given evaluator is anonymous and performs a foldable
+	 * operation on literal operands only
+	 * @param evaluator Evaluator
+	 * @return boolean
+	 */
+	private boolean isFoldable(Evaluator evaluator) {
+		if (!evaluator.getName().isEmpty() || evaluator.isHead() || !evaluator.isEmpty())
+			return false;
+		OperatorEnum operatorEnum = evaluator.getOperatorEnum();
+		switch (evaluator.getOrientation()) {
+		case binary:
+			return BINARY_OPS.contains(operatorEnum) &&
+				   isLiteral(evaluator.getLeftOperand()) && isLiteral(evaluator.getRightOperand());
+		case unary_prefix:
+			return PREFIX_OPS.contains(operatorEnum) && (evaluator.getLeftOperand() == null) &&
+				   isLiteral(evaluator.getRightOperand());
+		default:
+		}
+		return false;
+	}
+
+	/**
+	 * Returns flag set true if given operand is an anonymous number or boolean literal
+	 * @param operand Operand
+	 * @return boolean
+	 */
+	private boolean isLiteral(Operand operand) {
+		if (operand == null)
+			return false;
+		Class<?> operandClass = operand.getClass();
+		if ((operandClass != IntegerOperand.class) && (operandClass != DoubleOperand.class) &&
+			(operandClass != BooleanOperand.class))
+			return false;
+		return operand.getName().isEmpty() && !operand.isEmpty() && (operand.getId() == 0) &&
+			   (operand.getLeftOperand() == null) && !operand.isShadow() && !operand.isHead();
+	}
+
+	/**
+	 * Evaluate given evaluator and return result as a literal
+	 * @param evaluator Evaluator with literal operands
+	 * @return literal operand or null if evaluation fails or produces a value which is not a number or boolean
+	 */
+	private Operand evaluate(Evaluator evaluator) {
+		Object value;
+		try {
+			evaluator.evaluate(FOLD_ID);
+			value = evaluator.getValue();
+		} catch (RuntimeException e) {
+			// Report error at run time
+			return null;
+		} finally {
+			evaluator.backup(FOLD_ID);
+		}
+		if (value instanceof Long)
+			return new IntegerOperand(QualifiedName.ANONYMOUS, (Long)value);
+		if (value instanceof Double)
+			return new DoubleOperand(QualifiedName.ANONYMOUS, (Double)value);
+		if (value instanceof Boolean)
+			return new BooleanOperand(QualifiedName.ANONYMOUS, (Boolean)value);
+		return null;
+	}
+}
@@ -86,6 +86,32 @@ public class CursorOperand extends ExpressionOperand<Object> implements ParserRu
 				return super.getLeftUnaryOps();
 			}
 
+			@Override
+			public boolean isRightBinaryOp(OperatorEnum operatorEnum) {
+				if ((valueDelegateType != null) && !isEmpty())
+					setValueOperand();
+				return super.isRightBinaryOp(operatorEnum);
+			}
+
+			@Override
+			public boolean isRightUnaryOp(OperatorEnum operatorEnum) {
+				setCursorDelegate();
+				return super.isRightUnaryOp(operatorEnum);
+			}
+
+			@Override
+			public boolean isLeftBinaryOp(OperatorEnum operatorEnum) {
+				if ((valueDelegateType != null) && !isEmpty())
+					setValueOperand();
+				return super.isLeftBinaryOp(operatorEnum);
+			}
+
+			@Override
+			public boolean isLeftUnaryOp(OperatorEnum operatorEnum) {
+				setCursorDelegate();
+				return super.isLeftUnaryOp(operatorEnum);
+			}
+
 		};
 		setCursorDelegate();
 		QualifiedName cursorQname = cursor.getCursorQname();
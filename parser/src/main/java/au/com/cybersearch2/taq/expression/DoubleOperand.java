@@ -15,6 +15,7 @@ package au.com.cybersearch2.taq.expression;
 
 import au.com.cybersearch2.taq.Scope;
 import au.com.cybersearch2.taq.helper.EvaluationStatus;
+import au.com.cybersearch2.taq.helper.TriState;
 import au.com.cybersearch2.taq.interfaces.LocaleListener;
 import au.com.cybersearch2.taq.interfaces.Operand;
 import au.com.cybersearch2.taq.interfaces.Operator;
@@ -98,7 +99,11 @@ public class DoubleOperand extends ExpressionOperand<Double> implements LocaleLi
         if ((status == EvaluationStatus.COMPLETE) && !isEmpty())
         {
             // Perform conversion to Double, if required
-            setValue(operator.convertObject(value, getValueClass()));
+            if (value instanceof Double)
+            	// Set same object to avoid unboxing and boxing again
+            	setTypeValue((Double)value);
+            else
+            	setValue(operator.convertObject(value, getValueClass()));
             if (isHead())
             	castShadow(id);
         }
@@ -113,11 +118,39 @@ public class DoubleOperand extends ExpressionOperand<Double> implements LocaleLi
     public void setValue(Object value)
     {
     	if (!(value instanceof Double))
-    		super.setTypeValue(operator.convertObject(value, value.getClass()));
+    		setTypeValue(operator.convertObject(value, value.getClass()));
     	else
-    		super.setTypeValue((Double)value);
+    		setTypeValue((Double)value);
     }
-    
+
+    /**
+     * Returns value as primitive double, converting the value object only if it is not a Double
+     * @return double
+     */
+    public double getDouble()
+    {
+    	if (value instanceof Double)
+    		return ((Double)value).doubleValue();
+    	return operator.convertObject(value, getValueClass());
+    }
+
+    /**
+     * Returns truth value, which is false for zero, unknown for NaN and true for any other double value
+     * @see au.com.cybersearch2.taq.interfaces.Operand#getTruthValue()
+     */
+    @Override
+    public TriState getTruthValue()
+    {
+    	if (value instanceof Double)
+    	{
+    		double doubleValue = ((Double)value).doubleValue();
+    		if (Double.isNaN(doubleValue))
+    			return TriState.UNKNOWN;
+    		return TriState.of(doubleValue != 0);
+    	}
+    	return super.getTruthValue();
+    }
+
     /**
      * Assign a value to this Operand derived from a parameter 
      * @param parameter Parameter containing non-null value
@@ -125,6 +158,11 @@ public class DoubleOperand extends ExpressionOperand<Double> implements LocaleLi
     @Override
     public void assign(Parameter parameter)
 	{
+    	if (parameter.getValue() instanceof Double)
+    	{   // No conversion required
+    		super.assign(parameter);
+    		return;
+    	}
 		double newValue = operator.convertObject(parameter.getValue(), parameter.getValueClass());
     	Parameter converted = new Parameter(Term.ANONYMOUS, newValue);
     	converted.setId(parameter.getId());
@@ -13,6 +13,11 @@
     limitations under the License. */
 package au.com.cybersearch2.taq.expression;
 
+import java.lang.invoke.MethodHandle;
+import java.math.BigDecimal;
+import java.util.EnumSet;
+import java.util.Set;
+
 import au.com.cybersearch2.taq.QueryProgram;
 import au.com.cybersearch2.taq.helper.EvaluationStatus;
 import au.com.cybersearch2.taq.interfaces.Operand;
@@ -40,6 +45,16 @@ public class Evaluator extends TreeEvaluator {
 	
 	static OperatorMap operatorMap = QueryProgram.getSingleton(OperatorMap.class);
 
+	/** Number of times a specialised evaluation may be discarded before reverting permanently to interpretation */
+	private static final int MAX_DEOPTIMIZATIONS = 3;
+	/** Binary number operators which may be specialised to the operand value classes first encountered */
+	private static final Set<OperatorEnum> NUMBER_OPS = EnumSet.of(OperatorEnum.PLUS, OperatorEnum.MINUS,
+			OperatorEnum.STAR, OperatorEnum.SLASH, OperatorEnum.REM, OperatorEnum.BIT_AND, OperatorEnum.BIT_OR,
+			OperatorEnum.XOR);
+	/** Binary relational operators which may be specialised to the operand value classes first encountered */
+	private static final Set<OperatorEnum> RELATIONAL_OPS = EnumSet.of(OperatorEnum.LT, OperatorEnum.GT,
+			OperatorEnum.EQ, OperatorEnum.LE, OperatorEnum.GE, OperatorEnum.NE);
+
 	/** Right hand operand. If null, then this is a unary postfix expression. */
 	private Operand right;
 	/** Left hand operand. If null, then this is a unary prefix expression. */
@@ -48,6 +63,26 @@ public class Evaluator extends TreeEvaluator {
 	private boolean isValueSet;
 	/** Flag set true if evaluator is enclosed in parentheses */
 	private boolean isEnclosed;
+	/** Flag set true if binary operation may be specialised to operand value classes */
+	private boolean isSpecializable;
+	/** Flag set true if binary operation has a boolean result */
+	private boolean isRelational;
+	/** Flag set true if binary operation may be compiled to a kernel */
+	private boolean isCompilable;
+	/** Compiled binary operation or null if interpreting */
+	private MethodHandle kernel;
+	/** Class of left operand value to which specialisation is bound or null if not specialised */
+	private Class<?> guardLeftClass;
+	/** Class of right operand value to which specialisation is bound */
+	private Class<?> guardRightClass;
+	/** Operand type of left operand to which specialisation is bound */
+	private OperandType guardLeftType;
+	/** Operand type of right operand to which specialisation is bound */
+	private OperandType guardRightType;
+	/** Flag set true if specialised number operation is performed by left operand, otherwise right */
+	private boolean isLeftPerformer;
+	/** Number of times specialisation discarded due to change of operand type */
+	private int deoptimizations;
 
 	/**
 	 * Create Evaluator object for prefix/postfix unary expression
@@ -96,6 +131,25 @@ public class Evaluator extends TreeEvaluator {
 		this.isEnclosed = true;
 	}
 
+	/**
+	 * Returns flag set true if binary operation is currently evaluated by a compiled kernel
+	 * 
+	 * @return boolean
+	 */
+	public boolean isCompiled() {
+		return kernel != null;
+	}
+
+	/**
+	 * Returns flag set true if binary operation is currently specialised to the
+	 * value classes of its operands, with or without a compiled kernel
+	 * 
+	 * @return boolean
+	 */
+	public boolean isSpecialized() {
+		return guardLeftClass != null;
+	}
+
 	/**
 	 * Returns operator enum corresponding to specified text
 	 * 
@@ -135,6 +189,9 @@ public class Evaluator extends TreeEvaluator {
 		// Delegate can be set in advance if result is boolean
 		// Otherwise, delegate will be set on value assigment
 		presetDelegate();
+		isRelational = RELATIONAL_OPS.contains(operatorEnum);
+		isSpecializable = EvaluatorKernel.IS_ENABLED && (isRelational || NUMBER_OPS.contains(operatorEnum));
+		isCompilable = isSpecializable && EvaluatorKernel.isSupported(operatorEnum);
 	}
 
 	/**
@@ -150,6 +207,11 @@ public class Evaluator extends TreeEvaluator {
 	 */
 	@Override
 	public EvaluationStatus evaluate(int id) {
+		if (guardLeftClass != null) {
+			EvaluationStatus specializedStatus = evaluateSpecialized(id);
+			if (specializedStatus != null)
+				return specializedStatus;
+		}
 		EvaluationStatus evaluationStatus = super.evaluate(id, context);
 		switch (evaluationStatus) {
 		case SKIP: // Operator && or ||
@@ -184,6 +246,8 @@ public class Evaluator extends TreeEvaluator {
 		switch (orientation) {
 		case binary:
 			result = evaluateBinary(id);
+			if (isSpecializable && (guardLeftClass == null) && (result != null))
+				specialize();
 			break;
 		case unary_prefix:
 			result = evaluatePreFix(id);
@@ -292,6 +356,131 @@ public class Evaluator extends TreeEvaluator {
 		return result;
 	}
 
+	/**
+	 * Evaluate binary operation specialised to the operand value classes of a
+	 * previous evaluation. The operands are evaluated in the same way as the
+	 * interpreter, but validity checks, on-the-fly conversion and selection of the
+	 * operator to perform the operation are replaced by a guard on operand value
+	 * class. The operation is performed by a compiled kernel, if available. If the
+	 * guard fails, the specialisation is discarded and the evaluation is completed
+	 * by the interpreter.
+	 * 
+	 * @param id Identity of caller, which must be provided for backup()
+	 * @return EvaluationStatus or null if interpretation required
+	 */
+	private EvaluationStatus evaluateSpecialized(int id) {
+		Operand leftTerm = left.isShadow() ? left.getHead() : left;
+		Operand rightTerm = right.isShadow() ? right.getHead() : right;
+		// Only evaluate once between backups
+		if (leftTerm.isEmpty()) {
+			leftTerm.setExecutionContext(context);
+			leftTerm.evaluate(id);
+			if (leftTerm.isEmpty())
+				throw new ExpressionException(String.format("Left term '%s' is empty", left.toString()));
+		}
+		if (!isGuardValid(leftTerm, guardLeftClass, guardLeftType)) {
+			deoptimize();
+			return null;
+		}
+		// Assume non-empty with id == 0 implies static initialization
+		if (rightTerm.isEmpty() || (rightTerm.getId() == 0)) {
+			rightTerm.setExecutionContext(context);
+			rightTerm.evaluate(id);
+			if (rightTerm.isEmpty())
+				throw new ExpressionException("Cannot evaluate " + toString());
+		}
+		if (!isGuardValid(rightTerm, guardRightClass, guardRightType)) {
+			deoptimize();
+			return null;
+		}
+		leftIsNaN = false;
+		rightIsNaN = false;
+		Object result;
+		if (kernel != null) {
+			try {
+				result = (Object) kernel.invokeExact(leftTerm, rightTerm);
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable t) {
+				throw new ExpressionException("Cannot evaluate " + toString(), t);
+			}
+		} else if (isRelational)
+			result = left.getOperator().booleanEvaluation(left, operatorEnum, right);
+		else if (isLeftPerformer)
+			result = left.getOperator().numberEvaluation(left, operatorEnum, right);
+		else
+			result = right.getOperator().numberEvaluation(left, operatorEnum, right);
+		return setResult(result, id);
+	}
+
+	/**
+	 * Returns flag set true if given operand has a value of the class and operand
+	 * type to which the specialisation is bound
+	 * 
+	 * @param term        Operand
+	 * @param valueClass  Value class
+	 * @param operandType Operand type
+	 * @return boolean
+	 */
+	private boolean isGuardValid(Operand term, Class<?> valueClass, OperandType operandType) {
+		Object value = term.getValue();
+		if ((value == null) || (value.getClass() != valueClass) ||
+			(term.getOperator().getTrait().getOperandType() != operandType))
+			return false;
+		// NaN is handled by the interpreter
+		return (valueClass != Double.class) || !((Double) value).isNaN();
+	}
+
+	/**
+	 * Specialise binary operation to the value classes of both operands and compile
+	 * it if both have values of the same class with a kernel for the operator.
+	 * Called after a successful interpreted evaluation.
+	 */
+	private void specialize() {
+		if (leftIsNaN || rightIsNaN)
+			return;
+		Operand leftTerm = left.isShadow() ? left.getHead() : left;
+		Operand rightTerm = right.isShadow() ? right.getHead() : right;
+		Class<?> leftClass = leftTerm.getValueClass();
+		Class<?> rightClass = rightTerm.getValueClass();
+		// Only number operations are specialised. Other types may require conversion or concatenation.
+		if (!isNumberClass(leftClass) || !isNumberClass(rightClass) || utils.isConcatenateValid(leftTerm, operatorEnum))
+			return;
+		guardLeftClass = leftClass;
+		guardRightClass = rightClass;
+		guardLeftType = leftTerm.getOperator().getTrait().getOperandType();
+		guardRightType = rightTerm.getOperator().getTrait().getOperandType();
+		isLeftPerformer = isLeftPerformer(leftClass, rightClass);
+		if (!isGuardValid(leftTerm, guardLeftClass, guardLeftType) || !isGuardValid(rightTerm, guardRightClass, guardRightType)) {
+			guardLeftClass = null;
+			return;
+		}
+		if (isCompilable && (leftClass == rightClass) &&
+			(guardLeftType == EvaluatorKernel.getOperandType(leftClass)) && (guardRightType == guardLeftType))
+			kernel = EvaluatorKernel.lookup(leftClass, operatorEnum);
+	}
+
+	/**
+	 * Discard specialisation following change of operand type
+	 */
+	private void deoptimize() {
+		kernel = null;
+		guardLeftClass = null;
+		if (++deoptimizations >= MAX_DEOPTIMIZATIONS)
+			isSpecializable = false;
+	}
+
+	/**
+	 * Returns flag set true if given class is a number class supported by specialisation
+	 * 
+	 * @param valueClass Value class
+	 * @return boolean
+	 */
+	private static boolean isNumberClass(Class<?> valueClass) {
+		return (valueClass == Long.class) || (valueClass == Integer.class) ||
+			   (valueClass == Double.class) || (valueClass == BigDecimal.class);
+	}
+
 	/**
 	 * Evaluate prefix unary operation
 	 * 
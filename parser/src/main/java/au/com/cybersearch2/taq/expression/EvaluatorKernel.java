@@ -0,0 +1,280 @@
+/** Copyright 2026 TAQ contributors
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License. */
+package au.com.cybersearch2.taq.expression;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.EnumMap;
+import java.util.Map;
+
+import au.com.cybersearch2.taq.interfaces.Operand;
+import au.com.cybersearch2.taq.language.OperandType;
+import au.com.cybersearch2.taq.language.OperatorEnum;
+
+/**
+ * EvaluatorKernel
+ * Compiled binary operations on primitive long and double values, one method handle per
+ * operator. Each handle reads both operands through their typed accessors, performs the 
+ * operation in primitive form and boxes the result, so it matches the IntegerOperator and DoubleOperator calculations
+ * while bypassing the operand validity checks of the interpreter. A kernel is only valid
+ * for as long as both operands hold values of the class it was bound to.
+ * Set system property "taq.evaluator.compile" to "false" to disable compilation and all
+ * other specialisation of binary operations to operand value classes.
+ * @see Evaluator
+ */
+final class EvaluatorKernel {
+
+	/** System property to enable or disable compilation */
+	public static final String COMPILE_PROPERTY = "taq.evaluator.compile";
+	/** Flag set true if evaluator compilation is enabled */
+	static final boolean IS_ENABLED = !"false".equalsIgnoreCase(System.getProperty(COMPILE_PROPERTY));
+
+	/** Type of all kernel handles after adaption */
+	private static final MethodType GENERIC_TYPE = MethodType.methodType(Object.class, Operand.class, Operand.class);
+
+	/** Long kernels referenced by operator */
+	private static final Map<OperatorEnum, MethodHandle> longKernels;
+	/** Double kernels referenced by operator */
+	private static final Map<OperatorEnum, MethodHandle> doubleKernels;
+
+	static {
+		longKernels = new EnumMap<>(OperatorEnum.class);
+		doubleKernels = new EnumMap<>(OperatorEnum.class);
+		MethodType longOp = MethodType.methodType(long.class, long.class, long.class);
+		MethodType longTest = MethodType.methodType(boolean.class, long.class, long.class);
+		MethodType doubleOp = MethodType.methodType(double.class, double.class, double.class);
+		MethodType doubleTest = MethodType.methodType(boolean.class, double.class, double.class);
+		// Operations supported by IntegerOperator
+		bind(longKernels, OperatorEnum.PLUS, "add", longOp);
+		bind(longKernels, OperatorEnum.MINUS, "subtract", longOp);
+		bind(longKernels, OperatorEnum.STAR, "multiply", longOp);
+		bind(longKernels, OperatorEnum.SLASH, "divide", longOp);
+		bind(longKernels, OperatorEnum.REM, "remainder", longOp);
+		bind(longKernels, OperatorEnum.BIT_AND, "and", longOp);
+		bind(longKernels, OperatorEnum.BIT_OR, "or", longOp);
+		bind(longKernels, OperatorEnum.XOR, "xor", longOp);
+		bind(longKernels, OperatorEnum.LSHIFT, "shiftLeft", longOp);
+		bind(longKernels, OperatorEnum.RSIGNEDSHIFT, "shiftRight", longOp);
+		bind(longKernels, OperatorEnum.RUNSIGNEDSHIFT, "shiftRightUnsigned", longOp);
+		bind(longKernels, OperatorEnum.LT, "lessThan", longTest);
+		bind(longKernels, OperatorEnum.GT, "greaterThan", longTest);
+		bind(longKernels, OperatorEnum.EQ, "equal", longTest);
+		bind(longKernels, OperatorEnum.LE, "lessOrEqual", longTest);
+		bind(longKernels, OperatorEnum.GE, "greaterOrEqual", longTest);
+		bind(longKernels, OperatorEnum.NE, "notEqual", longTest);
+		// Operations supported by DoubleOperator
+		bind(doubleKernels, OperatorEnum.PLUS, "add", doubleOp);
+		bind(doubleKernels, OperatorEnum.MINUS, "subtract", doubleOp);
+		bind(doubleKernels, OperatorEnum.STAR, "multiply", doubleOp);
+		bind(doubleKernels, OperatorEnum.SLASH, "divide", doubleOp);
+		bind(doubleKernels, OperatorEnum.LT, "lessThan", doubleTest);
+		bind(doubleKernels, OperatorEnum.GT, "greaterThan", doubleTest);
+		bind(doubleKernels, OperatorEnum.EQ, "equal", doubleTest);
+		bind(doubleKernels, OperatorEnum.LE, "lessOrEqual", doubleTest);
+		bind(doubleKernels, OperatorEnum.GE, "greaterOrEqual", doubleTest);
+		bind(doubleKernels, OperatorEnum.NE, "notEqual", doubleTest);
+	}
+
+	private EvaluatorKernel() {
+	}
+
+	/**
+	 * Returns flag set true if a kernel exists for given operator
+	 * @param operatorEnum Operator enum
+	 * @return boolean
+	 */
+	static boolean isSupported(OperatorEnum operatorEnum) {
+		return longKernels.containsKey(operatorEnum) || doubleKernels.containsKey(operatorEnum);
+	}
+
+	/**
+	 * Returns operand type which values of given class must have for a kernel to apply
+	 * @param valueClass Value class
+	 * @return OperandType or null if the class is not supported
+	 */
+	static OperandType getOperandType(Class<?> valueClass) {
+		if (valueClass == Long.class)
+			return OperandType.INTEGER;
+		if (valueClass == Double.class)
+			return OperandType.DOUBLE;
+		return null;
+	}
+
+	/**
+	 * Returns kernel for given value class and operator
+	 * @param valueClass Class of both operand values - Long or Double
+	 * @param operatorEnum Operator enum
+	 * @return MethodHandle of type (Operand,Operand)Object or null if not supported
+	 */
+	static MethodHandle lookup(Class<?> valueClass, OperatorEnum operatorEnum) {
+		if (valueClass == Long.class)
+			return longKernels.get(operatorEnum);
+		if (valueClass == Double.class)
+			return doubleKernels.get(operatorEnum);
+		return null;
+	}
+
+	/**
+	 * Find static method, filter its arguments through the typed accessor for its parameter type 
+	 * and adapt it to generic type
+	 * @param kernelMap Map to receive kernel
+	 * @param operatorEnum Operator enum
+	 * @param name Method name
+	 * @param methodType Primitive method type
+	 */
+	private static void bind(Map<OperatorEnum, MethodHandle> kernelMap, OperatorEnum operatorEnum, String name, MethodType methodType) {
+		try {
+			MethodHandles.Lookup lookup = MethodHandles.lookup();
+			MethodHandle methodHandle = lookup.findStatic(EvaluatorKernel.class, name, methodType);
+			Class<?> primitiveClass = methodType.parameterType(0);
+			String accessor = primitiveClass == long.class ? "longValue" : "doubleValue";
+			MethodHandle valueHandle = lookup.findStatic(EvaluatorKernel.class, accessor, MethodType.methodType(primitiveClass, Operand.class));
+			methodHandle = MethodHandles.filterArguments(methodHandle, 0, valueHandle, valueHandle);
+			kernelMap.put(operatorEnum, methodHandle.asType(GENERIC_TYPE));
+		} catch (NoSuchMethodException | IllegalAccessException e) {
+			throw new ExpressionException("Error binding evaluator kernel " + name, e);
+		}
+	}
+
+	/**
+	 * Returns value of given operand as long, through the typed accessor of an integer operand
+	 * @param operand Operand with a Long value
+	 * @return long
+	 */
+	private static long longValue(Operand operand) {
+		if (operand instanceof IntegerOperand)
+			return ((IntegerOperand) operand).getLong();
+		return ((Long) operand.getValue()).longValue();
+	}
+
+	/**
+	 * Returns value of given operand as double, through the typed accessor of a double operand
+	 * @param operand Operand with a Double value
+	 * @return double
+	 */
+	private static double doubleValue(Operand operand) {
+		if (operand instanceof DoubleOperand)
+			return ((DoubleOperand) operand).getDouble();
+		return ((Double) operand.getValue()).doubleValue();
+	}
+
+	private static long add(long left, long right) {
+		return left + right;
+	}
+
+	private static long subtract(long left, long right) {
+		return left - right;
+	}
+
+	private static long multiply(long left, long right) {
+		return left * right;
+	}
+
+	private static long divide(long left, long right) {
+		return left / right;
+	}
+
+	private static long remainder(long left, long right) {
+		return left % right;
+	}
+
+	private static long and(long left, long right) {
+		return left & right;
+	}
+
+	private static long or(long left, long right) {
+		return left | right;
+	}
+
+	private static long xor(long left, long right) {
+		return left ^ right;
+	}
+
+	private static long shiftLeft(long left, long right) {
+		return left << right;
+	}
+
+	private static long shiftRight(long left, long right) {
+		return left >> right;
+	}
+
+	private static long shiftRightUnsigned(long left, long right) {
+		return left >>> right;
+	}
+
+	private static boolean lessThan(long left, long right) {
+		return left < right;
+	}
+
+	private static boolean greaterThan(long left, long right) {
+		return left > right;
+	}
+
+	private static boolean equal(long left, long right) {
+		return left == right;
+	}
+
+	private static boolean lessOrEqual(long left, long right) {
+		return left <= right;
+	}
+
+	private static boolean greaterOrEqual(long left, long right) {
+		return left >= right;
+	}
+
+	private static boolean notEqual(long left, long right) {
+		return left != right;
+	}
+
+	private static double add(double left, double right) {
+		return left + right;
+	}
+
+	private static double subtract(double left, double right) {
+		return left - right;
+	}
+
+	private static double multiply(double left, double right) {
+		return left * right;
+	}
+
+	private static double divide(double left, double right) {
+		return left / right;
+	}
+
+	private static boolean lessThan(double left, double right) {
+		return left < right;
+	}
+
+	private static boolean greaterThan(double left, double right) {
+		return left > right;
+	}
+
+	private static boolean equal(double left, double right) {
+		return left == right;
+	}
+
+	private static boolean lessOrEqual(double left, double right) {
+		return left <= right;
+	}
+
+	private static boolean greaterOrEqual(double left, double right) {
+		return left >= right;
+	}
+
+	private static boolean notEqual(double left, double right) {
+		return left != right;
+	}
+}
@@ -146,9 +146,9 @@ public class FactOperand extends BooleanOperand
             // isFact() returns true for an empty axiom, which is not what we want
             return axiom.isFact() && (axiom.getTermCount() > 0);
         }
-        else if ((value instanceof Number) && value.toString().equals(EvaluationUtils.NAN))
+        else if (EvaluationUtils.isNaNValue(value))
             return false;
-        else if ((value instanceof DoubleOperand) && ((Operand)value).getValue().toString().equals(EvaluationUtils.NAN))
+        else if ((value instanceof DoubleOperand) && EvaluationUtils.isNaNValue(((Operand)value).getValue()))
             return false;
         else if (value instanceof Null)
             return false;
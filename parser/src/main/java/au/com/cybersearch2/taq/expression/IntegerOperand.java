@@ -15,6 +15,7 @@ package au.com.cybersearch2.taq.expression;
 
 import au.com.cybersearch2.taq.Scope;
 import au.com.cybersearch2.taq.helper.EvaluationStatus;
+import au.com.cybersearch2.taq.helper.TriState;
 import au.com.cybersearch2.taq.interfaces.LocaleListener;
 import au.com.cybersearch2.taq.interfaces.Operand;
 import au.com.cybersearch2.taq.interfaces.Operator;
@@ -91,7 +92,11 @@ public class IntegerOperand extends ExpressionOperand<Long> implements LocaleLis
 	public EvaluationStatus evaluate(int id) {
 		EvaluationStatus status = super.evaluate(id);
          // Perform conversion to Integer, if required
-        setValue(operator.convertObject(value, getValueClass()));
+        if (value instanceof Long)
+        	// Set same object to avoid unboxing and boxing again
+        	setTypeValue((Long)value);
+        else
+        	setValue(operator.convertObject(value, getValueClass()));
         if (isHead())
         	castShadow(id);
 		return status;
@@ -105,9 +110,32 @@ public class IntegerOperand extends ExpressionOperand<Long> implements LocaleLis
     public void setValue(Object value)
     {
     	if (!(value instanceof Long))
-    		super.setTypeValue(operator.convertObject(value, value.getClass()));
+    		setTypeValue(operator.convertObject(value, value.getClass()));
     	else
-    		super.setTypeValue((Long)value);
+    		setTypeValue((Long)value);
+    }
+
+    /**
+     * Returns value as primitive long, converting the value object only if it is not a Long
+     * @return long
+     */
+    public long getLong()
+    {
+    	if (value instanceof Long)
+    		return ((Long)value).longValue();
+    	return operator.convertObject(value, getValueClass());
+    }
+
+    /**
+     * Returns truth value, which is false for zero and true for any other integer value
+     * @see au.com.cybersearch2.taq.interfaces.Operand#getTruthValue()
+     */
+    @Override
+    public TriState getTruthValue()
+    {
+    	if (value instanceof Long)
+    		return TriState.of(((Long)value).longValue() != 0);
+    	return super.getTruthValue();
     }
 
 	/**
@@ -117,6 +145,11 @@ public class IntegerOperand extends ExpressionOperand<Long> implements LocaleLis
     @Override
     public void assign(Parameter parameter)
 	{
+    	if (parameter.getValue() instanceof Long)
+    	{   // No conversion required
+    		super.assign(parameter);
+    		return;
+    	}
     	long newValue = operator.convertObject(parameter.getValue(), parameter.getValueClass());
     	Parameter converted = new Parameter(Term.ANONYMOUS, newValue);
     	converted.setId(parameter.getId());
@@ -13,9 +13,13 @@
     limitations under the License. */
 package au.com.cybersearch2.taq.expression;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.List;
 
 import au.com.cybersearch2.taq.compiler.CompilerException;
@@ -34,6 +38,9 @@ import au.com.cybersearch2.taq.provider.ObjectSpec;
  */
 public class ObjectOperand extends DelegateOperand
 {
+    /** Maximum number of arguments passed to a call site without spreading an array */
+    private static final int MAX_EXACT_ARITY = 4;
+
     private final String methodName;
     
     private List<Object> parameters;
@@ -44,6 +51,10 @@ public class ObjectOperand extends DelegateOperand
     private Object object;
     private Class<?> objectClass;
     private Method method;
+    /** Method handle bound to object and adapted to generic type of exact arity or null if not available */
+    private MethodHandle callSite;
+    /** Number of arguments passed to call site */
+    private int arity;
     private Operand target;
     
     private Operand rightOperand;
@@ -88,10 +99,11 @@ public class ObjectOperand extends DelegateOperand
         if (parametersTemplate != null)
         {
         	parametersTemplate.evaluate(context);
-            termList = parametersTemplate.toArray();
             if (!useTerms && !useSingleTerm) {
                 parameters.clear();
-                termList.forEach(term -> parameters.add(term.getValue()));
+                int count = parametersTemplate.getTermCount();
+                for (int index = 0; index < count; ++index)
+                    parameters.add(parametersTemplate.getTermByIndex(index).getValue());
             }
         }
         if (objectClass == null) {
@@ -101,8 +113,12 @@ public class ObjectOperand extends DelegateOperand
             createMethod (objectClass, target, methodName);
         } else if (method == null)
             createMethod (objectClass, target, methodName);
+        if ((parametersTemplate != null) && (useTerms || useSingleTerm))
+            termList = parametersTemplate.toArray();
     	try {
-    		if (useTerms) 
+    		if (callSite != null)
+    			setValue(invoke());
+    		else if (useTerms) 
 			    setValue(method.invoke(object, (Object)termList.toArray(new Term[termList.size()])));
     		else if (useSingleTerm) 
 			    setValue(method.invoke(object, termList.get(0)));
@@ -206,6 +222,56 @@ public class ObjectOperand extends DelegateOperand
 		} catch (Throwable e) {
 			throw new CompilerException("Reflection error", e);
 		} 
+    	bindCallSite(classArray.length);
     }
 
+    /**
+     * Invoke method through call site, passing arguments individually up to maximum exact arity
+     * @return method return value or null if the method is void
+     */
+    private Object invoke() throws InvocationTargetException {
+    	try {
+    		if (useTerms)
+    			return (Object)callSite.invokeExact((Object)termList.toArray(new Term[termList.size()]));
+    		if (useSingleTerm)
+    			return (Object)callSite.invokeExact((Object)termList.get(0));
+    		switch (arity) {
+    		case 0: return (Object)callSite.invokeExact();
+    		case 1: return (Object)callSite.invokeExact(parameters.get(0));
+    		case 2: return (Object)callSite.invokeExact(parameters.get(0), parameters.get(1));
+    		case 3: return (Object)callSite.invokeExact(parameters.get(0), parameters.get(1), parameters.get(2));
+    		case 4: return (Object)callSite.invokeExact(parameters.get(0), parameters.get(1), parameters.get(2), parameters.get(3));
+    		default: return (Object)callSite.invokeExact(parameters.toArray());
+    		}
+    	} catch (ClassCastException e) {
+    		// Argument types differ from those the method was resolved with
+    		throw new IllegalArgumentException(e);
+    	} catch (Throwable e) {
+    		throw new InvocationTargetException(e);
+    	}
+    }
+
+    /**
+     * Bind call site to resolved method and object. The call site is left unset if the
+     * method is not accessible as a method handle, in which case reflection is used.
+     * @param parameterCount Number of method parameters
+     */
+    private void bindCallSite(int parameterCount) {
+    	boolean isStatic = Modifier.isStatic(method.getModifiers());
+    	if (!isStatic && (object == null))
+    		return;
+    	try {
+    		MethodHandle handle = MethodHandles.publicLookup().unreflect(method).asFixedArity();
+    		if (!isStatic)
+    			handle = handle.bindTo(object);
+    		if (parameterCount > MAX_EXACT_ARITY)
+    			handle = handle.asSpreader(Object[].class, parameterCount);
+    		callSite = handle.asType(parameterCount > MAX_EXACT_ARITY ?
+    				MethodType.methodType(Object.class, Object[].class) :
+    				MethodType.genericMethodType(parameterCount));
+    		arity = parameterCount;
+    	} catch (IllegalAccessException | ClassCastException e) {
+    		callSite = null;
+    	}
+    }
 }
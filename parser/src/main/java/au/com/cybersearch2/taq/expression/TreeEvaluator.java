@@ -19,6 +19,7 @@ import java.util.Locale;
 import au.com.cybersearch2.taq.debug.ExecutionContext;
 import au.com.cybersearch2.taq.helper.EvaluationStatus;
 import au.com.cybersearch2.taq.helper.EvaluationUtils;
+import au.com.cybersearch2.taq.helper.TriState;
 import au.com.cybersearch2.taq.interfaces.Operand;
 import au.com.cybersearch2.taq.interfaces.StringCloneable;
 import au.com.cybersearch2.taq.interfaces.Trait;
@@ -77,6 +78,22 @@ abstract class TreeEvaluator extends DelegateOperand
         shortCircuitOnTrue = operatorEnum == OperatorEnum.SC_OR; 
     }
     
+    /**
+     * @return the operator as an enumerated value
+     */
+    public OperatorEnum getOperatorEnum()
+    {
+        return operatorEnum;
+    }
+
+    /**
+     * @return the orientation - binary or unary (prefix or postfix)
+     */
+    public Orientation getOrientation()
+    {
+        return orientation;
+    }
+
     /**
      * @return the shortCircuitOnFalse
      */
@@ -204,19 +221,7 @@ abstract class TreeEvaluator extends DelegateOperand
         case ORASSIGN: // "|"
         case XORASSIGN: // "^"
         case REMASSIGN: // "%"
-            // Prevent conversion of BigDecimal to Integer or Double by 
-            // always selecting the BigDecimal term to perform the operation
-            boolean leftIsBigDec = leftTerm.getValueClass() == BigDecimal.class;
-            boolean rightIsBigDec = rightTerm.getValueClass() == BigDecimal.class;
-            if (leftIsBigDec)
-                return leftTerm.getOperator().numberEvaluation(leftTerm, operatorEnum, rightTerm);
-            else if (rightIsBigDec)
-                return rightTerm.getOperator().numberEvaluation(leftTerm, operatorEnum, rightTerm);
-            // Prevent conversion of Double to Integer by 
-            // always selecting the Double term to perform the operation
-            boolean leftIsDouble = leftTerm.getValueClass() == Double.class;
-            boolean rightIsDouble = rightTerm.getValueClass() == Double.class;
-            if (leftIsDouble || !rightIsDouble)
+            if (isLeftPerformer(leftTerm.getValueClass(), rightTerm.getValueClass()))
                 return leftTerm.getOperator().numberEvaluation(leftTerm, operatorEnum, rightTerm);
             else
                 return rightTerm.getOperator().numberEvaluation(leftTerm, operatorEnum, rightTerm);
@@ -227,6 +232,26 @@ abstract class TreeEvaluator extends DelegateOperand
         return null;
     }
 
+    /**
+     * Returns flag set true if the left term is to perform a number operation on values of given classes,
+     * otherwise the right term performs it
+     * @param leftClass Left term value class
+     * @param rightClass Right term value class
+     * @return boolean
+     */
+    protected boolean isLeftPerformer(Class<?> leftClass, Class<?> rightClass)
+    {
+        // Prevent conversion of BigDecimal to Integer or Double by 
+        // always selecting the BigDecimal term to perform the operation
+        if (leftClass == BigDecimal.class)
+            return true;
+        else if (rightClass == BigDecimal.class)
+            return false;
+        // Prevent conversion of Double to Integer by 
+        // always selecting the Double term to perform the operation
+        return (leftClass == Double.class) || (rightClass != Double.class);
+    }
+
     /**
      * When number operation is to be performed with string on one side, 
      * convert the string to a number of same type as opposite.
@@ -271,7 +296,7 @@ abstract class TreeEvaluator extends DelegateOperand
         // Short circuit logic applies only to left term
         if (shortCircuitOnFalse) // Operator &&
         {
-            if ("false".equals(left.getValue().toString()))
+            if (getLogicValue(left) == TriState.FALSE)
             {   // false && means short circuit
                 if (right == null) // Unary && does not assign a value
                     return EvaluationStatus.SHORT_CIRCUIT;
@@ -285,7 +310,7 @@ abstract class TreeEvaluator extends DelegateOperand
         }
         else if (shortCircuitOnTrue ) // Operator ||
         {   // true || means short circuit
-            if ("true".equals(left.getValue().toString()))
+            if (getLogicValue(left) == TriState.TRUE)
             {
                 if (right == null) // Unary || does not assign a value
                     return EvaluationStatus.SHORT_CIRCUIT;
@@ -300,15 +325,28 @@ abstract class TreeEvaluator extends DelegateOperand
         else if ((operatorEnum == OperatorEnum.HOOK) || (operatorEnum == OperatorEnum.COLON))
         {
             // Binary short circuit. Left has logic control.
-            String leftValue = left.getValue().toString();
-            if ((operatorEnum == OperatorEnum.HOOK) && leftValue.equals("false"))
+            TriState leftValue = getLogicValue(left);
+            if ((operatorEnum == OperatorEnum.HOOK) && (leftValue == TriState.FALSE))
                 return EvaluationStatus.SHORT_CIRCUIT;
-            if ((operatorEnum == OperatorEnum.COLON) && leftValue.equals("true"))
+            if ((operatorEnum == OperatorEnum.COLON) && (leftValue == TriState.TRUE))
                 return EvaluationStatus.SHORT_CIRCUIT;
         }
         return EvaluationStatus.COMPLETE;
     }
 
+    /**
+     * Returns truth value of given operand for short circuit logic. Numbers are not 
+     * logic values, so their truth value does not cause a short circuit.
+     * @param operand Operand
+     * @return TriState
+     */
+    private TriState getLogicValue(Operand operand)
+    {
+        if (operand.getValue() instanceof Number)
+            return TriState.UNKNOWN;
+        return operand.getTruthValue();
+    }
+
     private boolean isValidLeftOperation(Operand left, Operand right)
     {
         if (utils.isValidLeftOperand(left, right, operatorEnum))
@@ -373,7 +411,7 @@ abstract class TreeEvaluator extends DelegateOperand
             return true;
         if (isRightString) {
             Trait trait = left.getOperator().getTrait();
-            if (utils.isValidOperand(operatorEnum, left.getOperator().getLeftBinaryOps()) &&
+            if (left.getOperator().isLeftBinaryOp(operatorEnum) &&
                 (trait instanceof StringCloneable)) {
             	OperandType rightOperandType = right.getOperator().getTrait().getOperandType();
                 if (rightOperandType == OperandType.STRING) {
@@ -392,7 +430,7 @@ abstract class TreeEvaluator extends DelegateOperand
             return true;
         }
         Trait trait = right.getOperator().getTrait();
-        if (utils.isValidOperand(operatorEnum, right.getOperator().getRightBinaryOps()) &&
+        if (right.getOperator().isRightBinaryOp(operatorEnum) &&
              (trait instanceof StringCloneable)) {
         	OperandType leftOperandType = left.getOperator().getTrait().getOperandType();
             if (leftOperandType == OperandType.STRING) {
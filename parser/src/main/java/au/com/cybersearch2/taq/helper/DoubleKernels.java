@@ -0,0 +1,186 @@
+/** Copyright 2026 TAQ contributors
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License. */
+package au.com.cybersearch2.taq.helper;
+
+/**
+ * DoubleKernels
+ * Bulk operations on double arrays, written as simple counted loops which the JIT compiler can unroll
+ * and, for the element-wise operations, vectorize. Each operation works on the first "length" elements
+ * so callers can reuse arrays larger than the data they hold. Reductions keep four partial results
+ * to break the dependency between iterations, so a sum may differ in the last bits from one
+ * accumulated strictly left to right. Complex values are stored as interleaved real and imaginary
+ * parts, which is the layout of a Complex operand value.
+ */
+public final class DoubleKernels
+{
+    /**
+     * DoubleKernels is a static utility class
+     */
+    private DoubleKernels()
+    {
+    }
+
+    /**
+     * Returns sum of array elements
+     * @param x Array
+     * @param length Number of elements
+     * @return double
+     */
+    public static double sum(double[] x, int length)
+    {
+        double s0 = 0.0, s1 = 0.0, s2 = 0.0, s3 = 0.0;
+        int i = 0;
+        for (; i < (length & ~3); i += 4)
+        {
+            s0 += x[i];
+            s1 += x[i + 1];
+            s2 += x[i + 2];
+            s3 += x[i + 3];
+        }
+        for (; i < length; ++i)
+            s0 += x[i];
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    /**
+     * Returns dot product of two arrays
+     * @param x First array
+     * @param y Second array
+     * @param length Number of elements
+     * @return double
+     */
+    public static double dot(double[] x, double[] y, int length)
+    {
+        double s0 = 0.0, s1 = 0.0, s2 = 0.0, s3 = 0.0;
+        int i = 0;
+        for (; i < (length & ~3); i += 4)
+        {
+            s0 += x[i] * y[i];
+            s1 += x[i + 1] * y[i + 1];
+            s2 += x[i + 2] * y[i + 2];
+            s3 += x[i + 3] * y[i + 3];
+        }
+        for (; i < length; ++i)
+            s0 += x[i] * y[i];
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    /**
+     * Adds scaled first array to second array in place: y = alpha * x + y
+     * @param alpha Scale factor
+     * @param x First array
+     * @param y Second array, which receives the result
+     * @param length Number of elements
+     */
+    public static void axpy(double alpha, double[] x, double[] y, int length)
+    {
+        for (int i = 0; i < length; ++i)
+            y[i] += alpha * x[i];
+    }
+
+    /**
+     * Returns smallest array element or NaN if the array is empty or contains NaN
+     * @param x Array
+     * @param length Number of elements
+     * @return double
+     */
+    public static double min(double[] x, int length)
+    {
+        if (length == 0)
+            return Double.NaN;
+        double m0 = x[0], m1 = x[0];
+        int i = 1;
+        for (; i < length - 1; i += 2)
+        {
+            m0 = Math.min(m0, x[i]);
+            m1 = Math.min(m1, x[i + 1]);
+        }
+        if (i < length)
+            m0 = Math.min(m0, x[i]);
+        return Math.min(m0, m1);
+    }
+
+    /**
+     * Returns largest array element or NaN if the array is empty or contains NaN
+     * @param x Array
+     * @param length Number of elements
+     * @return double
+     */
+    public static double max(double[] x, int length)
+    {
+        if (length == 0)
+            return Double.NaN;
+        double m0 = x[0], m1 = x[0];
+        int i = 1;
+        for (; i < length - 1; i += 2)
+        {
+            m0 = Math.max(m0, x[i]);
+            m1 = Math.max(m1, x[i + 1]);
+        }
+        if (i < length)
+            m0 = Math.max(m0, x[i]);
+        return Math.max(m0, m1);
+    }
+
+    /**
+     * Set running totals of first array in second array. The arrays may be the same.
+     * @param x Array
+     * @param result Array to receive totals
+     * @param length Number of elements
+     */
+    public static void prefixSum(double[] x, double[] result, int length)
+    {
+        double total = 0.0;
+        for (int i = 0; i < length; ++i)
+        {
+            total += x[i];
+            result[i] = total;
+        }
+    }
+
+    /**
+     * Multiply complex values element by element
+     * @param a First array of interleaved complex values
+     * @param b Second array of interleaved complex values
+     * @param result Array to receive interleaved products. May be the same as either operand.
+     * @param count Number of complex values
+     */
+    public static void complexMultiply(double[] a, double[] b, double[] result, int count)
+    {
+        for (int i = 0; i < count * 2; i += 2)
+        {
+            double real = a[i] * b[i] - a[i + 1] * b[i + 1];
+            double imag = a[i] * b[i + 1] + a[i + 1] * b[i];
+            result[i] = real;
+            result[i + 1] = imag;
+        }
+    }
+
+    /**
+     * Set magnitude of each complex value. Unlike Math.hypot(), intermediate overflow
+     * is not avoided, so magnitudes above about 1.0E154 are infinite.
+     * @param a Array of interleaved complex values
+     * @param result Array to receive magnitudes
+     * @param count Number of complex values
+     */
+    public static void complexAbs(double[] a, double[] result, int count)
+    {
+        for (int i = 0; i < count; ++i)
+        {
+            double real = a[2 * i];
+            double imag = a[2 * i + 1];
+            result[i] = Math.sqrt(real * real + imag * imag);
+        }
+    }
+}
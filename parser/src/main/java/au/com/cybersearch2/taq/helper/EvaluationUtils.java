@@ -14,6 +14,7 @@
 package au.com.cybersearch2.taq.helper;
 
 import au.com.cybersearch2.taq.interfaces.Operand;
+import au.com.cybersearch2.taq.interfaces.Operator;
 import au.com.cybersearch2.taq.language.Null;
 import au.com.cybersearch2.taq.language.OperatorEnum;
 import au.com.cybersearch2.taq.operator.DelegateOperator;
@@ -37,13 +38,13 @@ public class EvaluationUtils
      */
     public boolean isValidLeftOperand(Operand leftTerm, Operand rightTerm, OperatorEnum operatorEnum) 
     {
-    	OperatorEnum[] leftOps = 
+    	Operator leftOperator = leftTerm.getOperator();
+    	boolean isValid = 
     		rightTerm != null ? 
-    				leftTerm.getOperator().getLeftBinaryOps() : 
-    				leftTerm.getOperator().getLeftUnaryOps();
-        for (OperatorEnum operatorEnum2: leftOps)
-            if (operatorEnum2 == operatorEnum)
-                return true;
+    				leftOperator.isLeftBinaryOp(operatorEnum) : 
+    				leftOperator.isLeftUnaryOp(operatorEnum);
+        if (isValid)
+            return true;
         if (isConcatenateValid(leftTerm, operatorEnum) || 
             // Comma operator valid if right operand present    
             ((operatorEnum == OperatorEnum.COMMA) && (rightTerm != null)))
@@ -61,10 +62,7 @@ public class EvaluationUtils
      */
     public boolean isConcatenateValid(Operand term, OperatorEnum operatorEnum)
     {
-        for (OperatorEnum operatorEnum2: term.getOperator().getConcatenateOps())
-            if (operatorEnum2 == operatorEnum)
-                return true;
-        return false;
+        return term.getOperator().isConcatenateOp(operatorEnum);
     }
     
     /**
@@ -96,13 +94,13 @@ public class EvaluationUtils
      */
     public boolean isValidRightOperand(Operand leftTerm, Operand rightTerm, OperatorEnum operatorEnum) 
     {
-    	OperatorEnum[] righttOps = 
+    	Operator rightOperator = rightTerm.getOperator();
+    	boolean isValid = 
     			leftTerm != null ? 
-    					rightTerm.getOperator().getRightBinaryOps() : 
-    						rightTerm.getOperator().getRightUnaryOps();
-        for (OperatorEnum operatorEnum2: righttOps)
-            if (operatorEnum2 == operatorEnum)
-                return true;
+    					rightOperator.isRightBinaryOp(operatorEnum) : 
+    						rightOperator.isRightUnaryOp(operatorEnum);
+        if (isValid)
+            return true;
         // Only comma, ? and : operators are valid at this point
         return (operatorEnum == OperatorEnum.COMMA) || (operatorEnum == OperatorEnum.HOOK) || (operatorEnum == OperatorEnum.COLON);
     }
@@ -205,7 +203,7 @@ public class EvaluationUtils
         case ORASSIGN: // "|"
         case XORASSIGN: // "^"
         case REMASSIGN: // "%"
-            return (value instanceof Number) && value.toString().equals(NAN);
+            return isNaNValue(value);
         default:
         }
         return false;
@@ -221,7 +219,22 @@ public class EvaluationUtils
     {
         if ((number == null) || (!(number instanceof Number || number instanceof Boolean)))
             return true;
-        return number.toString().equals(NAN);
+        return isNaNValue(number);
+    }
+
+    /**
+     * Returns flag true if value is a floating point number with value NaN.
+     * Only Double and Float values can be NaN, so no conversion to text is needed.
+     * @param value Object value
+     * @return Flag set true to indicate not a number
+     */
+    public static boolean isNaNValue(Object value)
+    {
+        if (value instanceof Double)
+            return ((Double)value).isNaN();
+        if (value instanceof Float)
+            return ((Float)value).isNaN();
+        return false;
     }
 
 }
@@ -0,0 +1,106 @@
+/** Copyright 2026 TAQ contributors
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License. */
+package au.com.cybersearch2.taq.helper;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.NumberFormat;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * FormatCache
+ * Number and currency formats cached by locale for the current thread. The platform factory methods
+ * which create these formats are slow, while the formats themselves are not thread safe, so each
+ * thread keeps its own instances. A cached format is shared by all callers on the same thread and
+ * must not be modified.
+ */
+public final class FormatCache
+{
+    /** Cache of current thread */
+    private static final ThreadLocal<FormatCache> threadCache = ThreadLocal.withInitial(FormatCache::new);
+
+    /** General purpose number formats referenced by locale */
+    private final Map<Locale, NumberFormat> numberFormatMap;
+    /** Currency formats referenced by locale */
+    private final Map<Locale, DecimalFormat> currencyFormatMap;
+    /** Currency formats which show the currency code, referenced by currency then locale */
+    private final Map<Currency, Map<Locale, DecimalFormat>> currencyCodeFormatMap;
+    /** Decimal format symbols referenced by locale */
+    private final Map<Locale, DecimalFormatSymbols> symbolsMap;
+
+    /**
+     * Construct FormatCache object
+     */
+    private FormatCache()
+    {
+        numberFormatMap = new HashMap<>();
+        currencyFormatMap = new HashMap<>();
+        currencyCodeFormatMap = new HashMap<>();
+        symbolsMap = new HashMap<>();
+    }
+
+    /**
+     * Returns general purpose number format for given locale
+     * @param locale Locale
+     * @return NumberFormat object
+     * @see NumberFormat#getInstance(Locale)
+     */
+    public static NumberFormat getNumberFormat(Locale locale)
+    {
+        return threadCache.get().numberFormatMap.computeIfAbsent(locale, key -> NumberFormat.getInstance(key));
+    }
+
+    /**
+     * Returns currency format for given locale
+     * @param locale Locale
+     * @return DecimalFormat object
+     * @see NumberFormat#getCurrencyInstance(Locale)
+     */
+    public static DecimalFormat getCurrencyFormat(Locale locale)
+    {
+        return threadCache.get().currencyFormatMap.computeIfAbsent(locale, key -> (DecimalFormat)NumberFormat.getCurrencyInstance(key));
+    }
+
+    /**
+     * Returns currency format for given locale which shows the code of given currency in place of the currency symbol
+     * @param locale Locale
+     * @param currency Currency
+     * @return DecimalFormat object
+     */
+    public static DecimalFormat getCurrencyCodeFormat(Locale locale, Currency currency)
+    {
+        Map<Locale, DecimalFormat> formatMap = 
+            threadCache.get().currencyCodeFormatMap.computeIfAbsent(currency, key -> new HashMap<>());
+        return formatMap.computeIfAbsent(locale, key -> {
+            DecimalFormat numberFormat = (DecimalFormat)NumberFormat.getCurrencyInstance(key);
+            DecimalFormatSymbols symbols = new DecimalFormatSymbols(key);
+            symbols.setCurrencySymbol(currency.getCurrencyCode());
+            numberFormat.setDecimalFormatSymbols(symbols);
+            return numberFormat;
+        });
+    }
+
+    /**
+     * Returns decimal format symbols for given locale
+     * @param locale Locale
+     * @return DecimalFormatSymbols object
+     */
+    public static DecimalFormatSymbols getDecimalFormatSymbols(Locale locale)
+    {
+        return threadCache.get().symbolsMap.computeIfAbsent(locale, key -> new DecimalFormatSymbols(key));
+    }
+}
@@ -16,7 +16,6 @@ package au.com.cybersearch2.taq.helper;
 import java.math.BigDecimal;
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
-import java.text.NumberFormat;
 import java.text.ParseException;
 import java.util.Currency;
 import java.util.Locale;
@@ -83,7 +82,7 @@ public class LocaleCurrency
     public BigDecimal parse(String currencyAsText)
     {
     	String originalCurrencyAsText = currencyAsText;
-    	DecimalFormat decformat = (DecimalFormat)NumberFormat.getCurrencyInstance(locale);
+    	DecimalFormat decformat = FormatCache.getCurrencyFormat(locale);
     	DecimalFormatSymbols symbols = decformat.getDecimalFormatSymbols();
     	// Strip off prefix and suffix leaving just digits and separators, if any
     	CurrencyResult stripResult = stripCurrency(currencyAsText, symbols);
@@ -241,11 +240,7 @@ public class LocaleCurrency
      */
     public String format(Object amount)
     {
-    	DecimalFormat numberFormat = (DecimalFormat)NumberFormat.getCurrencyInstance(locale);
-    	DecimalFormatSymbols symbols = new DecimalFormatSymbols(locale);
-    	symbols.setCurrencySymbol(currency.getCurrencyCode());
-    	numberFormat.setDecimalFormatSymbols(symbols);
-    	return numberFormat.format(amount);
+    	return FormatCache.getCurrencyCodeFormat(locale, currency).format(amount);
     }
 
     /**
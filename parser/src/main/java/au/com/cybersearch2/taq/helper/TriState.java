@@ -0,0 +1,57 @@
+/** Copyright 2026 TAQ contributors
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License. */
+package au.com.cybersearch2.taq.helper;
+
+/**
+ * TriState
+ * Truth value of an operand, as tested by short circuit and criterion logic.
+ * Boolean values, and the strings "true" and "false", have a truth value. Number operands
+ * also have one, which is false for zero and true otherwise, except NaN is unknown, but it
+ * does not cause a short circuit as numbers are not operands of logical operators.
+ */
+public enum TriState 
+{
+	TRUE,    // Value is true
+	FALSE,   // Value is false
+	UNKNOWN; // Value is empty, NaN or has no truth value
+
+	/**
+	 * Returns truth value of given object without converting it to text
+	 * @param value Object, may be null
+	 * @return TriState
+	 */
+	public static TriState of(Object value)
+	{
+		if (value instanceof Boolean)
+			return of(((Boolean)value).booleanValue());
+		if (value instanceof String)
+		{
+			if ("true".equals(value))
+				return TRUE;
+			if ("false".equals(value))
+				return FALSE;
+		}
+		return UNKNOWN;
+	}
+
+	/**
+	 * Returns truth value of given primitive boolean
+	 * @param value boolean
+	 * @return TriState
+	 */
+	public static TriState of(boolean value)
+	{
+		return value ? TRUE : FALSE;
+	}
+}
@@ -40,4 +40,11 @@ public interface AxiomSource
 	 * @return Archetype for axiom
 	 */
 	Archetype<Axiom,Term> getArchetype();
+	/**
+	 * Returns version of the axiom sequence, which changes whenever an axiom is added, removed or replaced
+	 * @return version or -1 if changes cannot be detected
+	 */
+	default int getVersion() {
+		return -1;
+	}
 }
@@ -15,6 +15,7 @@ package au.com.cybersearch2.taq.interfaces;
 
 import au.com.cybersearch2.taq.debug.ExecutionContext;
 import au.com.cybersearch2.taq.helper.EvaluationStatus;
+import au.com.cybersearch2.taq.helper.TriState;
 import au.com.cybersearch2.taq.language.IOperand;
 import au.com.cybersearch2.taq.language.Parameter;
 import au.com.cybersearch2.taq.language.QualifiedName;
@@ -323,6 +324,34 @@ public abstract class Operand extends Parameter implements IOperand, ExecutionTr
 		return false;
 	}
 
+	/**
+	 * Returns truth value of this operand, which short circuit and criterion logic
+	 * tests in place of comparing the value as text.
+	 *
+	 * @return TriState
+	 */
+	public TriState getTruthValue() {
+		return TriState.of(getValue());
+	}
+
+	/**
+	 * Returns flag set true if this operand has truth value TRUE
+	 *
+	 * @return boolean
+	 */
+	public boolean isTrue() {
+		return getTruthValue() == TriState.TRUE;
+	}
+
+	/**
+	 * Returns flag set true if this operand has truth value FALSE
+	 *
+	 * @return boolean
+	 */
+	public boolean isFalse() {
+		return getTruthValue() == TriState.FALSE;
+	}
+
 	/**
 	 * Delegate to perform actual unification with other Term. If successful, two
 	 * terms will be equivalent.
@@ -15,6 +15,7 @@ package au.com.cybersearch2.taq.interfaces;
 
 import au.com.cybersearch2.taq.language.OperatorEnum;
 import au.com.cybersearch2.taq.language.Term;
+import au.com.cybersearch2.taq.operator.OperatorValidity;
 
 /**
  * Operator
@@ -59,6 +60,51 @@ public interface Operator
      */
      OperatorEnum[] getConcatenateOps();
 
+    /**
+     * Returns flag set true if this Term is a valid right operand for given binary operation
+     * @param operatorEnum Operator enum
+     * @return boolean
+     */
+    default boolean isRightBinaryOp(OperatorEnum operatorEnum) {
+        return OperatorValidity.getValidity(this).isRightBinaryOp(operatorEnum);
+    }
+
+    /**
+     * Returns flag set true if this Term is a valid right operand for given unary operation
+     * @param operatorEnum Operator enum
+     * @return boolean
+     */
+    default boolean isRightUnaryOp(OperatorEnum operatorEnum) {
+        return OperatorValidity.getValidity(this).isRightUnaryOp(operatorEnum);
+    }
+
+    /**
+     * Returns flag set true if this Term is a valid left operand for given binary operation
+     * @param operatorEnum Operator enum
+     * @return boolean
+     */
+    default boolean isLeftBinaryOp(OperatorEnum operatorEnum) {
+        return OperatorValidity.getValidity(this).isLeftBinaryOp(operatorEnum);
+    }
+
+    /**
+     * Returns flag set true if this Term is a valid left operand for given unary operation
+     * @param operatorEnum Operator enum
+     * @return boolean
+     */
+    default boolean isLeftUnaryOp(OperatorEnum operatorEnum) {
+        return OperatorValidity.getValidity(this).isLeftUnaryOp(operatorEnum);
+    }
+
+    /**
+     * Returns flag set true if this Term is a valid concatenate operand for given operation
+     * @param operatorEnum Operator enum
+     * @return boolean
+     */
+    default boolean isConcatenateOp(OperatorEnum operatorEnum) {
+        return OperatorValidity.getValidity(this).isConcatenateOp(operatorEnum);
+    }
+
     /**
      * Evaluate a unary expression 
      * @param operatorEnum2 OperatorEnum for one of +, -, ~. ++ or -- 
@@ -15,6 +15,7 @@ package au.com.cybersearch2.taq.interfaces;
 
 import java.util.Iterator;
 
+import au.com.cybersearch2.taq.axiom.AxiomSelection;
 import au.com.cybersearch2.taq.expression.ExpressionException;
 import au.com.cybersearch2.taq.pattern.Axiom;
 import au.com.cybersearch2.taq.pattern.AxiomArchetype;
@@ -49,6 +50,17 @@ public interface ResourceProvider
      */
     Iterator<Axiom> iterator(AxiomArchetype archetype);
 
+    /**
+     * Returns axiom iterator which may skip axioms not satisfying given selection
+     * and omit terms not named in it. The default ignores the selection.
+     * @param archetype Axiom archetype to define axiom name and term names
+     * @param selection Criteria and term names used by the query
+     * @return Axiom iterator
+     */
+    default Iterator<Axiom> iterator(AxiomArchetype archetype, AxiomSelection selection) {
+    	return iterator(archetype);
+    }
+
     /** 
      * Returns listener to notify when an axiom is passed to this provider 
      * @param axiomName Axiom key
@@ -81,4 +93,13 @@ public interface ResourceProvider
     	return false;
 	}
 
+    /**
+     * Returns version of the axioms of given archetype, which changes whenever an axiom is added, removed or replaced
+     * @param archetype Axiom archetype
+     * @return version or -1 if changes cannot be detected
+     */
+    default int getVersion(AxiomArchetype archetype) {
+    	return -1;
+    }
+
 }
@@ -0,0 +1,189 @@
+/** Copyright 2026 TAQ contributors
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License. */
+package au.com.cybersearch2.taq.list;
+
+import au.com.cybersearch2.taq.expression.ExpressionException;
+import au.com.cybersearch2.taq.helper.DoubleKernels;
+import au.com.cybersearch2.taq.helper.EvaluationStatus;
+import au.com.cybersearch2.taq.interfaces.ItemList;
+import au.com.cybersearch2.taq.interfaces.Operand;
+import au.com.cybersearch2.taq.language.QualifiedName;
+
+/**
+ * ListKernel
+ * Operand to evaluate a numeric reduction of a list in one pass, for example "dimensions.sum()".
+ * List items are copied to a double array which is retained for reuse by subsequent evaluations.
+ * Items of a dynamic list are evaluated first.
+ * @see DoubleKernels
+ */
+public class ListKernel extends ListLength
+{
+    /** Kernel functions available on numeric lists */
+    public enum Kernel
+    {
+        sum,
+        min,
+        max,
+        dot;
+
+        /**
+         * Returns number of list arguments
+         * @return int
+         */
+        public int getArity()
+        {
+            return this == dot ? 1 : 0;
+        }
+    }
+
+    /** Kernel function */
+    private final Kernel kernel;
+    /** List argument, if the kernel function takes one */
+    private ListLength argument;
+    /** Values of list items */
+    private double[] values;
+    /** Values of list argument items */
+    private double[] argumentValues;
+
+	/**
+	 * Construct a ListKernel object
+	 * @param qname Qualified name of Variable
+	 * @param listName Qualified list name
+	 * @param kernel Kernel function
+	 */
+	public ListKernel(QualifiedName qname, QualifiedName listName, Kernel kernel) 
+	{
+		super(qname, listName);
+		this.kernel = kernel;
+		values = new double[0];
+	}
+
+	/**
+	 * Construct a ListKernel object
+	 * @param qname Qualified name of Variable
+	 * @param subject Operand containing a list value
+	 * @param kernel Kernel function
+	 */
+	public ListKernel(QualifiedName qname, Operand subject, Kernel kernel) 
+	{
+		super(qname, subject);
+		this.kernel = kernel;
+		values = new double[0];
+	}
+
+	/**
+	 * Set list argument
+	 * @param argument List operand which resolves the argument list
+	 */
+	public void setArgument(ListLength argument)
+	{
+		this.argument = argument;
+		argumentValues = new double[0];
+	}
+
+	/**
+	 * Returns kernel function for given name
+	 * @param name Function name
+	 * @return Kernel object or null if name is not a kernel function
+	 */
+	public static Kernel getKernel(String name)
+	{
+		for (Kernel kernel: Kernel.values())
+			if (kernel.name().equals(name))
+				return kernel;
+		return null;
+	}
+
+	/**
+	 * Evaluate kernel function. 
+	 * @param id Identity of caller, which must be provided for backup()
+	 * @return Flag set true if evaluation is to continue
+	 */
+	@Override
+	public EvaluationStatus evaluate(int id) 
+	{
+		resolveItemList(id);
+		int length = itemList != null ? itemList.getLength() : 0;
+		values = load(itemList, values, length);
+		double result;
+		switch (kernel)
+		{
+		case sum: result = DoubleKernels.sum(values, length); break;
+		case min: result = DoubleKernels.min(values, length); break;
+		case max: result = DoubleKernels.max(values, length); break;
+		case dot:
+			if (argument == null)
+				throw new ExpressionException("List function " + kernel + "() requires a list argument");
+			argument.resolveItemList(id);
+			ItemList<?> argumentList = argument.itemList;
+			int argumentLength = argumentList != null ? argumentList.getLength() : 0;
+			if (argumentLength != length)
+				throw new ExpressionException("List function " + kernel + "() requires lists of equal length");
+			argumentValues = load(argumentList, argumentValues, length);
+			result = DoubleKernels.dot(values, argumentValues, length);
+			break;
+		default:
+			result = Double.NaN;
+		}
+		setValue(Double.valueOf(result));
+		this.id = id;
+		return EvaluationStatus.COMPLETE;
+	}
+
+    @Override
+	public boolean backup(int id) {
+		boolean backed = super.backup(id);
+        if ((itemList != null) && itemList.isDynamic())
+            itemList.backup(true);
+		if (argument != null) {
+			argument.backup(id);
+	        if ((argument.itemList != null) && argument.itemList.isDynamic())
+	        	argument.itemList.backup(true);
+		}
+        return backed;
+	}
+
+	@Override
+	public String toString() {
+		return empty ? (listName + "." + kernel + "()") : getValue().toString();
+	}
+
+	/**
+	 * Copy numeric items of list to array
+	 * @param list Item list, may be null if not yet available
+	 * @param array Array to reuse if large enough
+	 * @param length Number of items
+	 * @return array containing item values
+	 */
+	private double[] load(ItemList<?> list, double[] array, int length)
+	{
+		if (array.length < length)
+			array = new double[length];
+		if (list == null)
+			return array;
+        if (list.isDynamic())
+            list.evaluate(context);
+		// Access items by index as iterators of some lists copy all items
+		ListIndex listIndex = new ListIndex(0);
+		for (int index = 0; index < length; ++index)
+		{
+			Object item = list.getItem(listIndex);
+			if (!(item instanceof Number))
+				throw new ExpressionException("List \"" + list.getName() + "\" item " + index + " is not a number");
+			array[index] = ((Number)item).doubleValue();
+			listIndex.incrementIndex();
+		}
+		return array;
+	}
+}
@@ -72,6 +72,18 @@ public class ListLength extends Variable implements ParserRunner, LocaleListener
 	 */
 	@Override
 	public EvaluationStatus evaluate(int id) 
+	{
+		resolveItemList(id);
+		setValue(Integer.valueOf(itemList != null ? itemList.getLength() : 0));
+		this.id = id;
+		return EvaluationStatus.COMPLETE;
+	}
+	
+	/**
+	 * Set list object from context or operand, if either applies
+	 * @param id Identity of caller, which must be provided for backup()
+	 */
+	protected void resolveItemList(int id) 
 	{
         if (contextListHandler != null) {
         	Operand dynamicOperand = contextListHandler.getDynamicOperand();
@@ -87,9 +99,6 @@ public class ListLength extends Variable implements ParserRunner, LocaleListener
 	        if ((itemList == null) || (itemList instanceof Null))
                 throw new ExpressionException("List variable \"" + itemListOperand.getName() + "\" is not found");
 	    }
-		setValue(Integer.valueOf(itemList != null ? itemList.getLength() : 0));
-		this.id = id;
-		return EvaluationStatus.COMPLETE;
 	}
 	
     @Override
@@ -251,6 +251,9 @@ public class BigDecimalOperator implements Operator, LocaleListener
             return (BigDecimal)(object);
         else if (clazz == String.class)
             return bigDecimalTrait.parseValue(object.toString());
+        else if ((clazz == Long.class) || (clazz == Integer.class))
+            // Same value and scale as parsing the text of the integer
+            return BigDecimal.valueOf(((Number)object).longValue());
         else
             try
             {
@@ -75,6 +75,10 @@ public class DelegateOperator implements Operator
     /** Current operator DelegateType */
     protected DelegateType delegateType;
     protected boolean isProxyAssigned;
+    /** Value class last delegated or null if delegate type set directly */
+    private Class<?> delegateClass;
+    /** Validity table of proxy or null if proxy is itself a delegate */
+    private OperatorValidity validity;
 
     /**
      * Construct DelegateOperator object
@@ -83,6 +87,7 @@ public class DelegateOperator implements Operator
     {   // Default to type ASSIGN_ONLY
         delegateType = DelegateType.ASSIGN_ONLY;
         proxy = operatorInstance(DelegateType.ASSIGN_ONLY);
+        bindValidity();
     }
     
     /**
@@ -91,6 +96,10 @@ public class DelegateOperator implements Operator
      */
     public void setDelegate(Class<?> clazz)
     {
+        // Values assigned to an operand are usually all of the one class
+        if (clazz == delegateClass)
+            return;
+        delegateClass = clazz;
         DelegateType newDelegateType = delegateTypeMap.get(clazz);
         if (newDelegateType == null)
             newDelegateType = DelegateType.ASSIGN_ONLY;
@@ -98,7 +107,10 @@ public class DelegateOperator implements Operator
         {
             delegateType = newDelegateType;
             if (!isProxyAssigned)
+            {
                 proxy = operatorInstance(newDelegateType);
+                bindValidity();
+            }
         }
     }
 
@@ -114,6 +126,7 @@ public class DelegateOperator implements Operator
     {
         this.proxy = proxy;
         isProxyAssigned = true;
+        bindValidity();
     }
     
     /**
@@ -139,7 +152,9 @@ public class DelegateOperator implements Operator
     public void setDelegateType(DelegateType delegateType)
     {
         this.delegateType = delegateType;
+        delegateClass = null;
         proxy = operatorInstance(delegateType);
+        bindValidity();
     }
     
     /**
@@ -197,6 +212,36 @@ public class DelegateOperator implements Operator
         return proxy.getConcatenateOps();
     }
 
+    @Override
+    public boolean isRightBinaryOp(OperatorEnum operatorEnum)
+    {
+        return validity != null ? validity.isRightBinaryOp(operatorEnum) : proxy.isRightBinaryOp(operatorEnum);
+    }
+
+    @Override
+    public boolean isRightUnaryOp(OperatorEnum operatorEnum)
+    {
+        return validity != null ? validity.isRightUnaryOp(operatorEnum) : proxy.isRightUnaryOp(operatorEnum);
+    }
+
+    @Override
+    public boolean isLeftBinaryOp(OperatorEnum operatorEnum)
+    {
+        return validity != null ? validity.isLeftBinaryOp(operatorEnum) : proxy.isLeftBinaryOp(operatorEnum);
+    }
+
+    @Override
+    public boolean isLeftUnaryOp(OperatorEnum operatorEnum)
+    {
+        return validity != null ? validity.isLeftUnaryOp(operatorEnum) : proxy.isLeftUnaryOp(operatorEnum);
+    }
+
+    @Override
+    public boolean isConcatenateOp(OperatorEnum operatorEnum)
+    {
+        return validity != null ? validity.isConcatenateOp(operatorEnum) : proxy.isConcatenateOp(operatorEnum);
+    }
+
     @Override
     public Object numberEvaluation(OperatorEnum operatorEnum2, Term rightTerm) 
     {
@@ -217,6 +262,14 @@ public class DelegateOperator implements Operator
         return proxy.booleanEvaluation(leftTerm, operatorEnum2, rightTerm);
     }
 
+    /**
+     * Bind validity table of proxy, which a proxy that is itself a delegate does not have
+     */
+    private void bindValidity()
+    {
+        validity = proxy instanceof DelegateOperator ? null : OperatorValidity.getValidity(proxy);
+    }
+
     /**
      * Returns new instance of operator for given delegate type
      * @param delegateType Delegate type
@@ -43,6 +43,18 @@ public class DoubleOperator implements Operator, LocaleListener
         doubleTrait = new DoubleTrait();
     }
 
+    /**
+     * Returns value of given term as double, through the typed accessor of a double operand
+     * @param term Term
+     * @return double
+     */
+    private double doubleValue(Term term)
+    {
+        if (term instanceof DoubleOperand)
+            return ((DoubleOperand)term).getDouble();
+        return convertObject(term.getValue(), term.getValueClass());
+    }
+
     /**
      * Convert value to double, if not already of this type
      * @param object Value to convert
@@ -176,8 +188,8 @@ public class DoubleOperator implements Operator, LocaleListener
     @Override
     public Number numberEvaluation(Term leftTerm, OperatorEnum operatorEnum2, Term rightTerm) 
     {
-        double right = convertObject(rightTerm.getValue(), rightTerm.getValueClass());
-        double left = convertObject(leftTerm.getValue(), leftTerm.getValueClass());
+        double right = doubleValue(rightTerm);
+        double left = doubleValue(leftTerm);
         double calc = 0;
         switch (operatorEnum2)
         {
@@ -199,8 +211,8 @@ public class DoubleOperator implements Operator, LocaleListener
     {
     	if ((leftTerm.getValueClass() == Boolean.class) || (rightTerm.getValueClass() == Boolean.class))
     		return false;
-        double right = convertObject(rightTerm.getValue(), rightTerm.getValueClass());
-        double left = convertObject(leftTerm.getValue(), leftTerm.getValueClass());
+        double right = doubleValue(rightTerm);
+        double left = doubleValue(leftTerm);
         boolean calc = false;
         switch (operatorEnum2)
         {
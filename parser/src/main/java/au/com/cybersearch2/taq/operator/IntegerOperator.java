@@ -198,8 +198,8 @@ public class IntegerOperator implements Operator, LocaleListener
     @Override
     public Number numberEvaluation(Term leftTerm, OperatorEnum operatorEnum2, Term rightTerm) 
     {
-        long right = convertObject(rightTerm.getValue(), rightTerm.getValueClass());
-        long left = convertObject(leftTerm.getValue(), leftTerm.getValueClass());
+        long right = longValue(rightTerm);
+        long left = longValue(leftTerm);
         long calc = 0;
         switch (operatorEnum2)
         {
@@ -235,8 +235,8 @@ public class IntegerOperator implements Operator, LocaleListener
     {
     	if ((leftTerm.getValueClass() == Boolean.class) || (rightTerm.getValueClass() == Boolean.class))
     		return false;
-        long right = convertObject(rightTerm.getValue(), rightTerm.getValueClass());
-        long left = convertObject(leftTerm.getValue(), leftTerm.getValueClass());
+        long right = longValue(rightTerm);
+        long left = longValue(leftTerm);
         boolean calc = false;
         switch (operatorEnum2)
         {
@@ -251,6 +251,18 @@ public class IntegerOperator implements Operator, LocaleListener
         return calc;
     }
 
+    /**
+     * Returns value of given term as long, through the typed accessor of an integer operand
+     * @param term Term
+     * @return long
+     */
+    private long longValue(Term term)
+    {
+        if (term instanceof IntegerOperand)
+            return ((IntegerOperand)term).getLong();
+        return convertObject(term.getValue(), term.getValueClass());
+    }
+
     /**
      * Convert value to long, if not already of this type
      * @param object Value to convert
@@ -0,0 +1,139 @@
+/** Copyright 2026 TAQ contributors
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License. */
+package au.com.cybersearch2.taq.operator;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import au.com.cybersearch2.taq.interfaces.Operator;
+import au.com.cybersearch2.taq.language.OperatorEnum;
+
+/**
+ * OperatorValidity
+ * Table of operations an Operator permits, resolved once for each Operator class from the
+ * OperatorEnum arrays the class returns. Checking validity is then a single set membership
+ * test instead of a linear scan of a freshly allocated array.
+ */
+public class OperatorValidity
+{
+    /** Validity tables referenced by operator class */
+    private static final Map<Class<?>, OperatorValidity> validityMap = new ConcurrentHashMap<>();
+
+    /** Operations for which the operator is a valid right binary operand */
+    private final Set<OperatorEnum> rightBinaryOps;
+    /** Operations for which the operator is a valid right unary operand */
+    private final Set<OperatorEnum> rightUnaryOps;
+    /** Operations for which the operator is a valid left binary operand */
+    private final Set<OperatorEnum> leftBinaryOps;
+    /** Operations for which the operator is a valid left unary operand */
+    private final Set<OperatorEnum> leftUnaryOps;
+    /** Operations for which the operator is a valid concatenate operand */
+    private final Set<OperatorEnum> concatenateOps;
+
+    /**
+     * Construct OperatorValidity object
+     * @param operator Operator from which to obtain operations
+     */
+    private OperatorValidity(Operator operator)
+    {
+        rightBinaryOps = toSet(operator.getRightBinaryOps());
+        rightUnaryOps = toSet(operator.getRightUnaryOps());
+        leftBinaryOps = toSet(operator.getLeftBinaryOps());
+        leftUnaryOps = toSet(operator.getLeftUnaryOps());
+        concatenateOps = toSet(operator.getConcatenateOps());
+    }
+
+    /**
+     * Returns validity table for class of given operator. The operations returned
+     * by an Operator class must not vary between instances. A DelegateOperator
+     * is not eligible as its operations are those of its proxy.
+     * @param operator Operator
+     * @return OperatorValidity object
+     */
+    public static OperatorValidity getValidity(Operator operator)
+    {
+        if (operator instanceof DelegateOperator)
+            throw new IllegalArgumentException("Delegate operator does not have fixed operations");
+        OperatorValidity validity = validityMap.get(operator.getClass());
+        if (validity == null)
+            validity = validityMap.computeIfAbsent(operator.getClass(), clazz -> new OperatorValidity(operator));
+        return validity;
+    }
+
+    /**
+     * Returns flag set true if operator is a valid right binary operand for given operation
+     * @param operatorEnum Operator enum
+     * @return boolean
+     */
+    public boolean isRightBinaryOp(OperatorEnum operatorEnum)
+    {
+        return rightBinaryOps.contains(operatorEnum);
+    }
+
+    /**
+     * Returns flag set true if operator is a valid right unary operand for given operation
+     * @param operatorEnum Operator enum
+     * @return boolean
+     */
+    public boolean isRightUnaryOp(OperatorEnum operatorEnum)
+    {
+        return rightUnaryOps.contains(operatorEnum);
+    }
+
+    /**
+     * Returns flag set true if operator is a valid left binary operand for given operation
+     * @param operatorEnum Operator enum
+     * @return boolean
+     */
+    public boolean isLeftBinaryOp(OperatorEnum operatorEnum)
+    {
+        return leftBinaryOps.contains(operatorEnum);
+    }
+
+    /**
+     * Returns flag set true if operator is a valid left unary operand for given operation
+     * @param operatorEnum Operator enum
+     * @return boolean
+     */
+    public boolean isLeftUnaryOp(OperatorEnum operatorEnum)
+    {
+        return leftUnaryOps.contains(operatorEnum);
+    }
+
+    /**
+     * Returns flag set true if operator is a valid concatenate operand for given operation
+     * @param operatorEnum Operator enum
+     * @return boolean
+     */
+    public boolean isConcatenateOp(OperatorEnum operatorEnum)
+    {
+        return concatenateOps.contains(operatorEnum);
+    }
+
+    /**
+     * Returns set containing given operations
+     * @param operatorEnums Array of Operator enums
+     * @return EnumSet
+     */
+    private static Set<OperatorEnum> toSet(OperatorEnum[] operatorEnums)
+    {
+        Set<OperatorEnum> operatorSet = EnumSet.noneOf(OperatorEnum.class);
+        if (operatorEnums != null)
+            for (OperatorEnum operatorEnum: operatorEnums)
+                operatorSet.add(operatorEnum);
+        return operatorSet;
+    }
+}
@@ -18,8 +18,10 @@ import java.io.ObjectInputStream;
 import java.io.ObjectStreamField;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
@@ -33,6 +35,7 @@ import au.com.cybersearch2.taq.interfaces.Operand;
 import au.com.cybersearch2.taq.interfaces.OperandVisitor;
 import au.com.cybersearch2.taq.language.IOperand;
 import au.com.cybersearch2.taq.language.ITemplate;
+import au.com.cybersearch2.taq.language.InternedName;
 import au.com.cybersearch2.taq.language.Parameter;
 import au.com.cybersearch2.taq.language.QualifiedName;
 import au.com.cybersearch2.taq.language.Term;
@@ -75,6 +78,8 @@ public class Template extends TermList<Operand> implements ITemplate {
 	private QualifiedName qname;
 	/** Key to match with Axiom name for unification */
 	private String key;
+	/** Interned global name for the key, cached until the key changes */
+	private transient InternedName internedKey;
 	/** Identity used in backup to allow partial backup to last unifying agent */
 	private int id;
 	/** Parent identity or 0 if none */
@@ -97,6 +102,12 @@ public class Template extends TermList<Operand> implements ITemplate {
 	private transient CallContext tailCallContext;
 	/** Template archetype - attribute avoids casting to get super archetype */
 	private TemplateArchetype templateArchetype;
+	/** Unifier reset for each axiom to avoid allocation when scanning axioms */
+	private transient Unifier unifier;
+	/** Walker to visit operand trees during unification */
+	private transient OperandWalker unifyWalker;
+	/** Unify plans referenced by the archetype term mapping for which each was compiled */
+	private transient Map<int[], UnifyPlan> unifyPlanMap;
 
 	/**
 	 * Construct a replicate Template object. The new template has a unique id and
@@ -593,6 +604,18 @@ public class Template extends TermList<Operand> implements ITemplate {
 	@Override
 	public void setKey(String value) {
 		key = value;
+		internedKey = null;
+	}
+
+	/**
+	 * Returns key parsed as a global name and interned, so it can reference maps keyed by interned name
+	 * 
+	 * @return InternedName object
+	 */
+	public InternedName getInternedKey() {
+		if (internedKey == null)
+			internedKey = QualifiedName.parseGlobalName(key).intern();
+		return internedKey;
 	}
 
 	/**
@@ -780,11 +803,37 @@ public class Template extends TermList<Operand> implements ITemplate {
 	 * @return Flag set true if unification completed successfully
 	 */
 	protected boolean unify(TermList<Term> axiom, Solution solution, int[] termMapping, boolean caseInsensitive) {
-		OperandWalker walker = new OperandWalker(termList);
-		// Create list of term pairs to unify
-		Unifier unifier = new Unifier(this, axiom, termMapping, solution);
+		if (unifier == null) {
+			unifier = new Unifier(this);
+			unifyWalker = new OperandWalker(EMPTY_OPERAND_LIST);
+		}
+		unifier.reset(axiom, termMapping, solution);
 		unifier.setCaseInsensitive(caseInsensitive);
-		return walker.visitAllNodes(unifier);
+		if (!caseInsensitive && (termMapping.length > 0))
+			return unifier.unify(getUnifyPlan(termMapping));
+		// Visit terms in place rather than walk a copy of the term list
+		for (int i = 0; i < termList.size(); ++i)
+			if (!unifyWalker.visit(termList.get(i), unifier, 1))
+				return false;
+		return true;
+	}
+
+	/**
+	 * Returns unify plan for given term mapping, compiling it on first use or if terms have been added
+	 * 
+	 * @param termMapping Term mapping cached by template archetype
+	 * @return UnifyPlan object
+	 */
+	private UnifyPlan getUnifyPlan(int[] termMapping) {
+		if (unifyPlanMap == null)
+			// Term mappings are cached, so the array identifies the axiom archetype
+			unifyPlanMap = new IdentityHashMap<>();
+		UnifyPlan unifyPlan = unifyPlanMap.get(termMapping);
+		if ((unifyPlan == null) || !unifyPlan.isValid(this)) {
+			unifyPlan = new UnifyPlan(this, termMapping);
+			unifyPlanMap.put(termMapping, unifyPlan);
+		}
+		return unifyPlan;
 	}
 
 	private int getParentId() {
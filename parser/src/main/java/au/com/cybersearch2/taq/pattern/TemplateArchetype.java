@@ -21,6 +21,7 @@ import java.util.Map;
 import au.com.cybersearch2.taq.interfaces.Operand;
 import au.com.cybersearch2.taq.interfaces.StructureType;
 import au.com.cybersearch2.taq.interfaces.TermListManager;
+import au.com.cybersearch2.taq.language.InternedName;
 import au.com.cybersearch2.taq.language.LiteralType;
 import au.com.cybersearch2.taq.language.OperandType;
 import au.com.cybersearch2.taq.language.QualifiedName;
@@ -36,7 +37,8 @@ public class TemplateArchetype extends Archetype<Template, Operand> implements S
 {
     private static final long serialVersionUID = 5322860830312952352L;
     
-    transient protected Map<QualifiedName,int[]> termMappingMap;
+    /** Term mappings referenced by interned name of pair archetype */
+    transient protected Map<InternedName,int[]> termMappingMap;
 	private OperandType operandType;
    
     /**
@@ -49,7 +51,7 @@ public class TemplateArchetype extends Archetype<Template, Operand> implements S
         setDuplicateTermNames(true);
         if (structureName.getTemplate().isEmpty())
             throw new IllegalArgumentException("Template qualified name must have a template part");
-        termMappingMap = new HashMap<QualifiedName,int[]>();
+        termMappingMap = new HashMap<InternedName,int[]>();
         
     }
 
@@ -74,7 +76,7 @@ public class TemplateArchetype extends Archetype<Template, Operand> implements S
         if (pairArchetype.getTermCount() == 0)
             // Return empty mapping if pair archetype is empty - not expected to happen
             return new int[]{};
-        QualifiedName pairQName = pairArchetype.getQualifiedName();
+        InternedName pairQName = pairArchetype.getQualifiedName().intern();
         int[] termMapping = termMappingMap.get(pairQName);
         if (termMapping == null)
         {
@@ -32,6 +32,7 @@ import au.com.cybersearch2.taq.query.Solution;
  * template context, the term is selected from a supplied axiom, otherwise the
  * operand is unified with a term selected from a solution axiom, if available.
  * Supports variable initialization which has special rules.
+ * A Unifier may be reset for each axiom so one object serves all unifications of a template.
  * 
  * @author Andrew Bowley 9May,2017
  */
@@ -43,12 +44,14 @@ public class Unifier implements OperandVisitor {
 	/** The template containing operands to be unified */
 	private final Template template;
 	/** Int array mapping operand indexes to name=matched axiom indexes */
-	private final int[] termMapping;
+	private int[] termMapping;
 	/** Axiom reduced to a TermList object */
-	private final TermList<Term> axiom;
+	private TermList<Term> axiom;
 
 	/** Optional solution pairer, used if solution keyset is non-empty */
 	private SolutionPairer solutionPairer;
+	/** Solution pairer retained for reuse when this object is reset */
+	private SolutionPairer reusablePairer;
 	/** ID applied upon unification of any operand */
 	private int modificationId;
 	/** Flag set true if unification uses case insensitive text comparison */
@@ -64,12 +67,39 @@ public class Unifier implements OperandVisitor {
 	 * @param solution    Contains result of query up to this stage
 	 */
 	public Unifier(Template template, TermList<Term> axiom, int[] termMapping, Solution solution) {
+		this(template);
+		reset(axiom, termMapping, solution);
+	}
+
+	/**
+	 * Construct Unifier object to be reset before each unification
+	 * 
+	 * @param template    Template performing unification
+	 */
+	public Unifier(Template template) {
 		this.template = template;
+	}
+
+	/**
+	 * Prepare to unify given axiom
+	 * 
+	 * @param axiom       Axiom performing unification
+	 * @param termMapping Int array mapping operand indexes to name-matched axiom
+	 *                    indexes
+	 * @param solution    Contains result of query up to this stage
+	 */
+	public void reset(TermList<Term> axiom, int[] termMapping, Solution solution) {
 		this.axiom = axiom;
 		this.termMapping = termMapping;
 		modificationId = template.getId();
-		if ((solution != null) && (solution.keySet().size() > 0))
-			solutionPairer = template.getSolutionPairer(solution);
+		if ((solution != null) && (solution.keySet().size() > 0)) {
+			if (reusablePairer == null)
+				reusablePairer = template.getSolutionPairer(solution);
+			else
+				reusablePairer.setSolution(solution);
+			solutionPairer = reusablePairer;
+		} else
+			solutionPairer = null;
 	}
 
 	public void setCaseInsensitive(boolean caseInsensitive) {
@@ -102,19 +132,7 @@ public class Unifier implements OperandVisitor {
 				}
 				int pairIndex = termMapping[index];
 				if (pairIndex != -1) {
-					int id = modificationId != 0 ? template.getId() : 0;
-					Term axiomTerm = axiom.getTermByIndex(pairIndex);
-					if (axiomTerm == null) {
-						logger.warn(String.format("Term index %d mapping failed for operand %s", pairIndex,
-								operand.getName()));
-						return false;
-					}
-					if (pairTerms(operand, axiomTerm, id)) {
-						if (axiomTerm.getValueClass() == Blank.class)
-							pairSolution(operand);
-						return true;
-					} else
-						return pairSolution(operand);
+					return pairAxiomTerm(operand, pairIndex);
 				} else if ((operand.getArchetypeIndex() != -1) && pairSolution(operand))
 					// Operand in another template context and solution available for unification
 					return true;
@@ -125,6 +143,47 @@ public class Unifier implements OperandVisitor {
 		return true;
 	}
 
+	/**
+	 * Unify operands according to given plan
+	 * 
+	 * @param unifyPlan Unify instructions compiled for the current term mapping
+	 * @return flag set true if unification succeeded
+	 */
+	public boolean unify(UnifyPlan unifyPlan) {
+		for (int i = 0; i < unifyPlan.size(); ++i) {
+			Operand operand = unifyPlan.getOperand(i);
+			int pairIndex = unifyPlan.getAxiomSlot(i);
+			if (pairIndex == UnifyPlan.SOLUTION)
+				pairSolution(operand);
+			else if (!pairAxiomTerm(operand, pairIndex))
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Unify operand with axiom term at given index, falling back to the solution on mismatch
+	 * 
+	 * @param operand   Operand in template context
+	 * @param pairIndex Axiom term index
+	 * @return flag set true if unification succeeded
+	 */
+	private boolean pairAxiomTerm(Operand operand, int pairIndex) {
+		int id = modificationId != 0 ? template.getId() : 0;
+		Term axiomTerm = axiom.getTermByIndex(pairIndex);
+		if (axiomTerm == null) {
+			logger.warn(String.format("Term index %d mapping failed for operand %s", pairIndex,
+					operand.getName()));
+			return false;
+		}
+		if (pairTerms(operand, axiomTerm, id)) {
+			if (axiomTerm.getValueClass() == Blank.class)
+				pairSolution(operand);
+			return true;
+		} else
+			return pairSolution(operand);
+	}
+
 	private boolean pairSolution(Operand operand) {
 		if ((solutionPairer != null) &&
 		// Operand in another template context and solution available for unification
@@ -0,0 +1,138 @@
+/** Copyright 2026 TAQ contributors
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License. */
+package au.com.cybersearch2.taq.pattern;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.j256.simplelogging.Logger;
+
+import au.com.cybersearch2.taq.expression.Evaluator;
+import au.com.cybersearch2.taq.interfaces.Operand;
+import au.com.cybersearch2.taq.interfaces.TermListManager;
+import au.com.cybersearch2.taq.log.LogManager;
+
+/**
+ * UnifyPlan
+ * Flat sequence of unify instructions compiled from the operand trees of a template for one term mapping.
+ * Each instruction pairs an operand either with an axiom term slot or with the solution. Operands which
+ * take no part in unification are left out, so unification executes in a tight loop instead of
+ * visiting every node of every operand tree.
+ * @see Unifier#unify(UnifyPlan)
+ */
+public class UnifyPlan 
+{
+	/** Slot value of an operand which only pairs with the solution */
+	public static final int SOLUTION = -1;
+
+	/** Logger */
+	private static final Logger logger = LogManager.getLogger(UnifyPlan.class);
+
+	/** Operands to unify in operand tree visit order */
+	private final Operand[] operands;
+	/** Axiom term index for each operand or SOLUTION */
+	private final int[] axiomSlots;
+	/** Template term count when plan was compiled */
+	private final int termCount;
+	/** Template archetype term count when plan was compiled */
+	private final int archetypeTermCount;
+
+	/**
+	 * Construct UnifyPlan object
+	 * @param template Template which owns the operands
+	 * @param termMapping Int array mapping operand indexes to name-matched axiom indexes
+	 */
+	public UnifyPlan(Template template, int[] termMapping)
+	{
+		List<Operand> operandList = new ArrayList<>();
+		List<Integer> slotList = new ArrayList<>();
+		TermListManager archetype = template.getArchetype();
+		OperandWalker walker = new OperandWalker(Template.EMPTY_OPERAND_LIST);
+		termCount = template.getTermCount();
+		archetypeTermCount = archetype.getTermCount();
+		template.forEach(term -> walker.visit(term, (operand, depth) -> {
+			// Mirror the pairing logic of Unifier.next()
+			if (operand.getName().isEmpty() || (operand instanceof Evaluator))
+				return true;
+			int index;
+			if (operand.getArchetypeId() == template.getId())
+				index = operand.getArchetypeIndex();
+			else
+				index = archetype.getIndexForName(operand.getName(), false);
+			if (index != -1) {
+				if (index >= termMapping.length) {
+					logger.warn(
+						String.format("Template index %d exceeds mapping index %d", index, termMapping.length - 1));
+					return true;
+				}
+				int pairIndex = termMapping[index];
+				if (pairIndex != -1) {
+					operandList.add(operand);
+					slotList.add(pairIndex);
+					return true;
+				}
+			}
+			if (operand.getArchetypeIndex() != -1) {
+				// Operand in another template context
+				operandList.add(operand);
+				slotList.add(SOLUTION);
+			}
+			return true;
+		}, 1));
+		operands = operandList.toArray(new Operand[operandList.size()]);
+		axiomSlots = new int[slotList.size()];
+		for (int i = 0; i < axiomSlots.length; ++i)
+			axiomSlots[i] = slotList.get(i);
+	}
+
+	/**
+	 * Returns number of unify instructions
+	 * @return int
+	 */
+	public int size()
+	{
+		return operands.length;
+	}
+
+	/**
+	 * Returns operand of instruction at given position
+	 * @param index Instruction index
+	 * @return Operand object
+	 */
+	public Operand getOperand(int index)
+	{
+		return operands[index];
+	}
+
+	/**
+	 * Returns axiom term index of instruction at given position
+	 * @param index Instruction index
+	 * @return axiom term index or SOLUTION
+	 */
+	public int getAxiomSlot(int index)
+	{
+		return axiomSlots[index];
+	}
+
+	/**
+	 * Returns flag set true if this plan was compiled for the current terms of given template and its archetype
+	 * @param template Template which owns the operands
+	 * @return boolean
+	 */
+	public boolean isValid(Template template)
+	{
+		return (termCount == template.getTermCount()) &&
+			   (archetypeTermCount == template.getArchetype().getTermCount());
+	}
+}
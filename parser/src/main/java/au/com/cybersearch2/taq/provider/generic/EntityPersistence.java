@@ -27,7 +27,6 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Locale;
 import java.util.Map;
-import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 
 import javax.persistence.PersistenceException;
@@ -36,7 +35,10 @@ import com.j256.simplelogging.Logger;
 
 import au.com.cybersearch2.taq.ProviderManager;
 import au.com.cybersearch2.taq.axiom.AxiomReflection;
+import au.com.cybersearch2.taq.axiom.AxiomSelection;
 import au.com.cybersearch2.taq.db.AxiomConverter;
+import au.com.cybersearch2.taq.db.AxiomPipeline;
+import au.com.cybersearch2.taq.db.AxiomPipeline.Backpressure;
 import au.com.cybersearch2.taq.db.ColumnSetter;
 import au.com.cybersearch2.taq.db.ConnectionProfile;
 import au.com.cybersearch2.taq.db.DataSource;
@@ -63,34 +65,6 @@ import au.com.cybersearch2.taq.query.QueryExecutionException;
  */
 public class EntityPersistence extends DatabaseProvider<GenericEntityCollector<?>, GenericEntityEmitter<?>> {
 
-	private class DatabaseAxiomListener implements LocaleAxiomListener {
-
-		private final GenericEntityEmitter<?> genericEntityEmitter;
-
-		public DatabaseAxiomListener(GenericEntityEmitter<?> genericEntityEmitter) {
-			this.genericEntityEmitter = genericEntityEmitter;
-		}
-
-		@Override
-		public boolean onNextAxiom(QualifiedName qname, Axiom axiom, Locale locale) {
-				try {
-					getWorkerService().submitWork(new Callable<Void>() {
-
-						@Override
-						public Void call() throws Exception {
-							genericEntityEmitter.onNextAxiom(qname, axiom, locale);
-							return null;
-						}
-					}, Void.class);
-				} catch (InterruptedException e) {
-
-				} catch (ExecutionException e) {
-					throw new QueryExecutionException(String.format("Error emitting axiom '%s'", axiom.toString()), e);
-				}
-			return true;
-		}
-	}
-
 	private static final String STATEMENT_FAILED_MESSAGE = "Error executing statement %s";
 
 	/** Logger */
@@ -109,6 +83,8 @@ public class EntityPersistence extends DatabaseProvider<GenericEntityCollector<?
 	private ProviderConnection conn;
 	/** Dedicated entity class loader */
 	private EntityClassLoader entityClassLoader;
+	/** Queues axioms for emitters to write on a dedicated thread */
+	private final AxiomPipeline axiomPipeline;
 
 	/**
 	 * Construct EntityPersistence object
@@ -121,6 +97,25 @@ public class EntityPersistence extends DatabaseProvider<GenericEntityCollector<?
 				connectionProfile.getDatabasePath());
 		collectorMap = Collections.emptyMap();
 		emitterMap = Collections.emptyMap();
+		axiomPipeline = new AxiomPipeline(connectionProfile.getName());
+	}
+
+	/**
+	 * Set maximum number of axioms waiting to be written to the database
+	 * 
+	 * @param queueDepth Queue depth. A value of 0 writes each axiom on the query thread.
+	 */
+	public void setQueueDepth(int queueDepth) {
+		axiomPipeline.setQueueDepth(queueDepth);
+	}
+
+	/**
+	 * Set action when an axiom is received and the write queue is full
+	 * 
+	 * @param backpressure Backpressure policy
+	 */
+	public void setBackpressure(Backpressure backpressure) {
+		axiomPipeline.setBackpressure(backpressure);
 	}
 
 	@Override
@@ -285,6 +280,7 @@ public class EntityPersistence extends DatabaseProvider<GenericEntityCollector<?
 				}
 				conn.getConnection();
 				createAllTables();
+				// Collectors and emitters share the connection and synchronize on it to use it
 				collectorMap.values().forEach(collector -> collector.setConnection(conn));
 				emitterMap.values().forEach(emitter -> emitter.setConnection(conn));
 				super.onOpen();
@@ -295,15 +291,44 @@ public class EntityPersistence extends DatabaseProvider<GenericEntityCollector<?
 		}
 	}
 
+	/**
+	 * Write queued axioms, insert rows pending in emitter batches and close the database connection
+	 * @throws QueryExecutionException if a queued axiom or pending batch cannot be inserted
+	 */
 	@Override
 	public void close() {
-		if ((conn != null))
+		RuntimeException writerException = null;
+		try {
+			axiomPipeline.close();
+		} catch (RuntimeException e) {
+			writerException = e;
+		}
+		if ((conn != null)) {
+			collectorMap.values().forEach(collector -> collector.closeCursors());
+			ExecutionException flushException = null;
+			for (GenericEntityEmitter<?> emitter : emitterMap.values())
+				try {
+					emitter.close();
+				} catch (ExecutionException e) {
+					if (flushException == null)
+						flushException = e;
+				}
 			try {
 				conn.close();
 				super.onClose();
 			} catch (SQLException e) {
 				logger.error(e, "Error closing database connection");
 			}
+			if (flushException != null) {
+				QueryExecutionException insertException = new QueryExecutionException("Error inserting pending rows", flushException.getCause());
+				if (writerException == null)
+					writerException = insertException;
+				else
+					writerException.addSuppressed(insertException);
+			}
+		}
+		if (writerException != null)
+			throw writerException;
 	}
 
 	@Override
@@ -313,8 +338,24 @@ public class EntityPersistence extends DatabaseProvider<GenericEntityCollector<?
 
 	@Override
 	public Iterator<Axiom> iterator(AxiomArchetype archetype) {
-		return new DataSource(getDataSourcePart(archetype.getName()), new AxiomConverter(getAxiomReflection(archetype)))
-				.iterator(null);
+		return iterator(archetype, null);
+	}
+
+	/**
+	 * Returns axiom iterator which selects rows satisfying the criteria of given selection 
+	 * and reads only columns of terms it names, provided the collector streams axioms
+	 */
+	@Override
+	public Iterator<Axiom> iterator(AxiomArchetype archetype, AxiomSelection selection) {
+		GenericEntityCollector<?> genericEntityCollector = getDataSourcePart(archetype.getName());
+		AxiomConverter axiomConverter = new AxiomConverter(getAxiomReflection(archetype));
+		if (genericEntityCollector.isStreaming())
+			try {
+				return genericEntityCollector.cursorInstance(axiomConverter, selection);
+			} catch (ExecutionException e) {
+				throw new ProviderException("Error creating cursor", e);
+			}
+		return new DataSource(genericEntityCollector, axiomConverter).iterator(null);
 	}
 
 	@Override
@@ -346,7 +387,16 @@ public class EntityPersistence extends DatabaseProvider<GenericEntityCollector<?
 				}
 				return axiomListenerMap.computeIfAbsent(name, key -> {
 					// Parameter 'key' not used
-					LocaleAxiomListener newAxiomListener = new DatabaseAxiomListener(genericEntityEmitter);
+					LocaleAxiomListener newAxiomListener = axiomPipeline.listenerInstance(new LocaleAxiomListener() {
+
+						@Override
+						public boolean onNextAxiom(QualifiedName qname, Axiom axiom, Locale locale) {
+							// The connection is shared with collectors reading on query threads
+							synchronized(getLock()) {
+								return genericEntityEmitter.onNextAxiom(qname, axiom, locale);
+							}
+						}
+					});
 					if (isListenerChainEmpty()) {
 						return newAxiomListener;
 					} else {
@@ -511,4 +561,13 @@ public class EntityPersistence extends DatabaseProvider<GenericEntityCollector<?
 		return entityName;
 	}
 
+	/**
+	 * Returns object to synchronize on while using the database connection
+	 * 
+	 * @return ProviderConnection object or this provider if not open
+	 */
+	private Object getLock() {
+		ProviderConnection connection = conn;
+		return connection != null ? connection : this;
+	}
 }
@@ -0,0 +1,307 @@
+/** Copyright 2026 TAQ contributors
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License. */
+package au.com.cybersearch2.taq.provider.generic;
+
+import java.lang.reflect.Constructor;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+import au.com.cybersearch2.taq.axiom.AxiomSelection;
+import au.com.cybersearch2.taq.axiom.AxiomSelection.TermCriterion;
+import au.com.cybersearch2.taq.db.AxiomConverter;
+import au.com.cybersearch2.taq.db.ColumnGetter;
+import au.com.cybersearch2.taq.db.MethodAnalyser.MethodData;
+import au.com.cybersearch2.taq.db.ResultSetConverter;
+import au.com.cybersearch2.taq.language.OperatorEnum;
+import au.com.cybersearch2.taq.pattern.Axiom;
+import au.com.cybersearch2.taq.query.QueryExecutionException;
+
+/**
+ * Iterates over rows of an entity database table, converting each row to an axiom
+ * as it is read. The result set is held open, with rows fetched from the database
+ * in blocks of the collector fetch size, until the last row is read or the cursor
+ * is closed. Axiom terms are read directly from the columns they map to, unless
+ * the axiom archetype declares a term with no column, in which case each row is 
+ * translated by way of an entity object. Criteria a query passes in an axiom 
+ * selection are applied in a parameterized WHERE clause where the column type
+ * allows SQL to compare the same way the query does. The WHERE clause only narrows
+ * the rows the query tests, so it must never exclude a row the query would accept.
+ * Text is not compared, as the column collation may ignore case, and an inequality
+ * also selects NULL values, which SQL never finds unequal. With keyset paging, each 
+ * page is selected by primary key greater than the last key read, so deep pages 
+ * cost no more than the first.
+ * @param <E> Entity type
+ */
+public class GenericCursor<E> implements Iterator<Axiom>, AutoCloseable {
+
+	/** Collector which opened this cursor */
+	private final GenericEntityCollector<E> collector;
+	/** Translates between axioms of a particular archetype and corresponding Java beans */
+	private final AxiomConverter axiomConverter;
+	/** Translates a database row to an entity object */
+	private final ColumnGetter<E> columns;
+	/** Translates a database row directly to an axiom */
+	private final ResultSetConverter rowConverter;
+	/** Query to select all rows or the next page of rows */
+	private final String query;
+	/** Values of query criteria parameters */
+	private final List<Object> criterionValues;
+	/** Primary key column name if paging by key, otherwise null */
+	private final String keyColumn;
+	/** Maximum number of rows in a page */
+	private final int pageSize;
+	/** Entity object reused to hold each row while it is converted */
+	private E entity;
+	/** Open query statement */
+	private PreparedStatement statement;
+	/** Open result set */
+	private ResultSet resultSet;
+	/** Number of rows read from the current page */
+	private int rowCount;
+	/** Primary key of last row read */
+	private long lastKey;
+	/** Flag set true if the result set is positioned on a row not yet returned */
+	private boolean isRowReady;
+	/** Flag set true when the cursor is closed */
+	private boolean isClosed;
+
+	/**
+	 * Construct GenericCursor object to select all rows
+	 * @param collector Collector which provides the database connection and query settings
+	 * @param axiomConverter Translates between axioms of a particular archetype and corresponding Java beans
+	 * @throws ExecutionException if entity reflection fails
+	 */
+	public GenericCursor(GenericEntityCollector<E> collector, AxiomConverter axiomConverter) throws ExecutionException {
+		this(collector, axiomConverter, null);
+	}
+
+	/**
+	 * Construct GenericCursor object to select rows satisfying the criteria of given selection
+	 * and only the columns of terms it names
+	 * @param collector Collector which provides the database connection and query settings
+	 * @param axiomConverter Translates between axioms of a particular archetype and corresponding Java beans
+	 * @param selection Criteria and term names used by a query or null to select all rows
+	 * @throws ExecutionException if entity reflection fails
+	 */
+	public GenericCursor(GenericEntityCollector<E> collector, AxiomConverter axiomConverter, AxiomSelection selection) throws ExecutionException {
+		this.collector = collector;
+		this.axiomConverter = axiomConverter;
+		GenericQueryRunner<E> queryRunner = new GenericQueryRunner<>(collector);
+		columns = queryRunner.getColumnGetter();
+		if (selection != null)
+			rowConverter = new ResultSetConverter(axiomConverter.getAxiomReflection(), columns, selection.getTermNames());
+		else
+			rowConverter = new ResultSetConverter(axiomConverter.getAxiomReflection(), columns);
+		int maxResults = collector.getMaxResults();
+		String idFieldName = columns.getIdFieldName();
+		MethodData idData = columns.getFieldMap().get(idFieldName);
+		if (collector.isKeysetPaging() && (maxResults > 0) && (idData != null) && isIntegerType(columns.getType(idFieldName))) {
+			keyColumn = idData.term;
+			pageSize = maxResults;
+			lastKey = Long.MIN_VALUE;
+		} else {
+			keyColumn = null;
+			pageSize = 0;
+		}
+		StringBuilder sql = new StringBuilder();
+		if (rowConverter.isMapped()) {
+			// Only read columns which are translated
+			List<String> columnNames = new ArrayList<>(rowConverter.getColumnNames());
+			if ((keyColumn != null) && !columnNames.contains(keyColumn))
+				columnNames.add(keyColumn);
+			sql.append(queryRunner.getSelectClause(columnNames));
+		} else
+			sql.append(queryRunner.getSelectClause());
+		criterionValues = new ArrayList<>();
+		String conjunction = " WHERE ";
+		if (selection != null)
+			for (TermCriterion criterion: selection.getCriteria()) {
+				String columnName = rowConverter.getColumnName(criterion.termName);
+				String operator = toSqlOperator(criterion.operator);
+				if ((columnName != null) && (operator != null) && 
+				    isComparable(rowConverter.getFieldType(criterion.termName), criterion)) {
+					if (criterion.operator == OperatorEnum.NE)
+						sql.append(conjunction).append('(').append(columnName).append(" <> ? OR ").append(columnName).append(" IS NULL)");
+					else
+						sql.append(conjunction).append(columnName).append(' ').append(operator).append(" ?");
+					criterionValues.add(criterion.value);
+					conjunction = " AND ";
+				}
+			}
+		if (keyColumn != null)
+			sql.append(conjunction).append(keyColumn).append(" > ? ORDER BY ").append(keyColumn).append(" LIMIT ").append(maxResults);
+		query = sql.toString();
+	}
+
+	/**
+	 * Returns query which selects rows
+	 * @return SQL text
+	 */
+	public String getQuery() {
+		return query;
+	}
+
+	@Override
+	public boolean hasNext() {
+		if (isRowReady)
+			return true;
+		if (isClosed)
+			return false;
+		// The connection is shared with the axiom writer thread
+		synchronized(collector.getLock()) {
+			return readRow();
+		}
+	}
+
+	@Override
+	public Axiom next() {
+		// Don't assume hasNext() has been called prior
+		if (!hasNext())
+			return null;
+		isRowReady = false;
+		synchronized(collector.getLock()) {
+			try {
+				if (keyColumn != null)
+					lastKey = resultSet.getLong(keyColumn);
+				if (rowConverter.isMapped())
+					return rowConverter.getAxiom(resultSet);
+				if (entity == null) {
+					Constructor<E> constructor = collector.getEntityClass().getConstructor((Class<?>[])null);
+					entity = constructor.newInstance();
+				}
+				columns.setColumns(resultSet, entity);
+				return axiomConverter.getAxiomFromEntity(entity);
+			} catch (Throwable throwable) {
+				close();
+				collector.onRollback(throwable);
+				throw new QueryExecutionException(collector.getDescription() + " failed", throwable);
+			}
+		}
+	}
+
+	/**
+	 * Returns flag set true if rows are selected one page at a time in primary key order
+	 * @return boolean
+	 */
+	public boolean isKeysetPaging() {
+		return keyColumn != null;
+	}
+
+	/**
+	 * Close result set and statement. The cursor then has no more rows.
+	 */
+	@Override
+	public void close() {
+		if (isClosed)
+			return;
+		isClosed = true;
+		isRowReady = false;
+		try {
+			if (statement != null)
+				synchronized(collector.getLock()) {
+					// Closing the statement also closes the result set
+					statement.close();
+				}
+		} catch (SQLException e) {
+			// Nothing can be done about a failure to release resources
+		} finally {
+			statement = null;
+			resultSet = null;
+			collector.onCursorClosed(this);
+		}
+	}
+
+	/**
+	 * Advance result set to next row, selecting the next page when the current one is exhausted
+	 * @return flag set true if a row is ready
+	 */
+	private boolean readRow() {
+		try {
+			if (resultSet == null)
+				executeQuery();
+			while (!resultSet.next()) {
+				if ((keyColumn == null) || (rowCount < pageSize)) {
+					collector.onPostExecute(true);
+					close();
+					return false;
+				}
+				// Page is full, so select the next one
+				resultSet.close();
+				executeQuery();
+			}
+			++rowCount;
+			isRowReady = true;
+			return true;
+		} catch (SQLException e) {
+			close();
+			collector.onRollback(e);
+			throw new QueryExecutionException(String.format("Error executing query %s", query), e);
+		}
+	}
+
+	/**
+	 * Execute query to select all rows or the next page of rows
+	 * @throws SQLException
+	 */
+	private void executeQuery() throws SQLException {
+		if (statement == null) {
+			statement = collector.prepareStatement(query);
+			int fetchSize = collector.getFetchSize();
+			if ((pageSize > 0) && (fetchSize > pageSize))
+				fetchSize = pageSize;
+			statement.setFetchSize(fetchSize);
+		}
+		int index = 1;
+		for (Object value: criterionValues)
+			statement.setObject(index++, value);
+		if (keyColumn != null) 
+			statement.setLong(index, lastKey);
+		rowCount = 0;
+		resultSet = statement.executeQuery();
+	}
+
+	/**
+	 * Returns flag set true if SQL compares values of given field type the same way as the query.
+	 * Double values are persisted as long bits and text comparison depends on collation, 
+	 * so only integer columns qualify.
+	 * @param fieldType Field type
+	 * @param criterion Comparison of an axiom term with a value
+	 * @return boolean
+	 */
+	private static boolean isComparable(Class<?> fieldType, TermCriterion criterion) {
+		return isIntegerType(fieldType) && 
+			   ((criterion.value instanceof Long) || (criterion.value instanceof Integer));
+	}
+
+	private static String toSqlOperator(OperatorEnum operator) {
+		switch (operator) {
+		case LT: return "<";
+		case GT: return ">";
+		case LE: return "<=";
+		case GE: return ">=";
+		case EQ: return "=";
+		case NE: return "<>";
+		default: return null;
+		}
+	}
+
+	private static boolean isIntegerType(Class<?> clazz) {
+		return (clazz == int.class) || (clazz == Integer.class) || (clazz == long.class) || (clazz == Long.class);
+	}
+}
@@ -15,10 +15,15 @@ package au.com.cybersearch2.taq.provider.generic;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 
+import au.com.cybersearch2.taq.axiom.AxiomSelection;
+import au.com.cybersearch2.taq.db.AxiomConverter;
 import au.com.cybersearch2.taq.db.EntityCollector;
 import au.com.cybersearch2.taq.db.ObjectSelector;
+import au.com.cybersearch2.taq.db.ProviderConnection;
 
 /**
  * GenericEntityCollector
@@ -28,7 +33,18 @@ import au.com.cybersearch2.taq.db.ObjectSelector;
  */
 public class GenericEntityCollector<Entity> extends EntityCollector<Entity> {
 
+	/** System property to set default number of rows fetched from the database at a time */
+	public static final String FETCH_SIZE_PROPERTY = "taq.db.fetchsize";
+	/** Default number of rows fetched from the database at a time */
+	public static final int DEFAULT_FETCH_SIZE = Integer.getInteger(FETCH_SIZE_PROPERTY, 256);
+
     private List<Entity> resultList;
+    /** Number of rows a cursor fetches from the database at a time */
+    private int fetchSize;
+    /** Flag set true if a cursor selects pages by primary key instead of by offset */
+    private boolean keysetPaging;
+    /** Cursors holding an open result set, which may be opened and closed on different threads */
+    private final Set<GenericCursor<Entity>> openCursors;
 	
 	/**
 	 * Construct GenericEntityCollector object. Call setConnection() before use.
@@ -36,6 +52,100 @@ public class GenericEntityCollector<Entity> extends EntityCollector<Entity> {
 	 */
 	public GenericEntityCollector(Class<Entity> entityClass) {
 		super(entityClass);
+		fetchSize = DEFAULT_FETCH_SIZE;
+		openCursors = ConcurrentHashMap.newKeySet();
+	}
+
+	/**
+	 * Returns number of rows a cursor fetches from the database at a time
+	 * @return fetch size
+	 */
+	public int getFetchSize() {
+		return fetchSize;
+	}
+
+	/**
+	 * Set number of rows a cursor fetches from the database at a time
+	 * @param fetchSize Fetch size. A value of 0 leaves the choice to the JDBC driver.
+	 */
+	public void setFetchSize(int fetchSize) {
+		this.fetchSize = fetchSize;
+	}
+
+	/**
+	 * Returns flag set true if a cursor selects pages by primary key 
+	 * @return boolean
+	 */
+	public boolean isKeysetPaging() {
+		return keysetPaging;
+	}
+
+	/**
+	 * Set whether a cursor selects each page of maximum results size by primary key
+	 * greater than the last key read, in key order. Only applies if the primary key is an integer.
+	 * @param keysetPaging Flag set true to select pages by primary key
+	 */
+	public void setKeysetPaging(boolean keysetPaging) {
+		this.keysetPaging = keysetPaging;
+	}
+
+	/**
+	 * Returns flag set true if axioms can be streamed from a cursor instead of
+	 * collected in lists by {@link #getData()}. A sub class which overrides 
+	 * internalGetData() should override this method to return false.
+	 * @return boolean
+	 */
+	public boolean isStreaming() {
+		return !hasBatchCollector() && ((getMaxResults() == 0) || keysetPaging);
+	}
+
+	/**
+	 * Returns cursor which converts selected rows to axioms as they are read.
+	 * The cursor is closed when it is exhausted or by {@link #closeCursors()}.
+	 * @param axiomConverter Translates between axioms of a particular archetype and corresponding Java beans
+	 * @return GenericCursor object
+	 * @throws ExecutionException if entity reflection fails
+	 */
+	public GenericCursor<Entity> cursorInstance(AxiomConverter axiomConverter) throws ExecutionException {
+		return cursorInstance(axiomConverter, null);
+	}
+
+	/**
+	 * Returns cursor which converts rows satisfying the criteria of given selection to axioms 
+	 * as they are read. The cursor is closed when it is exhausted or by {@link #closeCursors()}.
+	 * @param axiomConverter Translates between axioms of a particular archetype and corresponding Java beans
+	 * @param selection Criteria and term names used by a query or null to select all rows
+	 * @return GenericCursor object
+	 * @throws ExecutionException if entity reflection fails
+	 */
+	public GenericCursor<Entity> cursorInstance(AxiomConverter axiomConverter, AxiomSelection selection) throws ExecutionException {
+		GenericCursor<Entity> cursor = new GenericCursor<>(this, axiomConverter, selection);
+		openCursors.add(cursor);
+		return cursor;
+	}
+
+	/**
+	 * Close all cursors which hold an open result set
+	 */
+	public void closeCursors() {
+		openCursors.forEach(cursor -> cursor.close());
+	}
+
+	/**
+	 * Handle cursor closed
+	 * @param cursor Cursor which has been closed
+	 */
+	void onCursorClosed(GenericCursor<Entity> cursor) {
+		openCursors.remove(cursor);
+	}
+
+	/**
+	 * Returns object to synchronize on while using the connection
+	 * @return ProviderConnection object or this collector if no connection is set
+	 */
+	Object getLock() {
+		ProviderConnection conn = getProviderConnection();
+		return conn != null ? conn : this;
 	}
 
 	public List<Entity> getResultList() {
@@ -55,7 +165,10 @@ public class GenericEntityCollector<Entity> extends EntityCollector<Entity> {
 	@Override
 	protected List<Entity> internalGetData() throws InterruptedException, ExecutionException {
 		GenericQueryRunner<Entity> queryRunner = new GenericQueryRunner<>(this);
-		resultList = doQuery(queryRunner);
+		// The connection is shared with the axiom writer thread
+		synchronized(getLock()) {
+			resultList = doQuery(queryRunner);
+		}
 		return resultList;
 	}
 
@@ -30,7 +30,11 @@ public class GenericEntityEmitter<E> extends EntityEmitter<E> {
 	/** Translates an entity-object to values placed in a database row insertion statement */
     private ColumnSetter<E> columns;
     /** Inserts a database row mapped to an entity object */
-    private StatementRunner<E> statementRunner;
+    private GenericStatementRunner<E> statementRunner;
+    /** Maximum number of rows inserted in one batch */
+    private int batchSize;
+    /** Flag set true if the generated key is set on each entity inserted */
+    private boolean isGeneratedKeys;
 
     /**
      * Construct GenericEntityEmitter object
@@ -38,6 +42,50 @@ public class GenericEntityEmitter<E> extends EntityEmitter<E> {
      */
 	public GenericEntityEmitter(Class<E> entityClass) {
 		super(entityClass);
+		batchSize = GenericStatementRunner.DEFAULT_BATCH_SIZE;
+	}
+
+	/**
+	 * Set maximum number of rows inserted in one batch. A value of 1 inserts each row immediately.
+	 * @param batchSize Batch size
+	 */
+	public void setBatchSize(int batchSize) {
+		this.batchSize = batchSize;
+		if (statementRunner != null)
+			statementRunner.setBatchSize(batchSize);
+	}
+
+	/**
+	 * Set flag to set the generated key on each entity inserted, which inserts
+	 * entities with an int primary key one at a time instead of in batches
+	 * @param isGeneratedKeys Flag set true to set generated keys
+	 */
+	public void setGeneratedKeys(boolean isGeneratedKeys) {
+		this.isGeneratedKeys = isGeneratedKeys;
+		if (statementRunner != null)
+			statementRunner.setGeneratedKeys(isGeneratedKeys);
+	}
+
+	/**
+	 * Insert all rows pending in current batch
+	 * @throws ExecutionException
+	 */
+	public void flush() throws ExecutionException {
+		if (statementRunner != null)
+			statementRunner.flush();
+	}
+
+	/**
+	 * Insert all rows pending in current batch and release database statements
+	 * @throws ExecutionException
+	 */
+	public void close() throws ExecutionException {
+		if (statementRunner != null)
+			try {
+				statementRunner.flush();
+			} finally {
+				statementRunner.close();
+			}
 	}
 
 	public ColumnSetter<E> getColumnSetter() throws ExecutionException {
@@ -48,8 +96,11 @@ public class GenericEntityEmitter<E> extends EntityEmitter<E> {
 
 	@Override
 	public StatementRunner<E> getStatementRunner() throws ExecutionException {
-		if (statementRunner == null)
+		if (statementRunner == null) {
 		    statementRunner = new GenericStatementRunner<>(this, getColumnSetter());
+		    statementRunner.setBatchSize(batchSize);
+		    statementRunner.setGeneratedKeys(isGeneratedKeys);
+		}
 		return statementRunner;
 	}
 	
@@ -71,7 +122,7 @@ public class GenericEntityEmitter<E> extends EntityEmitter<E> {
 
 	@Override
 	public void internalEmitData(E entity) throws InterruptedException, ExecutionException {
-		getStatementRunner().insertEntity(entity);
+		getStatementRunner().addEntity(entity);
 	}
 
 
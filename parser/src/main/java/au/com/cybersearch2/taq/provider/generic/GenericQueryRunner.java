@@ -70,14 +70,7 @@ public class GenericQueryRunner<E> implements QueryRunner<E>, ObjectSelector<E>
 		List<E> resultList = new ArrayList<>();
 		try {
 			// Build select statement 
-			StringBuilder sql = new StringBuilder();
-			columns.getFieldMap().forEach((fieldName,methodData) -> {
-				if (sql.length() == 0)
-					sql.append("SELECT ").append(methodData.term);
-				else
-					sql.append(',').append(methodData.term);
-			});
-			sql.append(" FROM ").append(queryBase.getTableName());
+			StringBuilder sql = new StringBuilder(getSelectClause());
 			if (id > 0)
 				sql.append(" WHERE ").append(columns.getIdFieldName()).append("=").append(Integer.toString(id));
 			int maxResults = queryBase.getMaxResults();
@@ -115,6 +108,39 @@ public class GenericQueryRunner<E> implements QueryRunner<E>, ObjectSelector<E>
 	}
 	
 	
+	/**
+	 * Returns clause which selects all entity columns from the entity table
+	 * @return SELECT ... FROM ... text
+	 */
+	public String getSelectClause() {
+		StringBuilder sql = new StringBuilder();
+		columns.getFieldMap().forEach((fieldName,methodData) -> {
+			if (sql.length() == 0)
+				sql.append("SELECT ").append(methodData.term);
+			else
+				sql.append(',').append(methodData.term);
+		});
+		sql.append(" FROM ").append(queryBase.getTableName());
+		return sql.toString();
+	}
+
+	/**
+	 * Returns clause which selects given columns from the entity table
+	 * @param columnNames Column names
+	 * @return SELECT ... FROM ... text
+	 */
+	public String getSelectClause(List<String> columnNames) {
+		return "SELECT " + String.join(",", columnNames) + " FROM " + queryBase.getTableName();
+	}
+
+	/**
+	 * Returns object which translates a database row to an entity object
+	 * @return ColumnGetter object
+	 */
+	public ColumnGetter<E> getColumnGetter() {
+		return columns;
+	}
+
 	public void appendLimitValue(StringBuilder sb, long limit, Long offset) {
 		sb.append("LIMIT ");
 		if (offset != null) {
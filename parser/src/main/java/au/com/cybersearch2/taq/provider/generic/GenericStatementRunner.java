@@ -15,6 +15,7 @@ package au.com.cybersearch2.taq.provider.generic;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -29,19 +30,39 @@ import au.com.cybersearch2.taq.db.MethodAnalyser.MethodData;
 import au.com.cybersearch2.taq.db.MethodAnalyser.MethodType;
 
 /**
- * Inserts a database row mapped to an entity object
+ * Inserts a database row mapped to an entity object. Rows added with
+ * {@link #addEntity(Object)} are collected in a JDBC batch which is executed in a
+ * single transaction when the batch size is reached or on {@link #flush()}.
+ * Set system property "taq.db.batchsize" to change the default batch size.
  * @param <E> Entity type
  */
 public class GenericStatementRunner<E> implements StatementRunner<E> {
 
+	/** System property to set default batch size */
+	public static final String BATCH_SIZE_PROPERTY = "taq.db.batchsize";
+	/** Default number of rows inserted in one batch */
+	public static final int DEFAULT_BATCH_SIZE = Integer.getInteger(BATCH_SIZE_PROPERTY, 1000);
+
 	/** Foundation for database prepared statements */
 	private final StatementBase<E> statementBase;
 	/** Translates an entity-object to values placed in a database row insertion statement */
     private final ColumnSetter<E> columns;
     /** Flag set true if entity has an int primary key */
     private final boolean hasIntId;
+    /** Row insertion statement */
+    private final String insertSql;
     /** Reflection method to set entity primary key */
     private Method setIdMethod;
+    /** Cached statement to insert one row and return the generated key */
+    private PreparedStatement insertStatement;
+    /** Cached statement to insert rows in a batch */
+    private PreparedStatement batchStatement;
+    /** Maximum number of rows in a batch. A value of 1 disables batching. */
+    private int batchSize;
+    /** Number of rows waiting in the current batch */
+    private int batchCount;
+    /** Flag set true if the generated key is set on each entity added, which inserts rows one at a time */
+    private boolean isGeneratedKeys;
 
     /**
      * Construct GenericStatementRunner object
@@ -56,72 +77,207 @@ public class GenericStatementRunner<E> implements StatementRunner<E> {
      		hasIntId = idData.method.getReturnType() == int.class;
      	else
      		hasIntId = false;
+     	insertSql = createInsertSql();
+     	batchSize = DEFAULT_BATCH_SIZE;
+	}
+
+	/**
+	 * Returns maximum number of rows in a batch
+	 * @return batch size
+	 */
+	public int getBatchSize() {
+		return batchSize;
+	}
 
+	/**
+	 * Set maximum number of rows in a batch. A value of 1 or less disables batching.
+	 * @param batchSize Batch size
+	 */
+	public void setBatchSize(int batchSize) {
+		this.batchSize = Math.max(batchSize, 1);
+	}
+
+	/**
+	 * Returns flag set true if the generated key is set on each entity added
+	 * @return boolean
+	 */
+	public boolean isGeneratedKeys() {
+		return isGeneratedKeys;
+	}
+
+	/**
+	 * Set flag to set the generated key on each entity added. As keys cannot be read back
+	 * from a batch on all databases, an entity with an int primary key is then inserted
+	 * immediately instead of being added to the batch.
+	 * @param isGeneratedKeys Flag set true to set generated keys
+	 */
+	public void setGeneratedKeys(boolean isGeneratedKeys) {
+		this.isGeneratedKeys = isGeneratedKeys;
 	}
 
+	/**
+	 * Inserts a database row mapped to given entity object and sets the generated key
+	 * on the entity, if it has an int primary key. Any pending batch is flushed first
+	 * so rows are inserted in order.
+	 */
 	@Override
-	public int insertEntity(E entity) throws InterruptedException, ExecutionException {
+	public synchronized int insertEntity(E entity) throws InterruptedException, ExecutionException {
+		flush();
 		int rowId = 0;
 		try {
-			/*
-            try ( PreparedStatement stmt = statementBase.prepareStatement("BEGIN") ) {
-		 	    stmt.executeUpdate();
-            } catch (SQLException e) {
-            	statementBase.onRollback(e);
-				throw new ExecutionException("Error executing BEGIN", e);
-            } */
-			StringBuilder sql = new StringBuilder("INSERT INTO ");
-			sql.append(statementBase.getTableName()).append('(');
-			StringBuilder fieldNames = new StringBuilder();
-			StringBuilder ehs = new StringBuilder();
-			columns.getFieldMap().forEach((fieldName,methodData) -> {
-				if (!columns.getIdFieldName().equals(fieldName)) {
-					if (fieldNames.length() == 0) {
-						fieldNames.append(methodData.term);
-						ehs.append('?');
-					} else {
-						fieldNames.append(',').append(methodData.term);
-						ehs.append(",?");
-					}
-				}
-			});
-			sql.append(fieldNames.toString()).append(") VALUES(").append(ehs).append(')');
-            try ( PreparedStatement stmt = statementBase.prepareStatement(sql.toString(), Statement.RETURN_GENERATED_KEYS) ) {
-		 	    columns.setFields(entity, stmt);
-		 	    stmt.executeUpdate();
-                try (
-                        ResultSet rs = stmt.getGeneratedKeys() ;
-                )
-                {
-                    while (rs.next())
-                    {
-                    	rowId = rs.getInt(1);
-                 		if (hasIntId) 
-                 			setEntityId(entity, rowId);
-                        //System.out.println( "generated key: " + rowId );
-                    }
+			if ((insertStatement == null) || insertStatement.isClosed())
+				insertStatement = statementBase.prepareStatement(insertSql, Statement.RETURN_GENERATED_KEYS);
+			columns.setFields(entity, insertStatement);
+			insertStatement.executeUpdate();
+            try (ResultSet rs = insertStatement.getGeneratedKeys()) {
+                while (rs.next()) {
+                	rowId = rs.getInt(1);
+             		if (hasIntId) 
+             			setEntityId(entity, rowId);
                 }
-
-            
-            } catch (SQLException e) {
-            	statementBase.onRollback(e);
-				throw new ExecutionException(String.format("Error executing prepared statement %s", sql.toString()), e);
             }
-            /*
-             try ( PreparedStatement stmt = statementBase.prepareStatement("COMMIT") ) {
-		 	    stmt.executeUpdate();
-             } catch (SQLException e) {
-            	statementBase.onRollback(e);
-				throw new ExecutionException("Error executing COMMIT", e);
-             } */
-             statementBase.onPostExecute(true);
+            statementBase.onPostExecute(true);
+        } catch (SQLException e) {
+        	statementBase.onRollback(e);
+			throw new ExecutionException(String.format("Error executing prepared statement %s", insertSql), e);
+        } catch (ExecutionException e) {
+        	throw e;
         } catch (Throwable throwable) {
         	statementBase.onRollback(throwable);
-			throw new ExecutionException(String.format("Error insrting data for entity %s", statementBase.getEntityClass().getName()), throwable);
+			throw new ExecutionException(String.format("Error inserting data for entity %s", statementBase.getEntityClass().getName()), throwable);
 		}
 		return rowId;
 	}
 
+	/**
+	 * Adds a database row mapped to given entity object to the current batch,
+	 * executing the batch if it is full. The generated key is not set on the entity
+	 * unless generated keys are requested, in which case the row is inserted immediately.
+	 */
+	@Override
+	public synchronized void addEntity(E entity) throws InterruptedException, ExecutionException {
+		if ((batchSize == 1) || (isGeneratedKeys && hasIntId)) {
+			insertEntity(entity);
+			return;
+		}
+		try {
+			if ((batchStatement == null) || batchStatement.isClosed())
+				batchStatement = statementBase.prepareStatement(insertSql);
+			columns.setFields(entity, batchStatement);
+			batchStatement.addBatch();
+		} catch (Throwable throwable) {
+			abortBatch(throwable);
+			throw new ExecutionException(String.format("Error inserting data for entity %s", statementBase.getEntityClass().getName()), throwable);
+		}
+		if (++batchCount >= batchSize)
+			flush();
+	}
+
+	/**
+	 * Executes pending batch in a transaction, unless one is already in progress on the connection
+	 */
+	@Override
+	public synchronized void flush() throws ExecutionException {
+		if (batchCount == 0)
+			return;
+		batchCount = 0;
+		Connection connection = null;
+		boolean isAutoCommit = false;
+		try {
+			connection = batchStatement.getConnection();
+			isAutoCommit = connection.getAutoCommit();
+			if (isAutoCommit)
+				connection.setAutoCommit(false);
+			batchStatement.executeBatch();
+			if (isAutoCommit)
+				connection.commit();
+            statementBase.onPostExecute(true);
+		} catch (SQLException e) {
+			if (isAutoCommit)
+				rollback(connection);
+			abortBatch(e);
+			throw new ExecutionException(String.format("Error executing batch statement %s", insertSql), e);
+		} finally {
+			if (isAutoCommit)
+				restoreAutoCommit(connection);
+		}
+	}
+
+	/**
+	 * Release cached statements. Any pending batch is discarded.
+	 */
+	public synchronized void close() {
+		batchCount = 0;
+		insertStatement = close(insertStatement);
+		batchStatement = close(batchStatement);
+	}
+
+	/**
+	 * Returns row insertion statement with a parameter for each column except the primary key
+	 * @return SQL statement
+	 */
+	private String createInsertSql() {
+		StringBuilder sql = new StringBuilder("INSERT INTO ");
+		sql.append(statementBase.getTableName()).append('(');
+		StringBuilder fieldNames = new StringBuilder();
+		StringBuilder ehs = new StringBuilder();
+		columns.getFieldMap().forEach((fieldName,methodData) -> {
+			if (!columns.getIdFieldName().equals(fieldName)) {
+				if (fieldNames.length() == 0) {
+					fieldNames.append(methodData.term);
+					ehs.append('?');
+				} else {
+					fieldNames.append(',').append(methodData.term);
+					ehs.append(",?");
+				}
+			}
+		});
+		sql.append(fieldNames.toString()).append(") VALUES(").append(ehs).append(')');
+		return sql.toString();
+	}
+
+	/**
+	 * Discard pending batch following an error
+	 * @param throwable Error cause
+	 */
+	private void abortBatch(Throwable throwable) {
+		batchCount = 0;
+		try {
+			if ((batchStatement != null) && !batchStatement.isClosed())
+				batchStatement.clearBatch();
+		} catch (SQLException e) {
+			throwable.addSuppressed(e);
+		}
+    	statementBase.onRollback(throwable);
+	}
+
+	private static void rollback(Connection connection) {
+		try {
+			connection.rollback();
+		} catch (SQLException e) {
+			// Report original error
+		}
+	}
+
+	private static void restoreAutoCommit(Connection connection) {
+		try {
+			if (!connection.isClosed())
+				connection.setAutoCommit(true);
+		} catch (SQLException e) {
+			// Connection is unusable and will be re-established on next use
+		}
+	}
+
+	private static PreparedStatement close(PreparedStatement statement) {
+		if (statement != null)
+			try {
+				statement.close();
+			} catch (SQLException e) {
+				// Statement is discarded regardless
+			}
+		return null;
+	}
+
 	/**
 	 * Sets primary key value of given entity object
 	 * @param entity Entity object to set
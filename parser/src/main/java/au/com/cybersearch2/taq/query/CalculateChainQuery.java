@@ -20,7 +20,7 @@ import java.util.List;
 import au.com.cybersearch2.taq.debug.ExecutionContext;
 import au.com.cybersearch2.taq.helper.EvaluationStatus;
 import au.com.cybersearch2.taq.interfaces.LocaleAxiomListener;
-import au.com.cybersearch2.taq.language.QualifiedName;
+import au.com.cybersearch2.taq.language.InternedName;
 import au.com.cybersearch2.taq.pattern.Axiom;
 import au.com.cybersearch2.taq.pattern.Template;
 
@@ -125,11 +125,11 @@ public class CalculateChainQuery extends ChainQuery
 
 	/**
 	 * Set axiom listener to receive each solution as it is produced
-	 * @param qname Reference to axiom by qualified name
+	 * @param qname Reference to axiom by interned name
 	 * @param axiomListener The axiom listener object
 	 */
 	@Override
-	void setAxiomListener(QualifiedName qname, LocaleAxiomListener axiomListener) 
+	void setAxiomListener(InternedName qname, LocaleAxiomListener axiomListener) 
 	{
 		if (axiomListenerList == null)
 			axiomListenerList = new ArrayList<>();
@@ -34,6 +34,7 @@ import au.com.cybersearch2.taq.interfaces.AxiomCollection;
 import au.com.cybersearch2.taq.interfaces.AxiomSource;
 import au.com.cybersearch2.taq.interfaces.LocaleAxiomListener;
 import au.com.cybersearch2.taq.language.ITemplate;
+import au.com.cybersearch2.taq.language.InternedName;
 import au.com.cybersearch2.taq.language.QualifiedName;
 import au.com.cybersearch2.taq.log.LogManager;
 import au.com.cybersearch2.taq.pattern.Axiom;
@@ -56,8 +57,8 @@ public class ChainQueryExecuter {
 	/** Query scope */
 	protected final Scope queryScope;
 
-	/** Set of axiom listeners referenced by name */
-	protected Map<QualifiedName, List<LocaleAxiomListener>> axiomListenerMap;
+	/** Set of axiom listeners referenced by interned name */
+	protected Map<InternedName, List<LocaleAxiomListener>> axiomListenerMap;
 	/** The solution is a collection of axioms referenced by name */
 	protected Solution solution;
 	/** Head of optional query chain */
@@ -74,7 +75,7 @@ public class ChainQueryExecuter {
 		templateChain = new ArrayDeque<>();
 		this.queryScope = queryParams.getScope();
 		if (queryScope != null) {
-			Map<QualifiedName, List<LocaleAxiomListener>> queryScopeMap = queryScope.getAxiomListenerMap();
+			Map<InternedName, List<LocaleAxiomListener>> queryScopeMap = queryScope.getAxiomListenerMap();
 			if (queryScopeMap != null) { // Create a copy of the axiom listener map and remove entries as axiom
 											// listeners are bound to processors
 				List<LocaleAxiomListener> axiomListeners = new ArrayList<>();
@@ -98,22 +99,12 @@ public class ChainQueryExecuter {
 					}
 				});
 			}
-			queryParams.getTemplateScopes().forEach(scope -> {
-				if (scope.getAxiomListenerMap() != null) {
-					if (axiomListenerMap == null)
-						axiomListenerMap = new HashMap<>();
-					axiomListenerMap.putAll(scope.getAxiomListenerMap());
-				}
-			});
+			queryParams.getTemplateScopes().forEach(scope -> putAxiomListeners(scope.getAxiomListenerMap()));
 		}
 	}
 
-	public void addAxiomListeners(Map<QualifiedName, List<LocaleAxiomListener>> scopeAxiomListenerMap) {
-		if (scopeAxiomListenerMap != null) {
-			if (axiomListenerMap == null)
-				axiomListenerMap = new HashMap<>();
-			axiomListenerMap.putAll(scopeAxiomListenerMap);
-		}
+	public void addAxiomListeners(Map<InternedName, List<LocaleAxiomListener>> scopeAxiomListenerMap) {
+		putAxiomListeners(scopeAxiomListenerMap);
 	}
 
 	/**
@@ -197,6 +188,13 @@ public class ChainQueryExecuter {
 		return builder.toString();
 	}
 
+	/**
+	 * Abandon query before all solutions are found
+	 */
+	public void cancel() {
+		solution.reset();
+	}
+
 	/**
 	 * Force reset to initial state
 	 */
@@ -288,10 +286,11 @@ public class ChainQueryExecuter {
 	protected void bindAxiomListeners(Scope localScope) {
 		if (axiomListenerMap == null)
 			return;
-		Set<QualifiedName> keys = axiomListenerMap.keySet();
-		for (QualifiedName key : keys) {
-			if (!key.getTemplate().isEmpty())
+		Set<InternedName> keys = axiomListenerMap.keySet();
+		for (InternedName internedName : keys) {
+			if (!internedName.getTemplate().isEmpty())
 				continue; // Templates are output
+			QualifiedName key = internedName.toQualifiedName();
 			AxiomSource axiomSource = localScope.findAxiomSource(key);
 			if ((axiomSource == null) && !localScope.getName().equals(QueryProgram.GLOBAL_SCOPE))
 				axiomSource = queryScope.getGlobalScope().findAxiomSource(key);
@@ -311,7 +310,7 @@ public class ChainQueryExecuter {
 	 * @param key         Listener collection identity
 	 */
 	protected void bindAxiomSource(AxiomSource axiomSource, QualifiedName key) {
-		List<LocaleAxiomListener> axiomListenerList = axiomListenerMap.get(key);
+		List<LocaleAxiomListener> axiomListenerList = axiomListenerMap.get(key.intern());
 		for (LocaleAxiomListener axiomListener : axiomListenerList) {
 			Iterator<Axiom> iterator = axiomSource.iterator(null);
 			if (!iterator.hasNext())
@@ -329,18 +328,15 @@ public class ChainQueryExecuter {
 	 */
 	protected void bindCalculatorAxiomListener(ITemplate template) {
 		QualifiedName qname = template.getQualifiedName();
-		List<LocaleAxiomListener> axiomListenerList = null;
-		if (axiomListenerMap.containsKey(qname))
-			axiomListenerList = axiomListenerMap.get(qname);
-		else if (template.isReplicate()) {
+		List<LocaleAxiomListener> axiomListenerList = axiomListenerMap.get(qname.intern());
+		if ((axiomListenerList == null) && template.isReplicate()) {
 			qname = new QualifiedTemplateName(QueryProgram.GLOBAL_SCOPE, qname.getTemplate());
-			if (axiomListenerMap.containsKey(qname))
-				axiomListenerList = axiomListenerMap.get(qname);
+			axiomListenerList = axiomListenerMap.get(qname.intern());
 		}
 		if (axiomListenerList != null) {
 			for (LocaleAxiomListener axiomListener : axiomListenerList)
-				solution.setAxiomListener(qname, axiomListener);
-			axiomListenerMap.remove(qname);
+				solution.setAxiomListener(qname.intern(), axiomListener);
+			axiomListenerMap.remove(qname.intern());
 		}
 	}
 
@@ -352,24 +348,23 @@ public class ChainQueryExecuter {
 	 * @param template   Chain template
 	 * @param chainQuery Chain query
 	 */
-	protected void bindAxiomListener(ITemplate template, LogicChainQuery chainQuery) {
-		String key = template.getKey();
-		QualifiedName qname = QualifiedName.parseGlobalName(key);
-		if (axiomListenerMap.containsKey(qname)) {
-			AxiomSource axiomSource = chainQuery.getAxiomSource(key);
-			List<LocaleAxiomListener> axiomListenerList = axiomListenerMap.get(qname);
+	protected void bindAxiomListener(Template template, LogicChainQuery chainQuery) {
+		InternedName internedKey = template.getInternedKey();
+		List<LocaleAxiomListener> axiomListenerList = axiomListenerMap.get(internedKey);
+		if (axiomListenerList != null) {
+			AxiomSource axiomSource = chainQuery.getAxiomSource(template.getKey());
 			if (axiomSource != null) {
 				for (LocaleAxiomListener axiomListener : axiomListenerList)
-					chainQuery.setAxiomListener(qname, axiomListener);
-				axiomListenerMap.remove(qname);
+					chainQuery.setAxiomListener(internedKey, axiomListener);
+				axiomListenerMap.remove(internedKey);
 			}
 		} else {
-			qname = template.getQualifiedName();
-			if (axiomListenerMap.containsKey(qname)) {
-				List<LocaleAxiomListener> axiomListenerList = axiomListenerMap.get(qname);
+			QualifiedName qname = template.getQualifiedName();
+			axiomListenerList = axiomListenerMap.get(qname.intern());
+			if (axiomListenerList != null) {
 				for (LocaleAxiomListener axiomListener : axiomListenerList)
-					solution.setAxiomListener(qname, axiomListener);
-				axiomListenerMap.remove(qname);
+					solution.setAxiomListener(qname.intern(), axiomListener);
+				axiomListenerMap.remove(qname.intern());
 			}
 		}
 	}
@@ -380,12 +375,21 @@ public class ChainQueryExecuter {
 	 * @param scope Scope object
 	 */
 	protected void setAxiomListeners(Scope scope) {
-		if (scope.getAxiomListenerMap() != null) { 
-			// Create a copy of the axiom listener map and remove entries as
-			// axiom listeners are bound to processors
+		// Create a copy of the axiom listener map and remove entries as
+		// axiom listeners are bound to processors
+		putAxiomListeners(scope.getAxiomListenerMap());
+	}
+
+	/**
+	 * Copy given axiom listeners, which are keyed by interned name, to this executer
+	 * 
+	 * @param scopeAxiomListenerMap Axiom listeners referenced by name - may be null
+	 */
+	protected void putAxiomListeners(Map<InternedName, List<LocaleAxiomListener>> scopeAxiomListenerMap) {
+		if (scopeAxiomListenerMap != null) {
 			if (axiomListenerMap == null)
 				axiomListenerMap = new HashMap<>();
-			axiomListenerMap.putAll(scope.getAxiomListenerMap());
+			axiomListenerMap.putAll(scopeAxiomListenerMap);
 		}
 	}
 
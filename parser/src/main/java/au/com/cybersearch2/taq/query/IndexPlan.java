@@ -0,0 +1,173 @@
+/** Copyright 2026 TAQ contributors
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License. */
+package au.com.cybersearch2.taq.query;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import au.com.cybersearch2.taq.axiom.IndexedAxiomSource;
+import au.com.cybersearch2.taq.expression.Evaluator;
+import au.com.cybersearch2.taq.interfaces.Operand;
+import au.com.cybersearch2.taq.pattern.Axiom;
+import au.com.cybersearch2.taq.pattern.Template;
+
+/**
+ * IndexPlan
+ * Equality criteria of a template which can be used to probe an axiom index instead of scanning
+ * every axiom. Each criterion pairs two operands. Which of them unifies with an axiom term depends
+ * on the axiom archetype, so this is decided when the query starts iterating. The other operand
+ * must then be resolvable from the solution or already have a value.
+ * @see QueryPlanner
+ */
+public class IndexPlan
+{
+    /** Operands compared for equality by a template criterion */
+    private static class IndexProbe
+    {
+        final Operand operand1;
+        final Operand operand2;
+
+        IndexProbe(Operand operand1, Operand operand2)
+        {
+            this.operand1 = operand1;
+            this.operand2 = operand2;
+        }
+    }
+
+    /** Template to which the criteria belong */
+    private final Template template;
+    /** Candidate criteria in template term order */
+    private final List<IndexProbe> probeList;
+
+    /**
+     * Construct IndexPlan object
+     * @param template Template to which the criteria belong
+     */
+    public IndexPlan(Template template)
+    {
+        this.template = template;
+        probeList = new ArrayList<>();
+    }
+
+    /**
+     * Add equality criterion
+     * @param operand1 First operand
+     * @param operand2 Second operand
+     */
+    public void addProbe(Operand operand1, Operand operand2)
+    {
+        probeList.add(new IndexProbe(operand1, operand2));
+    }
+
+    /**
+     * Returns flag set true if no criteria have been added
+     * @return boolean
+     */
+    public boolean isEmpty()
+    {
+        return probeList.isEmpty();
+    }
+
+    /**
+     * Returns iterator over axioms selected by the first criterion which can be resolved to an index probe
+     * @param axiomSource Indexed axiom source
+     * @param solution Contains result of previous unify-evaluation steps
+     * @return Iterator of generic type Axiom or null if none of the criteria can be resolved
+     */
+    public Iterator<Axiom> iterator(IndexedAxiomSource axiomSource, Solution solution)
+    {
+        if (axiomSource.getArchetype().isAnonymousTerms())
+            // Anonymous terms are paired by position when the term mapping is created
+            return null;
+        int[] termMapping = template.getTemplateArchetype().getTermMapping(axiomSource.getArchetype());
+        for (IndexProbe probe: probeList)
+        {
+            int pairIndex1 = getPairIndex(probe.operand1, termMapping);
+            int pairIndex2 = getPairIndex(probe.operand2, termMapping);
+            Iterator<Axiom> iterator = null;
+            if ((pairIndex1 != -1) && (pairIndex2 == -1))
+                iterator = probe(axiomSource, pairIndex1, probe.operand2, solution);
+            else if ((pairIndex1 == -1) && (pairIndex2 != -1))
+                iterator = probe(axiomSource, pairIndex2, probe.operand1, solution);
+            if (iterator != null)
+                return iterator;
+        }
+        return null;
+    }
+
+    /**
+     * Probe index for axioms which will pair with key operand value
+     * @param axiomSource Indexed axiom source
+     * @param pairIndex Index of axiom term to match
+     * @param keyOperand Operand to provide key value
+     * @param solution Contains result of previous unify-evaluation steps
+     * @return Iterator of generic type Axiom or null if key value is not available
+     */
+    private Iterator<Axiom> probe(IndexedAxiomSource axiomSource, int pairIndex, Operand keyOperand, Solution solution)
+    {
+        Object key = getBoundValue(template, keyOperand, solution);
+        if (key == null)
+            return null;
+        String termName = axiomSource.getArchetype().getMetaData(pairIndex).getName();
+        return axiomSource.iterator(termName, key);
+    }
+
+    /**
+     * Returns value of given operand if it is set or can be paired with the solution
+     * @param template Template to which the operand belongs
+     * @param operand Operand to provide value
+     * @param solution Contains result of previous unify-evaluation steps
+     * @return Object or null if value is not available
+     */
+    static Object getBoundValue(Template template, Operand operand, Solution solution)
+    {
+        if (operand.getLeftOperand() != null)
+            // Value is calculated during evaluation
+            return null;
+        Object value = null;
+        if (!operand.isEmpty())
+            value = operand.getValue();
+        else if ((operand.getArchetypeIndex() != -1) && (solution.size() > 0))
+        {   // Pair with solution as the unifier will do, then restore the operand
+            int id = template.getId();
+            if (template.getSolutionPairer(solution).next(operand, 0))
+            {
+                value = operand.getValue();
+                operand.backup(id);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Returns index of axiom term which given operand will unify with
+     * @param operand Operand
+     * @param termMapping Template term mapping to axiom archetype
+     * @return index or -1 if operand does not unify with an axiom term
+     */
+    private int getPairIndex(Operand operand, int[] termMapping)
+    {
+        if (operand.getName().isEmpty() || (operand instanceof Evaluator))
+            return -1;
+        int index;
+        if (operand.getArchetypeId() == template.getId())
+            index = operand.getArchetypeIndex();
+        else
+            index = template.getArchetype().getIndexForName(operand.getName());
+        if ((index == -1) || (index >= termMapping.length))
+            return -1;
+        return termMapping[index];
+    }
+}
@@ -25,7 +25,7 @@ import au.com.cybersearch2.taq.helper.EvaluationStatus;
 import au.com.cybersearch2.taq.interfaces.AxiomCollection;
 import au.com.cybersearch2.taq.interfaces.AxiomSource;
 import au.com.cybersearch2.taq.interfaces.LocaleAxiomListener;
-import au.com.cybersearch2.taq.language.QualifiedName;
+import au.com.cybersearch2.taq.language.InternedName;
 import au.com.cybersearch2.taq.pattern.Template;
 import au.com.cybersearch2.taq.pattern.TermList;
 
@@ -42,7 +42,7 @@ public class LogicChainQuery extends ChainQuery
 	/** A set of AxiomSource objects referenced by name */
  	protected AxiomCollection axiomCollection;
 	/** Optional axiom listener to receive each solution as it is produced */
-	protected Map<QualifiedName, List<LocaleAxiomListener>> axiomListenerMap;
+	protected Map<InternedName, List<LocaleAxiomListener>> axiomListenerMap;
 
 	/**
 	 * Create LogicChainQuery object
@@ -82,9 +82,12 @@ public class LogicChainQuery extends ChainQuery
 		String key = template.getKey();
 		AxiomSource axiomSource = axiomCollection.getAxiomSource(key);
 		LogicQuery query = (axiomSource == null) ? new LogicQuery() : new LogicQuery(axiomSource);
-		if ((axiomListenerMap != null) && axiomListenerMap.containsKey(new QualifiedName(template.getKey())))
-			for (LocaleAxiomListener axiomListener: axiomListenerMap.get(new QualifiedName(template.getKey())))
-				query.setAxiomListener(axiomListener);
+		if (axiomListenerMap != null) {
+			List<LocaleAxiomListener> axiomListenerList = axiomListenerMap.get(template.getInternedKey());
+			if (axiomListenerList != null)
+				for (LocaleAxiomListener axiomListener: axiomListenerList)
+					query.setAxiomListener(axiomListener);
+		}
 		if (!query.iterate(solution, template, context))
 			return EvaluationStatus.SHORT_CIRCUIT;
 		return super.executeQuery(solution, templateChain, context);
@@ -129,11 +132,11 @@ public class LogicChainQuery extends ChainQuery
 
 	/**
 	 * Set axiom listener to receive each solution as it is produced
-	 * @param qname Reference to axiom by qualified name
+	 * @param qname Reference to axiom by interned name
 	 * @param axiomListener The axiom listener object
 	 */
 	@Override
-	void setAxiomListener(QualifiedName qname, LocaleAxiomListener axiomListener) 
+	void setAxiomListener(InternedName qname, LocaleAxiomListener axiomListener) 
 	{
 		List<LocaleAxiomListener> axiomListenerList = null;
 		if (axiomListenerMap == null)
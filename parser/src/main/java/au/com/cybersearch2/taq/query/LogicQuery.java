@@ -18,6 +18,12 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 
+import au.com.cybersearch2.taq.axiom.AxiomIndex;
+import au.com.cybersearch2.taq.axiom.AxiomSelection;
+import au.com.cybersearch2.taq.axiom.IndexedAxiomSource;
+import au.com.cybersearch2.taq.axiom.ResourceAxiomSource;
+import au.com.cybersearch2.taq.axiom.VersionedAxiomList;
+import au.com.cybersearch2.taq.compile.AxiomAssembler;
 import au.com.cybersearch2.taq.debug.ExecutionContext;
 import au.com.cybersearch2.taq.expression.ExpressionException;
 import au.com.cybersearch2.taq.expression.Variable;
@@ -28,6 +34,7 @@ import au.com.cybersearch2.taq.interfaces.SolutionFinder;
 import au.com.cybersearch2.taq.interfaces.SolutionHandler;
 import au.com.cybersearch2.taq.language.QualifiedName;
 import au.com.cybersearch2.taq.language.Term;
+import au.com.cybersearch2.taq.pattern.Archetype;
 import au.com.cybersearch2.taq.pattern.ArchiveIndexHelper;
 import au.com.cybersearch2.taq.pattern.Axiom;
 import au.com.cybersearch2.taq.pattern.OperandWalker;
@@ -60,6 +67,14 @@ public class LogicQuery implements SolutionFinder
     private Calculator calculator;
     /** Query properties - may be empty */
     private List<Term> properties;
+    /** Criteria to probe an indexed axiom source instead of scanning - may be null */
+    private IndexPlan indexPlan;
+    /** Criteria to pass to an axiom provider to select axioms - may be null */
+    private PushdownPlan pushdownPlan;
+    /** Hash table built from the axiom source for a hash join - null if not in use */
+    private IndexedAxiomSource hashJoinSource;
+    /** Solution slot assigned to the template or -1 if none */
+    private int solutionSlot;
  
     /**
      * Construct QueryLogic object
@@ -72,6 +87,7 @@ public class LogicQuery implements SolutionFinder
 		this.solutionHandler = solutionHandler;
 		queryStatus = QueryStatus.start;
 		this.properties = ChainQuery.EMPTY_PROPERTIES;
+		solutionSlot = -1;
 	}
 
     /**
@@ -143,6 +159,89 @@ public class LogicQuery implements SolutionFinder
 		this.axiomSource = axiomSource;
 	}
 
+	/**
+	 * Returns solution slot assigned to the template
+	 * @return slot index or -1 if none
+	 */
+	public int getSolutionSlot() {
+		return solutionSlot;
+	}
+
+	/**
+	 * Set solution slot assigned to the template
+	 * @param solutionSlot Slot index obtained from Solution.assignSlot()
+	 */
+	public void setSolutionSlot(int solutionSlot) {
+		this.solutionSlot = solutionSlot;
+	}
+
+	/**
+	 * Set criteria to probe an indexed axiom source instead of scanning
+	 * @param indexPlan Index plan or null if not applicable
+	 */
+	public void setIndexPlan(IndexPlan indexPlan) {
+		this.indexPlan = indexPlan;
+	}
+
+	/**
+	 * Set criteria to pass to an axiom provider to select axioms
+	 * @param pushdownPlan Pushdown plan or null if not applicable
+	 */
+	public void setPushdownPlan(PushdownPlan pushdownPlan) {
+		this.pushdownPlan = pushdownPlan;
+	}
+
+	/**
+	 * Build a hash table on the join key of this query by reading the entire axiom sequence.
+	 * The table replaces the axiom source until cleared. It is not cached.
+	 * @param context Execution context
+	 * @return flag set true if the hash table is in use, false if the query falls back to nested loop
+	 */
+	public boolean buildHashTable(ExecutionContext context) {
+		return buildHashTable(context, null);
+	}
+
+	/**
+	 * Build a hash table on the join key of this query by reading the entire axiom sequence, 
+	 * unless a table read from the same version of the axiom source is cached by given axiom assembler.
+	 * The table replaces the axiom source until cleared. An axiom source which does not report a version
+	 * is read on every call.
+	 * @param context Execution context
+	 * @param axiomAssembler Axiom assembler to cache the table or null if the table is not cached
+	 * @return flag set true if the hash table is in use, false if the query falls back to nested loop
+	 */
+	public boolean buildHashTable(ExecutionContext context, AxiomAssembler axiomAssembler) {
+		hashJoinSource = null;
+		// An axiom list source which is already indexed does not need a hash table 
+		if ((indexPlan == null) || 
+			(axiomSource == null) || 
+			(axiomSource instanceof IndexedAxiomSource) ||
+			(axiomListenerList != null) ||
+			((context != null) && context.isCaseInsensitiveNameMatch()))
+			return false;
+		Archetype<Axiom,Term> archetype = axiomSource.getArchetype();
+		// Version is read first so a change during the read will cause the table to be rebuilt next time
+		int version = axiomSource.getVersion();
+		boolean isCached = (axiomAssembler != null) && (version != -1) && (archetype != null);
+		AxiomIndex joinIndex = isCached ? axiomAssembler.getJoinIndex(archetype.getQualifiedName(), version) : null;
+		if (joinIndex == null) {
+			List<Axiom> axiomList = new VersionedAxiomList();
+			axiomSource.iterator(context).forEachRemaining(axiom -> axiomList.add(axiom));
+			joinIndex = new AxiomIndex(axiomList);
+			if (isCached)
+				axiomAssembler.putJoinIndex(archetype.getQualifiedName(), version, joinIndex);
+		}
+		hashJoinSource = new IndexedAxiomSource(joinIndex, archetype);
+		return true;
+	}
+
+	/**
+	 * Release hash table built for a hash join
+	 */
+	public void clearHashTable() {
+		hashJoinSource = null;
+	}
+
 	public void setQueryParameters(Template template) {
 	    // Set properties attached to query
 	    if (!properties.isEmpty())
@@ -215,11 +314,16 @@ public class LogicQuery implements SolutionFinder
 		{   // Start from beginning of axiom sequence
 		    if (axiomSource != null)
 		    {
-			    axiomIterator = axiomSource.iterator(context);
+			    axiomIterator = hashJoinSource != null ? hashJoinSource.iterator(context) : selectAxioms(solution, context);
     			if ((axiomIterator.hasNext()))
     			{    
     				queryStatus = QueryStatus.in_progress; 
     				emptyTemplate = (template.getTermCount() == 0);
+    				if (!emptyTemplate) {
+    					Iterator<Axiom> indexIterator = probeIndex(solution, context);
+    					if (indexIterator != null)
+    						axiomIterator = indexIterator;
+    				}
     			}
 		    }
 		    else 
@@ -272,6 +376,43 @@ public class LogicQuery implements SolutionFinder
 		return success;
 	}
 
+	/**
+	 * Returns iterator over axiom source, passing pushdown criteria to the axiom provider if available
+	 * @param solution Container to aggregate results  
+	 * @param context Evaluation context
+	 * @return Iterator of generic type Axiom
+	 */
+	private Iterator<Axiom> selectAxioms(Solution solution, ExecutionContext context)
+	{
+		// Axiom listeners must see every axiom and providers match term names case-sensitively
+		if ((pushdownPlan == null) || 
+			!(axiomSource instanceof ResourceAxiomSource) ||
+			(axiomListenerList != null) ||
+			((context != null) && context.isCaseInsensitiveNameMatch()))
+			return axiomSource.iterator(context);
+		AxiomSelection selection = pushdownPlan.selection(axiomSource.getArchetype(), solution);
+		return ((ResourceAxiomSource)axiomSource).select(selection);
+	}
+
+	/**
+	 * Returns iterator over only those axioms which can satisfy an indexed criterion of the template
+	 * @param solution Container to aggregate results  
+	 * @param context Evaluation context
+	 * @return Iterator of generic type Axiom or null if a full scan is required
+	 */
+	private Iterator<Axiom> probeIndex(Solution solution, ExecutionContext context)
+	{
+		if (hashJoinSource != null)
+			return indexPlan.iterator(hashJoinSource, solution);
+		// Axiom listeners must see every axiom and index keys are case-sensitive
+		if ((indexPlan == null) || 
+			!(axiomSource instanceof IndexedAxiomSource) ||
+			(axiomListenerList != null) ||
+			((context != null) && context.isCaseInsensitiveNameMatch()))
+			return null;
+		return indexPlan.iterator((IndexedAxiomSource)axiomSource, solution);
+	}
+
 	/**
 	 * Unify template with axiom and solution
 	 * @param axiom The axiom to pair with
@@ -402,8 +543,10 @@ public class LogicQuery implements SolutionFinder
 			// isfact() flags true if each term of the template is non-empty
 			if ((template.evaluate(context) == EvaluationStatus.COMPLETE) && template.isFact())
 			{
-			    String solutionKey = template.getQualifiedName().toString();
-				solution.put(solutionKey, template.toAxiom());
+				if (solutionSlot != -1)
+					solution.put(solutionSlot, template.toAxiom());
+				else
+					solution.put(template.getQualifiedName().toString(), template.toAxiom());
 				if ((solutionHandler == null) ||
 				     solutionHandler.onSolution(solution))
 					return true;
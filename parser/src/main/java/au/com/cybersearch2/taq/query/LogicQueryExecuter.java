@@ -19,13 +19,17 @@ import java.util.List;
 import au.com.cybersearch2.taq.QueryParams;
 import au.com.cybersearch2.taq.QueryProgram;
 import au.com.cybersearch2.taq.Scope;
+import au.com.cybersearch2.taq.axiom.PartitionedAxiomSource;
+import au.com.cybersearch2.taq.axiom.ResourceAxiomSource;
 import au.com.cybersearch2.taq.axiom.SingleAxiomSource;
 import au.com.cybersearch2.taq.debug.ExecutionContext;
 import au.com.cybersearch2.taq.helper.QualifiedTemplateName;
 import au.com.cybersearch2.taq.interfaces.AxiomCollection;
+import au.com.cybersearch2.taq.interfaces.AxiomSource;
 import au.com.cybersearch2.taq.interfaces.LocaleAxiomListener;
 import au.com.cybersearch2.taq.interfaces.Operand;
 import au.com.cybersearch2.taq.interfaces.SolutionHandler;
+import au.com.cybersearch2.taq.language.InternedName;
 import au.com.cybersearch2.taq.language.QualifiedName;
 import au.com.cybersearch2.taq.language.Term;
 import au.com.cybersearch2.taq.pattern.Axiom;
@@ -41,6 +45,10 @@ import au.com.cybersearch2.taq.pattern.TermList;
  */
 public class LogicQueryExecuter extends ChainQueryExecuter
 {
+	/** Name of query property which selects join strategy */
+	public static final String JOIN = "join";
+	/** Value of join property to select hash join */
+	public static final String HASH_JOIN = "hash";
 
     /**
 	 * QuerySolutionHander 
@@ -89,6 +97,8 @@ public class LogicQueryExecuter extends ChainQueryExecuter
     private List<Template> templateList;
     /** Head of SolutionHandler chain. Note all queries except tail are assigned a SolutionHandler */
 	protected SolutionHandler headSolutionHandler;
+	/** Flag set true if inner queries are joined to the head query using hash tables instead of nested loops */
+	private boolean isHashJoin;
 
 	/**
 	 * Construct a LogicQueryExecuter object 
@@ -110,8 +120,52 @@ public class LogicQueryExecuter extends ChainQueryExecuter
 		initialize();
 	}
 	
+	/**
+	 * Set query properties. The join property, if present, selects join strategy 
+	 * and is not passed to the head template.
+	 * @param properties Query properties
+	 */
 	public void setProperties(List<Term> properties) {
-		logicQueryList.get(0).setProperties(properties);
+		List<Term> templateProperties = new ArrayList<>();
+		for (Term property: properties) {
+			if (JOIN.equals(property.getName()))
+				isHashJoin = HASH_JOIN.equals(String.valueOf(property.getValue()));
+			else
+				templateProperties.add(property);
+		}
+		logicQueryList.get(0).setProperties(templateProperties);
+	}
+	
+	/**
+	 * Returns flag set true if hash join is selected
+	 * @return boolean
+	 */
+	public boolean isHashJoin() {
+		return isHashJoin;
+	}
+
+	/**
+	 * Select hash join instead of nested loop for queries after the head query.
+	 * Each query which has no equi-join criterion falls back to nested loop.
+	 * @param isHashJoin Flag set true for hash join
+	 */
+	public void setHashJoin(boolean isHashJoin) {
+		this.isHashJoin = isHashJoin;
+	}
+
+	/**
+	 * Restrict the head query to a contiguous range of positions in its axiom source.
+	 * This allows partitions of a large axiom source to be processed concurrently, 
+	 * each by its own template chain. 
+	 * @param headAxioms All axioms of the head query axiom source, shared by the partitions
+	 * @param start Position of first axiom in the partition
+	 * @param end Position after the last axiom in the partition
+	 */
+	public void setPartition(List<Axiom> headAxioms, int start, int end) {
+		LogicQuery logicQuery = logicQueryList.get(0);
+		AxiomSource axiomSource = logicQuery.getAxiomSource();
+		if (axiomSource != null)
+			logicQuery.setAxiomSource(new PartitionedAxiomSource(axiomSource, headAxioms, start, end));
 	}
 	
 	/**
@@ -153,6 +207,8 @@ public class LogicQueryExecuter extends ChainQueryExecuter
 			        return true;
 			    break;
 			case start:
+				if (isHashJoin)
+					buildHashTables();
 				Template template = templateList.get(0);
 				logicQuery.setQueryParameters(template);
 			    Axiom seedAxiom = new Axiom(template.getKey()); 
@@ -193,9 +249,23 @@ public class LogicQueryExecuter extends ChainQueryExecuter
 		} while(logicQuery.getQueryStatus() != QueryStatus.start && logicQuery.getQueryStatus() != QueryStatus.complete);
 		logicQuery.setQueryStatusComplete();
 		solution.reset();
+		if (isHashJoin)
+			clearHashTables();
 		return false;
     }
 
+	/**
+	 * Abandon query before all solutions are found. All queries in the chain are marked complete.
+	 */
+	@Override
+	public void cancel() {
+		for (LogicQuery logicQuery: logicQueryList)
+			logicQuery.setQueryStatusComplete();
+		if (isHashJoin)
+			clearHashTables();
+		super.cancel();
+	}
+
     /**
 	 * Force reset to initial state
 	 */
@@ -207,6 +277,8 @@ public class LogicQueryExecuter extends ChainQueryExecuter
 			Template template = templateList.get(i);
 			template.reset();
 		}
+		if (isHashJoin)
+			clearHashTables();
 		super.reset();
 	}
 
@@ -262,24 +334,48 @@ public class LogicQueryExecuter extends ChainQueryExecuter
         return false;
     }
 
+	/**
+	 * Build hash tables on the join keys of the queries which follow the head query.
+	 * Tables are cached by the axiom assembler of the query scope while the axiom source is unchanged.
+	 */
+	private void buildHashTables() {
+		for (int i = 1; i < logicQueryList.size(); i++) {
+			LogicQuery logicQuery = logicQueryList.get(i);
+            ScopeNotifier scopeNotifier = logicQuery.getScopeNotifier();
+            Scope scope = scopeNotifier != null ? scopeNotifier.getScope() : queryScope;
+			logicQuery.buildHashTable(scope.getExecutionContext(), scope.getParserAssembler().getAxiomAssembler());
+		}
+	}
+
+	/**
+	 * Release hash tables built for hash join
+	 */
+	private void clearHashTables() {
+		for (int i = 1; i < logicQueryList.size(); i++)
+			logicQueryList.get(i).clearHashTable();
+	}
+
 	private void onNextTemplate(Template nextTemplate, int index) {
         //if (nextTemplate.isReplicate() && !nextTemplate.isBackedUped())
         //	nextTemplate.backup(false);
         //else
             nextTemplate.backup(true);
-        solution.remove(nextTemplate.getQualifiedName().toString());
+        solution.remove(logicQueryList.get(index).getSolutionSlot());
 	}
 
 	/**
 	 * Initialize the LogicQuery object list. All but the last object requires a solution handler.
+	 * Each template is analysed for criteria which allow an axiom index to be probed instead of scanned.
+	 * These criteria also provide the equi-join keys for a hash join.
+	 * Each template is also assigned a solution slot.
 	 */
 	protected void initialize()
 	{
+		QueryPlanner queryPlanner = new QueryPlanner();
 		for (int i = 0; i < templateList.size(); i++)
 		{   // Use the template key to reference the corresponding axiom source
 			Template template = templateList.get(i);
 			String key = template.getKey();
-            QualifiedName qname = QualifiedName.parseGlobalName(key);
 			LogicQuery logicQuery = null;
 			if (i < templateList.size() - 1)
 			{   // Create solution handler which causes the next LogicQuery object in the chain
@@ -290,6 +386,10 @@ public class LogicQueryExecuter extends ChainQueryExecuter
 			}
 			else
 				logicQuery = new LogicQuery(axiomCollection.getAxiomSource(key));
+			logicQuery.setIndexPlan(queryPlanner.plan(template));
+			if (logicQuery.getAxiomSource() instanceof ResourceAxiomSource)
+				logicQuery.setPushdownPlan(queryPlanner.pushdown(template));
+			logicQuery.setSolutionSlot(solution.assignSlot(template.getQualifiedName().toString()));
 
 	        String scopeName = template.getQualifiedName().getScope();
 	        boolean isChangeScope;
@@ -309,31 +409,32 @@ public class LogicQueryExecuter extends ChainQueryExecuter
 			logicQueryList.add(logicQuery);
 			if (axiomListenerMap != null)
 			{
-                if (axiomListenerMap.containsKey(qname))
+                InternedName internedKey = template.getInternedKey();
+                if (axiomListenerMap.containsKey(internedKey))
                 {
-    	        	List<LocaleAxiomListener> axiomListenerList = axiomListenerMap.get(qname);
+    	        	List<LocaleAxiomListener> axiomListenerList = axiomListenerMap.get(internedKey);
             		for (LocaleAxiomListener axiomListener: axiomListenerList)
             			logicQuery.setAxiomListener(axiomListener);
-	        		axiomListenerMap.remove(qname);
+	        		axiomListenerMap.remove(internedKey);
                 }
-                qname = template.getQualifiedName();
+                QualifiedName qname = template.getQualifiedName();
    	        	List<LocaleAxiomListener> axiomListenerList = null;
-             	if (axiomListenerMap.containsKey(qname))
-             		axiomListenerList = axiomListenerMap.get(qname);
+             	if (axiomListenerMap.containsKey(qname.intern()))
+             		axiomListenerList = axiomListenerMap.get(qname.intern());
                 else 
                 {
                 	QualifiedName scopeQname = new QualifiedTemplateName(queryScope.getName(), qname.getTemplate());
-                    if (axiomListenerMap.containsKey(scopeQname)) 
+                    if (axiomListenerMap.containsKey(scopeQname.intern())) 
                     {
-                        axiomListenerList = axiomListenerMap.get(scopeQname);
+                        axiomListenerList = axiomListenerMap.get(scopeQname.intern());
                         
                     }
                 }
              	if (axiomListenerList != null)
             	{
              		for (LocaleAxiomListener axiomListener: axiomListenerList)
-            			solution.setAxiomListener(qname, axiomListener);
-	        		axiomListenerMap.remove(qname);
+            			solution.setAxiomListener(qname.intern(), axiomListener);
+	        		axiomListenerMap.remove(qname.intern());
             	}
 			}
 		}
@@ -0,0 +1,178 @@
+/** Copyright 2026 TAQ contributors
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License. */
+package au.com.cybersearch2.taq.query;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import au.com.cybersearch2.taq.axiom.AxiomSelection;
+import au.com.cybersearch2.taq.expression.Evaluator;
+import au.com.cybersearch2.taq.interfaces.Operand;
+import au.com.cybersearch2.taq.language.OperatorEnum;
+import au.com.cybersearch2.taq.language.Term;
+import au.com.cybersearch2.taq.pattern.Archetype;
+import au.com.cybersearch2.taq.pattern.Axiom;
+import au.com.cybersearch2.taq.pattern.Template;
+
+/**
+ * PushdownPlan
+ * Comparison criteria and operand names of a template which can be passed to an axiom provider,
+ * such as a database, to select axioms before they reach the query. One operand of each criterion 
+ * must unify with an axiom term and the other must already have a value or be resolvable from
+ * the solution. Which is which depends on the axiom archetype, so this is decided when the query 
+ * starts iterating. The query still tests every criterion on the axioms it receives.
+ * @see QueryPlanner
+ */
+public class PushdownPlan
+{
+    /** Operands compared by a template criterion */
+    private static class Comparison
+    {
+        final Operand operand1;
+        final OperatorEnum operator;
+        final Operand operand2;
+
+        Comparison(Operand operand1, OperatorEnum operator, Operand operand2)
+        {
+            this.operand1 = operand1;
+            this.operator = operator;
+            this.operand2 = operand2;
+        }
+    }
+
+    /** Template to which the criteria belong */
+    private final Template template;
+    /** Candidate criteria in template term order */
+    private final List<Comparison> comparisonList;
+    /** Names of operands which may unify with axiom terms */
+    private final Set<String> termNames;
+
+    /**
+     * Construct PushdownPlan object
+     * @param template Template to which the criteria belong
+     */
+    public PushdownPlan(Template template)
+    {
+        this.template = template;
+        comparisonList = new ArrayList<>();
+        termNames = new LinkedHashSet<>();
+    }
+
+    /**
+     * Add comparison criterion
+     * @param operand1 Left operand
+     * @param operator Relational operator
+     * @param operand2 Right operand
+     */
+    public void addComparison(Operand operand1, OperatorEnum operator, Operand operand2)
+    {
+        comparisonList.add(new Comparison(operand1, operator, operand2));
+    }
+
+    /**
+     * Add name of an operand which may unify with an axiom term
+     * @param termName Operand name
+     */
+    public void addTermName(String termName)
+    {
+        termNames.add(termName);
+    }
+
+    /**
+     * Returns flag set true if no criteria have been added
+     * @return boolean
+     */
+    public boolean isEmpty()
+    {
+        return comparisonList.isEmpty();
+    }
+
+    /**
+     * Returns selection to pass to the provider of axioms of given archetype
+     * @param archetype Axiom archetype
+     * @param solution Contains result of previous unify-evaluation steps
+     * @return AxiomSelection object
+     */
+    public AxiomSelection selection(Archetype<Axiom, Term> archetype, Solution solution)
+    {
+        AxiomSelection selection = new AxiomSelection();
+        if (archetype.isAnonymousTerms() && (archetype.getTermCount() > 0))
+            // Anonymous terms are paired by position, so all are required
+            return selection;
+        termNames.forEach(termName -> selection.addTermName(termName));
+        for (Comparison comparison: comparisonList)
+        {
+            boolean isTerm1 = isAxiomTerm(comparison.operand1, archetype);
+            boolean isTerm2 = isAxiomTerm(comparison.operand2, archetype);
+            if (isTerm1 && !isTerm2)
+                addCriterion(selection, comparison.operand1, comparison.operator, comparison.operand2, solution);
+            else if (!isTerm1 && isTerm2)
+                addCriterion(selection, comparison.operand2, reverse(comparison.operator), comparison.operand1, solution);
+        }
+        return selection;
+    }
+
+    /**
+     * Add criterion to selection if the value operand has a value
+     * @param selection Axiom selection
+     * @param termOperand Operand which unifies with an axiom term
+     * @param operator Relational operator with the term operand on the left
+     * @param valueOperand Operand to provide value
+     * @param solution Contains result of previous unify-evaluation steps
+     */
+    private void addCriterion(AxiomSelection selection, Operand termOperand, OperatorEnum operator, Operand valueOperand, Solution solution)
+    {
+        if (!termOperand.isEmpty())
+            // Unification will not set the operand from the axiom
+            return;
+        Object value = IndexPlan.getBoundValue(template, valueOperand, solution);
+        if (value != null)
+            selection.addCriterion(termOperand.getName(), operator, value);
+    }
+
+    /**
+     * Returns flag set true if given operand may unify with a term of given archetype.
+     * If the archetype does not declare terms, any named operand may do so.
+     * @param operand Operand
+     * @param archetype Axiom archetype
+     * @return boolean
+     */
+    private boolean isAxiomTerm(Operand operand, Archetype<Axiom, Term> archetype)
+    {
+        if (operand.getName().isEmpty() || (operand instanceof Evaluator))
+            return false;
+        if (archetype.getTermCount() == 0)
+            return true;
+        return archetype.getIndexForName(operand.getName()) != -1;
+    }
+
+    /**
+     * Returns operator which gives the same result when operands are swapped
+     * @param operator Relational operator
+     * @return OperatorEnum
+     */
+    private OperatorEnum reverse(OperatorEnum operator)
+    {
+        switch (operator)
+        {
+        case LT: return OperatorEnum.GT;
+        case GT: return OperatorEnum.LT;
+        case LE: return OperatorEnum.GE;
+        case GE: return OperatorEnum.LE;
+        default: return operator;
+        }
+    }
+}
@@ -19,7 +19,6 @@ import au.com.cybersearch2.taq.QueryParams;
 import au.com.cybersearch2.taq.Scope;
 import au.com.cybersearch2.taq.helper.EvaluationStatus;
 import au.com.cybersearch2.taq.interfaces.AxiomSource;
-import au.com.cybersearch2.taq.interfaces.SolutionHandler;
 import au.com.cybersearch2.taq.language.KeyName;
 import au.com.cybersearch2.taq.language.QualifiedName;
 import au.com.cybersearch2.taq.language.QuerySpec;
@@ -40,20 +39,53 @@ abstract public class QueryLauncher
      * @param queryParams Query parameters
      */
     public void launch(QueryParams queryParams)
+    {
+        ChainQueryExecuter headQuery = prepare(queryParams);
+        boolean isCalculation = !(headQuery instanceof LogicQueryExecuter);
+        Solution solution = headQuery.getSolution();
+        solution.setSolutionHandler(queryParams.getSolutionHandler());
+        while (headQuery.execute())
+        {
+            if ((solution.evaluate() == EvaluationStatus.SHORT_CIRCUIT) || isCalculation)
+                break;
+        }
+        // Reset all query templates so they can be recycled
+        headQuery.backup(isCalculation);
+    }
+
+    /**
+     * Returns spliterator which executes query by specification one solution at a time
+     * as axioms are requested. The spliterator must be closed if it is not run to completion.
+     * @param queryParams Query parameters
+     * @return SolutionSpliterator object
+     */
+    public SolutionSpliterator launchSpliterator(QueryParams queryParams)
+    {
+        ChainQueryExecuter headQuery = prepare(queryParams);
+        headQuery.getSolution().setSolutionHandler(queryParams.getSolutionHandler());
+        return new SolutionSpliterator(headQuery);
+    }
+
+    /**
+     * Returns head of query chain built to query specification 
+     * @param queryParams Query parameters
+     * @return ChainQueryExecuter object, which is a LogicQueryExecuter unless the query is a calculation
+     */
+    protected ChainQueryExecuter prepare(QueryParams queryParams)
     {
         Scope scope = queryParams.getScope();
         QuerySpec querySpec = queryParams.getQuerySpec();
-        SolutionHandler solutionHandler = queryParams.getSolutionHandler();
         ChainQueryExecuter headQuery = null;
         queryParams.initialize();
         boolean isCalculation = querySpec.getQueryType() == QueryType.calculator;
         if (!isCalculation || queryParams.hasAxiomSource()) {
             headQuery = new LogicQueryExecuter(queryParams);
-            isCalculation = false;
             KeyName keyName = querySpec.getKeyNameList().get(0);
             List<Term> properties = querySpec.getProperties(keyName.getTemplateName().toString());
             if (properties != null)
             	((LogicQueryExecuter)headQuery).setProperties(properties);
+            if (queryParams.isPartitioned())
+            	((LogicQueryExecuter)headQuery).setPartition(queryParams.getPartitionAxioms(), queryParams.getPartitionStart(), queryParams.getPartitionEnd());
         }
         else
         {   // QueryParams need to be initialized to set up parameter axioms
@@ -90,15 +122,7 @@ abstract public class QueryLauncher
                     headQuery.chain(chainQueryParams.getAxiomCollection(), template, scopeNotifier);
                 }
             }
-        Solution solution = headQuery.getSolution();
-        solution.setSolutionHandler(solutionHandler);
-        while (headQuery.execute())
-        {
-            if ((solution.evaluate() == EvaluationStatus.SHORT_CIRCUIT) || isCalculation)
-                break;
-        }
-        // Reset all query templates so they can be recycled
-        headQuery.backup(isCalculation);
+        return headQuery;
     }
 
     /**
@@ -0,0 +1,146 @@
+/** Copyright 2026 TAQ contributors
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License. */
+package au.com.cybersearch2.taq.query;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import au.com.cybersearch2.taq.expression.Evaluator;
+import au.com.cybersearch2.taq.expression.Orientation;
+import au.com.cybersearch2.taq.interfaces.Operand;
+import au.com.cybersearch2.taq.language.OperatorEnum;
+import au.com.cybersearch2.taq.pattern.Template;
+
+/**
+ * QueryPlanner
+ * Analyses templates to find criteria which allow a query to probe an axiom index instead of
+ * unifying with every axiom in sequence. Only top-level template terms are considered, as a
+ * failed criterion at this level rejects the axiom. The criterion form recognized is
+ * "term ? Term" or equivalently "term ? term == Term". Criteria comparing a term with a
+ * value, such as "altitude ? > 5000", can also be pushed down to an axiom provider.
+ */
+public class QueryPlanner
+{
+    /** Operators of comparisons which can be pushed down */
+    private static final Set<OperatorEnum> RELATIONAL_OPS = 
+        EnumSet.of(OperatorEnum.LT, OperatorEnum.GT, OperatorEnum.LE, OperatorEnum.GE, OperatorEnum.EQ, OperatorEnum.NE);
+
+    /**
+     * Returns index plan for given template
+     * @param template Template to analyse
+     * @return IndexPlan object or null if the template has no criteria suitable for indexing
+     */
+    public IndexPlan plan(Template template)
+    {
+        if (template.isCalculator() || template.isChoice() || (template.getTermCount() == 0))
+            return null;
+        IndexPlan indexPlan = new IndexPlan(template);
+        template.forEach(term -> {
+            Operand criterion = getCriterion(term);
+            if (criterion != null)
+                indexPlan.addProbe(criterion.getLeftOperand(), criterion.getRightOperand());
+        });
+        return indexPlan.isEmpty() ? null : indexPlan;
+    }
+
+    /**
+     * Returns pushdown plan for given template, containing comparison criteria of top-level
+     * terms and the names of all operands of the template and its chain
+     * @param template Template to analyse
+     * @return PushdownPlan object or null if the template is not suitable
+     */
+    public PushdownPlan pushdown(Template template)
+    {
+        if (template.isCalculator() || template.isChoice() || (template.getTermCount() == 0))
+            return null;
+        PushdownPlan pushdownPlan = new PushdownPlan(template);
+        template.getOperandWalker().visitAllNodes((operand, depth) -> {
+            if (depth == 1)
+            {
+                Operand comparison = getComparison(operand);
+                if (comparison != null)
+                    pushdownPlan.addComparison(comparison.getLeftOperand(), 
+                                               ((Evaluator)comparison).getOperatorEnum(), 
+                                               comparison.getRightOperand());
+            }
+            if (!operand.getName().isEmpty())
+                pushdownPlan.addTermName(operand.getName());
+            return true;
+        });
+        // Chained templates unify with the same axiom
+        Template chainTemplate = template.getNext();
+        while (chainTemplate != null)
+        {
+            chainTemplate.getOperandWalker().visitAllNodes((operand, depth) -> {
+                if (!operand.getName().isEmpty())
+                    pushdownPlan.addTermName(operand.getName());
+                return true;
+            });
+            chainTemplate = chainTemplate.getNext();
+        }
+        return pushdownPlan;
+    }
+
+    /**
+     * Returns relational expression of given term if it is a simple comparison criterion
+     * @param term Template term
+     * @return Evaluator object or null if term is not a simple comparison criterion
+     */
+    private Operand getComparison(Operand term)
+    {
+        if (!isBinary(term, OperatorEnum.HOOK))
+            return null;
+        Operand comparison = term.getLeftOperand();
+        if (!(comparison instanceof Evaluator))
+            return null;
+        OperatorEnum operatorEnum = ((Evaluator)comparison).getOperatorEnum();
+        if (!RELATIONAL_OPS.contains(operatorEnum) || !isBinary(comparison, operatorEnum))
+            return null;
+        if ((comparison.getLeftOperand() instanceof Evaluator) || (comparison.getRightOperand() instanceof Evaluator))
+            return null;
+        return comparison;
+    }
+
+    /**
+     * Returns equality expression of given term if it is a simple criterion
+     * @param term Template term
+     * @return Evaluator object or null if term is not a simple criterion
+     */
+    private Operand getCriterion(Operand term)
+    {
+        if (!isBinary(term, OperatorEnum.HOOK))
+            return null;
+        Operand criterion = term.getLeftOperand();
+        if (!isBinary(criterion, OperatorEnum.EQ))
+            return null;
+        if ((criterion.getLeftOperand() instanceof Evaluator) || (criterion.getRightOperand() instanceof Evaluator))
+            return null;
+        return criterion;
+    }
+
+    /**
+     * Returns flag set true if given operand is a binary evaluator with given operator
+     * @param operand Operand
+     * @param operatorEnum Operator
+     * @return boolean
+     */
+    private boolean isBinary(Operand operand, OperatorEnum operatorEnum)
+    {
+        if (!(operand instanceof Evaluator))
+            return false;
+        Evaluator evaluator = (Evaluator)operand;
+        return (evaluator.getOperatorEnum() == operatorEnum) &&
+               (evaluator.getOrientation() == Orientation.binary);
+    }
+}
@@ -13,19 +13,23 @@
     limitations under the License. */
 package au.com.cybersearch2.taq.query;
 
+import java.util.AbstractSet;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 
 import au.com.cybersearch2.taq.helper.EvaluationStatus;
 import au.com.cybersearch2.taq.interfaces.LocaleAxiomListener;
 import au.com.cybersearch2.taq.interfaces.SolutionHandler;
+import au.com.cybersearch2.taq.language.InternedName;
 import au.com.cybersearch2.taq.language.Parameter;
 import au.com.cybersearch2.taq.language.QualifiedName;
 import au.com.cybersearch2.taq.language.Term;
@@ -36,7 +40,10 @@ import au.com.cybersearch2.taq.pattern.AxiomArchetype;
 
 /**
  * Solution
- * Container to hold axioms produced processing a query chain
+ * Container to hold axioms produced processing a query chain.
+ * Templates of a query chain can be assigned slots so that axioms are stored in an array
+ * indexed by slot instead of a map referenced by key. The key-based methods remain available
+ * and are redirected to the slot of an assigned key.
  * @author Andrew Bowley
  * 8 Jan 2015
  */
@@ -44,14 +51,30 @@ public class Solution
 {
     protected static String EMPTY_KEY = "";
     
-	/** Axioms referenced by key */
+	/** Axioms referenced by key, excluding those held in slots */
 	private final Map<String, Axiom> axiomMap;
+	/** Slots referenced by key */
+	private final Map<String, Integer> slotMap;
+	/** Key of each slot */
+	private String[] slotKeys;
+	/** Interned template name of each slot for axiom listener lookup */
+	private InternedName[] slotNames;
+	/** Axiom held in each slot or null if empty */
+	private Axiom[] slotAxioms;
+	/** Count of slots assigned */
+	private int slotCount;
+	/** Count of slots holding an axiom */
+	private int slotSize;
+	/** Set view of all axiom keys */
+	private Set<String> keySet;
     /** Keys used for put() in sequence order */
 	private final Deque<String> keyStack;
 	private final Locale globalLocale;
 	
 	/** Optional axiom listeners referenced by key */
-	private Map<QualifiedName, List<LocaleAxiomListener>> axiomListenerMap;
+	private Map<InternedName, List<LocaleAxiomListener>> axiomListenerMap;
+	/** Interned template name of each key without a slot, created with the first axiom listener */
+	private Map<String, InternedName> internedKeyMap;
 	/** Solution handler for self-evaluation */
 	private SolutionHandler solutionHandler;
 
@@ -63,6 +86,37 @@ public class Solution
 		this.globalLocale = globalLocale;
 		axiomMap = new HashMap<String, Axiom>();
 		keyStack = new ArrayDeque<>();
+		slotMap = new HashMap<String, Integer>();
+		slotKeys = new String[0];
+		slotNames = new InternedName[0];
+		slotAxioms = new Axiom[0];
+	}
+
+	/**
+	 * Assign slot to given key. Assigning a key which already has a slot returns the existing slot.
+	 * @param key Name of axiom, usually template qualified name
+	 * @return slot index
+	 */
+	public int assignSlot(String key)
+	{
+		Integer slot = slotMap.get(key);
+		if (slot != null)
+			return slot;
+		if (slotCount == slotKeys.length)
+		{
+			int capacity = slotCount + 4;
+			slotKeys = Arrays.copyOf(slotKeys, capacity);
+			slotNames = Arrays.copyOf(slotNames, capacity);
+			slotAxioms = Arrays.copyOf(slotAxioms, capacity);
+		}
+		slotKeys[slotCount] = key;
+		slotNames[slotCount] = QualifiedName.parseTemplateName(key).intern();
+		// Move any axiom already stored under the key
+		slotAxioms[slotCount] = axiomMap.remove(key);
+		if (slotAxioms[slotCount] != null)
+			++slotSize;
+		slotMap.put(key, slotCount);
+		return slotCount++;
 	}
 
 	/**
@@ -105,7 +159,7 @@ public class Solution
 	 */
 	public int size() 
 	{
-		return axiomMap.size();
+		return axiomMap.size() + slotSize;
 	}
 
     /**
@@ -125,17 +179,65 @@ public class Solution
      */
     public void put(String key, Axiom axiom, Locale locale) 
     {
+    	Integer slot = slotMap.get(key);
+    	if (slot != null) {
+    		put(slot, axiom, locale);
+    		return;
+    	}
         axiomMap.put(key, axiom);
-        QualifiedName qname = QualifiedName.parseTemplateName(key);
-        if ((axiomListenerMap != null) && axiomListenerMap.containsKey(qname) && (axiom.getTermCount() > 0)) {
+        if ((axiomListenerMap != null) && (axiom.getTermCount() > 0))
+        	notifyListeners(internedKeyMap.computeIfAbsent(key, name -> QualifiedName.parseTemplateName(name).intern()), axiom, locale);
+        keyStack.push(key);
+    }
+
+    /**
+     * Add axiom to slot and notify listener if present
+     * @param slot Slot index obtained from assignSlot()
+     * @param axiom Axiom
+     */
+    public void put(int slot, Axiom axiom) 
+    {
+    	put(slot, axiom, globalLocale);
+    }
+
+    /**
+     * Add axiom to slot and notify listener if present
+     * @param slot Slot index obtained from assignSlot()
+     * @param axiom Axiom
+     * @param locale Locale
+     */
+    public void put(int slot, Axiom axiom, Locale locale) 
+    {
+    	if (slotAxioms[slot] == null)
+    		++slotSize;
+    	slotAxioms[slot] = axiom;
+        if ((axiomListenerMap != null) && (axiom.getTermCount() > 0))
+        	notifyListeners(slotNames[slot], axiom, locale);
+        keyStack.push(slotKeys[slot]);
+    }
+
+    /**
+     * Notify axiom listeners, if any, registered for given name
+     * @param name Interned template name
+     * @param axiom Axiom
+     * @param locale Locale
+     */
+    private void notifyListeners(InternedName name, Axiom axiom, Locale locale)
+    {
+    	List<LocaleAxiomListener> axiomListenerList = axiomListenerMap.get(name);
+    	if (axiomListenerList != null) {
         	Axiom deepCopy = copy(axiom);
-            for (LocaleAxiomListener axiomListener: axiomListenerMap.get(qname))
+            for (LocaleAxiomListener axiomListener: axiomListenerList)
                 axiomListener.onNextAxiom(axiom.getArchetype().getQualifiedName(), deepCopy, locale);
-        }
-        keyStack.push(key);
+    	}
     }
 
-    private Axiom copy(Axiom axiomToCopy) {
+    /**
+     * Returns deep copy of given axiom which is detached from the query
+     * @param axiomToCopy Axiom
+     * @return Axiom object
+     */
+    Axiom copy(Axiom axiomToCopy) {
     	AxiomArchetype axiomArchetype = (AxiomArchetype) axiomToCopy.getArchetype();
         Axiom axiom = new Axiom(axiomArchetype);
         boolean mutable = axiomArchetype.isMutable();
@@ -173,16 +275,50 @@ public class Solution
      */
     public void remove(String key) 
     {
-        if (axiomMap.remove(key) != null) {
-        	if (keyStack.contains(key)) {
-		        int size = keyStack.size();
-		        for (int i = 0; i < size; ++i) {
-		        	String popped = keyStack.pop();
-		        	if (key.equals(popped))
-		        		break;
-		        }
-        	}
-        }
+    	Integer slot = slotMap.get(key);
+    	if (slot != null)
+    		remove(slot.intValue());
+    	else if (axiomMap.remove(key) != null)
+    		popKey(key);
+    }
+
+	/**
+     * Remove axiom held in slot
+     * @param slot Slot index obtained from assignSlot()
+     */
+    public void remove(int slot) 
+    {
+    	if (slotAxioms[slot] != null) {
+    		slotAxioms[slot] = null;
+    		--slotSize;
+    		popKey(slotKeys[slot]);
+    	}
+    }
+
+    /**
+     * Returns axiom held in slot
+     * @param slot Slot index obtained from assignSlot()
+     * @return Axiom or null if slot is empty
+     */
+    public Axiom getAxiom(int slot)
+    {
+    	return slotAxioms[slot];
+    }
+
+    /**
+     * Pop key stack down to and including given key, if it is in the stack
+     * @param key Key
+     */
+    private void popKey(String key)
+    {
+    	if (keyStack.contains(key)) {
+	        int size = keyStack.size();
+	        for (int i = 0; i < size; ++i) {
+	        	String popped = keyStack.pop();
+	        	if (key.equals(popped))
+	        		break;
+	        }
+    	}
     }
 
 	/**
@@ -191,7 +327,52 @@ public class Solution
 	 */
 	public Set<String> keySet() 
 	{
-		return axiomMap.keySet();
+		if (keySet == null)
+			keySet = new AbstractSet<String>() {
+
+				@Override
+				public Iterator<String> iterator() {
+					// Map keys first, then the keys of occupied slots, read in place
+					Iterator<String> mapIterator = axiomMap.keySet().iterator();
+					return new Iterator<String>() {
+						int slot = nextSlot(0);
+
+						@Override
+						public boolean hasNext() {
+							return mapIterator.hasNext() || (slot < slotCount);
+						}
+
+						@Override
+						public String next() {
+							if (mapIterator.hasNext())
+								return mapIterator.next();
+							if (slot >= slotCount)
+								throw new NoSuchElementException();
+							String key = slotKeys[slot];
+							slot = nextSlot(slot + 1);
+							return key;
+						}
+
+						private int nextSlot(int from) {
+							while ((from < slotCount) && (slotAxioms[from] == null))
+								++from;
+							return from;
+						}
+					};
+				}
+
+				@Override
+				public int size() {
+					return Solution.this.size();
+				}
+
+				@Override
+				public boolean contains(Object key) {
+					Integer slot = slotMap.get(key);
+					return slot != null ? slotAxioms[slot] != null : axiomMap.containsKey(key);
+				}
+			};
+		return keySet;
 	}
 
 	/**
@@ -201,7 +382,7 @@ public class Solution
 	 */
 	public Axiom getAxiom(String key)
 	{
-	    Axiom axiom = axiomMap.get(key);
+	    Axiom axiom = get(key);
 		return axiom == null ? new Axiom(key) : axiom;
 	}
 
@@ -216,6 +397,8 @@ public class Solution
 	public void reset() 
 	{
 		axiomMap.clear();
+		Arrays.fill(slotAxioms, null);
+		slotSize = 0;
         keyStack.clear();
 	}
 
@@ -227,7 +410,7 @@ public class Solution
 	 */
 	public Object getValue(String key, String name)
 	{
-		Axiom axiom = axiomMap.get(key);
+		Axiom axiom = get(key);
 		if (axiom != null)
 		{
 			Term term = axiom.getTermByName(name);
@@ -263,15 +446,16 @@ public class Solution
 
 	/**
 	 * Set axiom listener for specified axiom key
-	 * @param key
+	 * @param key Interned axiom name
 	 * @param axiomListener LocaleAxiomListener object
 	 */
-	void setAxiomListener(QualifiedName key, LocaleAxiomListener axiomListener) 
+	void setAxiomListener(InternedName key, LocaleAxiomListener axiomListener) 
 	{
 		List<LocaleAxiomListener> axiomListenerList = null;
-		if (axiomListenerMap == null)
+		if (axiomListenerMap == null) {
 			axiomListenerMap = new HashMap<>();
-		else
+			internedKeyMap = new HashMap<>();
+		} else
 			axiomListenerList = axiomListenerMap.get(key);
 		if (axiomListenerList == null)
 		{
@@ -288,7 +472,24 @@ public class Solution
 	@Override
 	public String toString() 
 	{
-		return axiomMap.toString();
+		if (slotSize == 0)
+			return axiomMap.toString();
+		Map<String, Axiom> allAxioms = new HashMap<>(axiomMap);
+		for (int i = 0; i < slotCount; ++i)
+			if (slotAxioms[i] != null)
+				allAxioms.put(slotKeys[i], slotAxioms[i]);
+		return allAxioms.toString();
+	}
+
+	/**
+	 * Returns axiom referenced by key
+	 * @param key Key
+	 * @return Axiom or null if not found
+	 */
+	private Axiom get(String key)
+	{
+		Integer slot = slotMap.get(key);
+		return slot != null ? slotAxioms[slot] : axiomMap.get(key);
 	}
 
 
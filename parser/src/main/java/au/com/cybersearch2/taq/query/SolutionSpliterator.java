@@ -0,0 +1,120 @@
+/** Copyright 2026 TAQ contributors
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License. */
+package au.com.cybersearch2.taq.query;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+import au.com.cybersearch2.taq.helper.EvaluationStatus;
+import au.com.cybersearch2.taq.pattern.Axiom;
+
+/**
+ * SolutionSpliterator
+ * Executes a query one solution at a time as axioms are requested, so solutions are 
+ * not accumulated. Each solution yields a copy of the axiom most recently added to it,
+ * which is produced by the last query in the chain. Each solution is passed to the
+ * solution handler, if one is set, which can end the query. Closing the spliterator before
+ * the query is complete cancels the query.
+ */
+public class SolutionSpliterator extends Spliterators.AbstractSpliterator<Axiom> implements AutoCloseable
+{
+    /** Head of query chain */
+    private final ChainQueryExecuter headQuery;
+    /** Flag set true if the query is a calculation, which produces a single solution */
+    private final boolean isCalculation;
+    /** Optional task to run when the spliterator is closed */
+    private Runnable closeHandler;
+    /** Flag set true if all solutions have been found */
+    private boolean isExhausted;
+    /** Flag set true if the spliterator is closed */
+    private boolean isClosed;
+
+    /**
+     * Construct SolutionSpliterator object
+     * @param headQuery Head of query chain
+     */
+    public SolutionSpliterator(ChainQueryExecuter headQuery)
+    {
+        super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+        this.headQuery = headQuery;
+        isCalculation = !(headQuery instanceof LogicQueryExecuter);
+    }
+
+    /**
+     * Set task to run when the spliterator is closed
+     * @param closeHandler Runnable object
+     */
+    public void setCloseHandler(Runnable closeHandler)
+    {
+        this.closeHandler = closeHandler;
+    }
+
+    /**
+     * Returns flag set true if all solutions have been found
+     * @return boolean
+     */
+    public boolean isExhausted()
+    {
+        return isExhausted;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Axiom> action)
+    {
+        while (!isClosed)
+        {
+            if (!headQuery.execute())
+            {
+                isExhausted = true;
+                close();
+                return false;
+            }
+            Solution solution = headQuery.getSolution();
+            String key = solution.getCurrentKey();
+            Axiom axiom = key != null ? solution.getAxiom(key) : null;
+            if (axiom != null)
+                axiom = solution.copy(axiom);
+            // Solution handler may end the query, as does completion of a calculation 
+            if ((solution.evaluate() == EvaluationStatus.SHORT_CIRCUIT) || isCalculation)
+            {
+                isExhausted = true;
+                close();
+            }
+            if (axiom != null)
+            {
+                action.accept(axiom);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Close spliterator, cancelling the query if it is not complete
+     */
+    @Override
+    public void close()
+    {
+        if (isClosed)
+            return;
+        isClosed = true;
+        if (!isExhausted)
+            headQuery.cancel();
+        // Reset all query templates so they can be recycled
+        headQuery.backup(isCalculation);
+        if (closeHandler != null)
+            closeHandler.run();
+    }
+}
@@ -0,0 +1,197 @@
+/** Copyright 2026 TAQ contributors
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License. */
+package au.com.cybersearch2.taq.result;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import au.com.cybersearch2.taq.interfaces.SolutionHandler;
+import au.com.cybersearch2.taq.language.OperandType;
+import au.com.cybersearch2.taq.language.QualifiedName;
+import au.com.cybersearch2.taq.list.AxiomTermList;
+import au.com.cybersearch2.taq.query.Solution;
+
+/**
+ * ResultCollector
+ * Thread-safe collector of the solutions and results produced by queries running concurrently, 
+ * each over one partition of the head query axiom source. Results are merged in partition order.
+ * Solutions are passed to the solution handler one at a time, either as they arrive or, if ordering 
+ * is selected, in partition order once all partitions are complete.
+ */
+public class ResultCollector
+{
+    /** Result list which concatenates the result lists of all partitions */
+    private static class MergedList<T> implements ResultList<T>
+    {
+        private final QualifiedName qualifiedName;
+        private final OperandType operandType;
+        private final List<T> list;
+
+        public MergedList(QualifiedName qualifiedName, OperandType operandType)
+        {
+            this.qualifiedName = qualifiedName;
+            this.operandType = operandType;
+            list = new ArrayList<>();
+        }
+
+        @Override
+        public QualifiedName getQualifiedName()
+        {
+            return qualifiedName;
+        }
+
+        @Override
+        public OperandType getOperandType()
+        {
+            return operandType;
+        }
+
+        @Override
+        public List<T> getList()
+        {
+            return list;
+        }
+
+        @SuppressWarnings("unchecked")
+        void addAll(ResultList<?> resultList)
+        {
+            List<?> items = resultList.getList();
+            int offset = resultList.getOffset();
+            list.addAll((List<T>)items.subList(Math.min(offset, items.size()), items.size()));
+        }
+    }
+
+    /** Handler to receive all solutions */
+    private final SolutionHandler solutionHandler;
+    /** Flag set true if solutions are passed on in partition order */
+    private final boolean isOrdered;
+    /** Results referenced by partition */
+    private final Result[] results;
+    /** Solutions held for ordering, referenced by partition */
+    private final List<List<Solution>> solutionLists;
+    /** Flag set true if the solution handler has signalled no more solutions are wanted */
+    private volatile boolean isShortCircuit;
+
+    /**
+     * Construct ResultCollector object
+     * @param partitionCount Number of partitions
+     * @param solutionHandler Handler to receive all solutions
+     * @param isOrdered Flag set true if solutions are to be passed on in partition order
+     */
+    public ResultCollector(int partitionCount, SolutionHandler solutionHandler, boolean isOrdered)
+    {
+        this.solutionHandler = solutionHandler;
+        this.isOrdered = isOrdered;
+        results = new Result[partitionCount];
+        solutionLists = new ArrayList<>(partitionCount);
+        for (int i = 0; i < partitionCount; i++)
+            solutionLists.add(isOrdered ? new ArrayList<>() : null);
+    }
+
+    /**
+     * Returns solution handler for the query of given partition
+     * @param partition Partition index
+     * @return SolutionHandler object
+     */
+    public SolutionHandler getSolutionHandler(int partition)
+    {
+        if (isOrdered)
+        {
+            final List<Solution> solutionList = solutionLists.get(partition);
+            return solution -> {
+                // Solution is recycled by the query, so keep a copy. The solution handler 
+                // only sees solutions after all partitions complete, so it cannot short circuit them.
+                solutionList.add(copy(solution));
+                return true;
+            };
+        }
+        return solution -> onSolution(solution);
+    }
+
+    /**
+     * Add result of given partition
+     * @param partition Partition index
+     * @param result Result object
+     */
+    public synchronized void addResult(int partition, Result result)
+    {
+        results[partition] = result;
+    }
+
+    /**
+     * Returns result of all partitions merged in partition order. If ordering is 
+     * selected, the solutions are first passed to the solution handler.
+     * @return Result object
+     */
+    public synchronized Result getResult()
+    {
+        if (isOrdered)
+        {
+            for (List<Solution> solutionList: solutionLists)
+            {
+                for (Solution solution: solutionList)
+                    if (!onSolution(solution))
+                        break;
+                solutionList.clear();
+                if (isShortCircuit)
+                    break;
+            }
+        }
+        Map<QualifiedName, MergedList<Object>> listMap = new LinkedHashMap<>();
+        Map<QualifiedName, AxiomTermList> axiomMap = new HashMap<>();
+        for (Result result: results)
+        {
+            if (result == null)
+                continue;
+            result.listMap.forEach((qname, resultList) ->
+                listMap.computeIfAbsent(qname, key -> 
+                    new MergedList<Object>(resultList.getQualifiedName(), resultList.getOperandType())).addAll(resultList));
+            if (result.axiomMap != null)
+                axiomMap.putAll(result.axiomMap);
+        }
+        return new Result(new LinkedHashMap<QualifiedName, ResultList<?>>(listMap), axiomMap);
+    }
+
+    /**
+     * Pass solution to solution handler, one at a time
+     * @param solution Solution
+     * @return flag set false if no more solutions are wanted
+     */
+    private synchronized boolean onSolution(Solution solution)
+    {
+        if (isShortCircuit)
+            return false;
+        if (!solutionHandler.onSolution(solution))
+            isShortCircuit = true;
+        return !isShortCircuit;
+    }
+
+    /**
+     * Returns copy of given solution with axioms put in the same order as the original
+     * @param solution Solution
+     * @return Solution object
+     */
+    private static Solution copy(Solution solution)
+    {
+        Solution copy = new Solution(solution.getGlobalLocale());
+        // The stack holds the most recent key first
+        String[] stack = solution.getStack();
+        for (int i = stack.length - 1; i >= 0; --i)
+            copy.put(stack[i], solution.getAxiom(stack[i]));
+        return copy;
+    }
+}
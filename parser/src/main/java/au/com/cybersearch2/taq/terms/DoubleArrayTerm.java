@@ -15,6 +15,8 @@ package au.com.cybersearch2.taq.terms;
 
 import java.util.Arrays;
 
+import au.com.cybersearch2.taq.expression.ExpressionException;
+import au.com.cybersearch2.taq.helper.DoubleKernels;
 import au.com.cybersearch2.taq.language.GenericParameter;
 import au.com.cybersearch2.taq.language.Literal;
 import au.com.cybersearch2.taq.language.LiteralType;
@@ -48,6 +50,67 @@ public class DoubleArrayTerm extends GenericParameter<double[]> implements Liter
 
 	}
 
+	/**
+	 * Returns sum of array elements
+	 * @return double
+	 */
+	public double sum()
+	{
+		double[] x = getValue();
+		return DoubleKernels.sum(x, x.length);
+	}
+
+	/**
+	 * Returns dot product of this array and given array
+	 * @param other Array of same length
+	 * @return double
+	 */
+	public double dot(DoubleArrayTerm other)
+	{
+		double[] x = getValue();
+		double[] y = checkLength(other);
+		return DoubleKernels.dot(x, y, x.length);
+	}
+
+	/**
+	 * Returns this array scaled and added to given array: alpha * this + y
+	 * @param alpha Scale factor
+	 * @param other Array of same length, which is not changed
+	 * @return DoubleArrayTerm object
+	 */
+	public DoubleArrayTerm axpy(double alpha, DoubleArrayTerm other)
+	{
+		double[] x = getValue();
+		double[] y = checkLength(other).clone();
+		DoubleKernels.axpy(alpha, x, y, x.length);
+		return new DoubleArrayTerm(y);
+	}
+
+	/**
+	 * Returns running totals of array elements
+	 * @return DoubleArrayTerm object
+	 */
+	public DoubleArrayTerm prefixSum()
+	{
+		double[] x = getValue();
+		double[] totals = new double[x.length];
+		DoubleKernels.prefixSum(x, totals, x.length);
+		return new DoubleArrayTerm(totals);
+	}
+
+	/**
+	 * Returns value of given array term after checking it has the same length as this array
+	 * @param other Array term
+	 * @return double array
+	 */
+	private double[] checkLength(DoubleArrayTerm other)
+	{
+		double[] y = other.getValue();
+		if (y.length != getValue().length)
+			throw new ExpressionException("Invalid array length = " + y.length);
+		return y;
+	}
+
     private static double[] parseArray(String... value) {
     	double[] array = new double[value.length];
     	int[] index = new int[] {0};
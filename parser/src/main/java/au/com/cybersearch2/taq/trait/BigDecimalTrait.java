@@ -56,6 +56,8 @@ public class BigDecimalTrait extends NumberTrait<BigDecimal>
     @Override
     public BigDecimal parseValue(String string)
     {
+        if (isPlainNumber(string, true))
+            return new BigDecimal(string);
         BigDecimal bigDecimal = null;
         Scanner scanner = new Scanner(string);
         scanner.useLocale(getLocale());
@@ -46,6 +46,8 @@ public class DoubleTrait extends NumberTrait<Double>
     @Override
     public Double parseValue(String string)
     {
+        if (isPlainNumber(string, true))
+            return Double.valueOf(string);
         Double value = Double.NaN;
         Scanner scanner = new Scanner(string);
         scanner.useLocale(getLocale());
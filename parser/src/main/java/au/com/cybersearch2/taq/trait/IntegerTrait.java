@@ -54,6 +54,8 @@ public class IntegerTrait extends NumberTrait<Long>
     @Override
     public Long parseValue(String string)
     {
+        if (isPlainNumber(string, false))
+            return Long.valueOf(string);
         // Fail gracefully
         Long value = Long.valueOf(0L);
         Scanner scanner = new Scanner(string);
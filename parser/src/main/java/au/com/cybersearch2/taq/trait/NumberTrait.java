@@ -13,8 +13,7 @@
     limitations under the License. */
 package au.com.cybersearch2.taq.trait;
 
-import java.text.NumberFormat;
-
+import au.com.cybersearch2.taq.helper.FormatCache;
 import au.com.cybersearch2.taq.interfaces.StringCloneable;
 import au.com.cybersearch2.taq.language.OperandType;
 
@@ -26,6 +25,8 @@ import au.com.cybersearch2.taq.language.OperandType;
  */
 public abstract class NumberTrait<T extends Number> extends DefaultTrait implements StringCloneable
 {
+    /** Maximum number of digits in a plain number, which ensures an integer fits in a long */
+    protected static final int MAX_PLAIN_DIGITS = 18;
 
     /**
      * Construct NumberTrait object
@@ -43,9 +44,39 @@ public abstract class NumberTrait<T extends Number> extends DefaultTrait impleme
     @Override
     public String formatValue(Object value)
     {
-        NumberFormat numberFormat = NumberFormat.getInstance(getLocale());
-        String formatValue = numberFormat.format(value);
-        return formatValue;
+        return FormatCache.getNumberFormat(getLocale()).format(value);
+    }
+
+    /**
+     * Returns flag set true if given text is a number in plain ASCII which can be parsed without
+     * locale-specific rules. That is an optional minus sign followed by up to 18 digits and,
+     * if the locale decimal separator is a point and a fraction is allowed, a point and further digits.
+     * @param string Text to check
+     * @param allowFraction Flag set true if a fraction is allowed
+     * @return boolean
+     */
+    protected boolean isPlainNumber(String string, boolean allowFraction)
+    {
+        int length = string.length();
+        int index = (length > 0) && (string.charAt(0) == '-') ? 1 : 0;
+        int digits = 0;
+        boolean hasPoint = false;
+        for (; index < length; ++index)
+        {
+            char ch = string.charAt(index);
+            if ((ch >= '0') && (ch <= '9'))
+            {
+                if (++digits > MAX_PLAIN_DIGITS)
+                    return false;
+            }
+            else if ((ch == '.') && allowFraction && !hasPoint && (digits > 0) && (index < length - 1))
+                hasPoint = true;
+            else
+                return false;
+        }
+        if (digits == 0)
+            return false;
+        return !hasPoint || (FormatCache.getDecimalFormatSymbols(getLocale()).getDecimalSeparator() == '.');
     }
 
     /**
@@ -0,0 +1,281 @@
+/** Copyright 2026 TAQ contributors
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License. */
+package au.com.cybersearch2.taq;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import au.com.cybersearch2.taq.interfaces.LocaleAxiomListener;
+import au.com.cybersearch2.taq.interfaces.ProviderFactory;
+import au.com.cybersearch2.taq.interfaces.ResourceProvider;
+import au.com.cybersearch2.taq.language.Parameter;
+import au.com.cybersearch2.taq.language.Term;
+import au.com.cybersearch2.taq.pattern.Axiom;
+import au.com.cybersearch2.taq.pattern.AxiomArchetype;
+import au.com.cybersearch2.taq.result.Result;
+
+/**
+ * ParallelQueryTest
+ */
+public class ParallelQueryTest 
+{
+	private final static String MEGACITIES =
+		"include \"mega_city.taq\"\n" +
+		"axiom list continents(continent)\n" +
+		"{ \"Africa\" }\n" +
+		"{ \"Europe\" }\n" +
+		"{ \"Oceania\" }\n" +
+		"template continent(continent)\n" +
+		"template megacity_by_continent(continent ? Continent, megacity = Megacity)\n" +
+		"query<axiom> megacities_by_continent(continents : continent, mega_city : megacity_by_continent)";
+
+	@Test
+	public void test_partitioned_query()
+	{
+		String script = numbersScript(100);
+		QueryProgram queryProgram = new QueryProgram();
+		queryProgram.parseScript(script);
+		List<String> expected = getNumbers(queryProgram.executeQuery("big_numbers"));
+		assertThat(expected).hasSize(50);
+		ParallelQuery parallelQuery = new ParallelQuery(() -> compile(script), 4);
+		List<Long> solutions = new ArrayList<>();
+		parallelQuery.setOrdered(true);
+		Result result = parallelQuery.executeQuery("big_numbers", solution -> {
+			solutions.add((Long)solution.getValue("big", "n"));
+			return true;
+		});
+		assertThat(getNumbers(result)).containsExactlyElementsOf(expected);
+		assertThat(solutions).hasSize(50);
+		for (int i = 0; i < 50; i++)
+			assertThat(solutions.get(i)).isEqualTo(51L + i);
+	}
+
+	@Test
+	public void test_unordered_solutions()
+	{
+		String script = numbersScript(100);
+		ParallelQuery parallelQuery = new ParallelQuery(() -> compile(script), 3);
+		List<Long> solutions = new ArrayList<>();
+		parallelQuery.executeQuery("big_numbers", solution -> {
+			// Solution handler is called one solution at a time
+			solutions.add((Long)solution.getValue("big", "n"));
+			return true;
+		});
+		assertThat(solutions).hasSize(50);
+		for (long n = 51; n <= 100; n++)
+			assertThat(solutions).contains(n);
+	}
+
+	@Test
+	public void test_partitioned_chain_query()
+	{
+		ParallelQuery parallelQuery = new ParallelQuery(compile(MEGACITIES), 2);
+		Result result = parallelQuery.executeQuery("megacities_by_continent");
+		Iterator<Axiom> iterator = result.axiomIterator("megacities_by_continent");
+		List<String> megacities = new ArrayList<>();
+		while (iterator.hasNext())
+			megacities.add(iterator.next().toString());
+		assertThat(megacities).containsExactly(
+			"megacity_by_continent(continent=Africa, megacity=Cairo)",
+			"megacity_by_continent(continent=Africa, megacity=Lagos)",
+			"megacity_by_continent(continent=Africa, megacity=Kinshasa)",
+			"megacity_by_continent(continent=Europe, megacity=Moscow)",
+			"megacity_by_continent(continent=Europe, megacity=London)",
+			"megacity_by_continent(continent=Europe, megacity=Istanbul)",
+			"megacity_by_continent(continent=Europe, megacity=Rhine-Ruhr)",
+			"megacity_by_continent(continent=Europe, megacity=Paris)");
+	}
+
+	@Test
+	public void test_executor_service()
+	{
+		String script = numbersScript(100);
+		AtomicInteger threadCount = new AtomicInteger();
+		ExecutorService executorService = Executors.newFixedThreadPool(2, runnable -> {
+			threadCount.incrementAndGet();
+			return new Thread(runnable, "partition");
+		});
+		try
+		{
+			ParallelQuery parallelQuery = new ParallelQuery(() -> compile(script), 4);
+			parallelQuery.setExecutorService(executorService);
+			List<String> threadNames = Collections.synchronizedList(new ArrayList<>());
+			parallelQuery.executeQuery("big_numbers", solution -> {
+				threadNames.add(Thread.currentThread().getName());
+				return true;
+			});
+			assertThat(threadNames).hasSize(50).containsOnly("partition");
+			// Executor service is not shut down and its threads are reused by the next query
+			parallelQuery.executeQuery("big_numbers");
+			assertThat(executorService.isShutdown()).isFalse();
+			assertThat(threadCount.get()).isEqualTo(2);
+		}
+		finally
+		{
+			executorService.shutdown();
+		}
+	}
+
+	@Test
+	public void test_resource_query_not_partitioned()
+	{
+		// Resource providers are shared, so a program with a resource runs the query on the calling thread
+		NumberProvider numberProvider = new NumberProvider(100);
+		String script = 
+			"resource counter { axiom numbers (n) }\n" +
+			"template big(n ? n > 50)\n" +
+			"query<axiom> big_numbers(numbers : big)";
+		AtomicInteger programCount = new AtomicInteger();
+		ParallelQuery parallelQuery = new ParallelQuery(() -> {
+			programCount.incrementAndGet();
+			ProviderManager providerManager = new ProviderManager();
+			providerManager.putResourceProvider(numberProvider);
+			QueryProgram queryProgram = new QueryProgram(providerManager);
+			queryProgram.parseScript(script);
+			return queryProgram;
+		}, 4);
+		parallelQuery.setOrdered(true);
+		List<Long> solutions = new ArrayList<>();
+		Thread thread = Thread.currentThread();
+		parallelQuery.executeQuery("big_numbers", solution -> {
+			assertThat(Thread.currentThread()).isSameAs(thread);
+			solutions.add((Long)solution.getValue("big", "n"));
+			return true;
+		});
+		assertThat(programCount.get()).isEqualTo(1);
+		assertThat(numberProvider.readCount).isEqualTo(1);
+		assertThat(solutions).hasSize(50);
+		for (int i = 0; i < 50; i++)
+			assertThat(solutions.get(i)).isEqualTo(51L + i);
+	}
+
+	@Test
+	public void test_ordered_solution_copy()
+	{
+		QueryProgram queryProgram = compile(MEGACITIES);
+		List<List<String>> expected = new ArrayList<>();
+		queryProgram.executeQuery("megacities_by_continent", solution -> {
+			expected.add(Arrays.asList(solution.getStack()));
+			return true;
+		});
+		ParallelQuery parallelQuery = new ParallelQuery(queryProgram, 2);
+		parallelQuery.setOrdered(true);
+		List<List<String>> stacks = new ArrayList<>();
+		parallelQuery.executeQuery("megacities_by_continent", solution -> {
+			stacks.add(Arrays.asList(solution.getStack()));
+			// Stop after the first solution
+			return false;
+		});
+		// Copies of held solutions keep the order in which axioms were put
+		assertThat(stacks).containsExactly(expected.get(0));
+	}
+
+	private static QueryProgram compile(String script)
+	{
+		QueryProgram queryProgram = new QueryProgram();
+		queryProgram.setResourceBase(ResourceHelper.getTestResourcePath());
+		queryProgram.parseScript(script);
+		return queryProgram;
+	}
+
+	private static String numbersScript(int count)
+	{
+		StringBuilder builder = new StringBuilder("axiom list numbers (n)\n");
+		for (int i = 1; i <= count; i++)
+			builder.append('{').append(i).append("}\n");
+		builder.append("template big(n ? n > ").append(count / 2).append(")\n");
+		builder.append("query<axiom> big_numbers(numbers : big)");
+		return builder.toString();
+	}
+
+	private static List<String> getNumbers(Result result)
+	{
+		List<String> numbers = new ArrayList<>();
+		Iterator<Axiom> iterator = result.axiomIterator("big_numbers");
+		while (iterator.hasNext())
+			numbers.add(iterator.next().toString());
+		return numbers;
+	}
+
+	private static class NumberProvider implements ProviderFactory, ResourceProvider
+	{
+		final int count;
+		int readCount;
+
+		NumberProvider(int count)
+		{
+			this.count = count;
+		}
+
+		@Override
+		public boolean isResourceName(String name)
+		{
+			return "counter".equals(name);
+		}
+
+		@Override
+		public ResourceProvider createResourceProvider(String name)
+		{
+			return this;
+		}
+
+		@Override
+		public String getName()
+		{
+			return "counter";
+		}
+
+		@Override
+		public void open()
+		{
+		}
+
+		@Override
+		public void close()
+		{
+		}
+
+		@Override
+		public synchronized Iterator<Axiom> iterator(AxiomArchetype archetype)
+		{
+			++readCount;
+			List<Axiom> axiomList = new ArrayList<>();
+			for (long n = 1; n <= count; n++)
+				axiomList.add(new Axiom(archetype, Arrays.<Term>asList(new Parameter("n", n))));
+			return axiomList.iterator();
+		}
+
+		@Override
+		public LocaleAxiomListener getAxiomListener(String axiomName)
+		{
+			return null;
+		}
+
+		@Override
+		public boolean isEmpty()
+		{
+			return false;
+		}
+	}
+}
@@ -0,0 +1,173 @@
+/** Copyright 2026 TAQ contributors
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License. */
+package au.com.cybersearch2.taq;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import au.com.cybersearch2.taq.compile.ListAssembler;
+import au.com.cybersearch2.taq.language.Parameter;
+import au.com.cybersearch2.taq.language.QualifiedName;
+import au.com.cybersearch2.taq.pattern.Axiom;
+import au.com.cybersearch2.taq.pattern.AxiomArchetype;
+
+/**
+ * ProgramCacheTest
+ */
+public class ProgramCacheTest 
+{
+	private final static String CITIES =
+		"axiom list city (name, altitude)\n" +
+		"{\"bilene\", 1718}\n" +
+		"{\"addis ababa\", 8000}\n" +
+		"{\"denver\", 5280}\n";
+
+	private final static String HIGH_CITIES =
+		"include \"cities.taq\"\n" +
+		"template high_city(name, altitude ? altitude > 5000)\n" +
+		"query<axiom> high_cities(city : high_city)";
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private File citiesFile;
+
+	@Before
+	public void setUp() throws IOException 
+	{
+		citiesFile = folder.newFile("cities.taq");
+		Files.writeString(citiesFile.toPath(), CITIES, StandardCharsets.UTF_8);
+		Files.writeString(folder.newFile("high-cities.taq").toPath(), HIGH_CITIES, StandardCharsets.UTF_8);
+	}
+
+	@Test
+	public void test_warm_load() 
+	{
+		QueryProgramParser queryProgramParser = new QueryProgramParser(folder.getRoot());
+		ProgramCache programCache = new ProgramCache();
+		queryProgramParser.setProgramCache(programCache);
+		QueryProgram queryProgram = queryProgramParser.loadScript("high-cities.taq");
+		assertThat(getHighCities(queryProgram)).isEqualTo(2);
+		// Change the leased program
+		addCity(queryProgram, "flagstaff", 6970L);
+		assertThat(getHighCities(queryProgram)).isEqualTo(3);
+		// Next load is a fresh session which gives the same answers as a new compile
+		QueryProgram queryProgram2 = queryProgramParser.loadScript("high-cities.taq");
+		assertThat(queryProgram2).isNotSameAs(queryProgram);
+		assertThat(queryProgramParser.getContext().getQueryProgram()).isSameAs(queryProgram2);
+		QueryProgram compiled = new QueryProgramParser(folder.getRoot()).loadScript("high-cities.taq");
+		assertThat(getHighCities(queryProgram2)).isEqualTo(getHighCities(compiled)).isEqualTo(2);
+	}
+
+	@Test
+	public void test_include_changed() throws IOException 
+	{
+		QueryProgramParser queryProgramParser = new QueryProgramParser(folder.getRoot());
+		ProgramCache programCache = new ProgramCache();
+		queryProgramParser.setProgramCache(programCache);
+		QueryProgram queryProgram = queryProgramParser.loadScript("high-cities.taq");
+		Files.writeString(citiesFile.toPath(), CITIES + "{\"flagstaff\", 6970}\n", StandardCharsets.UTF_8);
+		// Program compiled from previous version is discarded
+		QueryProgram queryProgram2 = queryProgramParser.loadScript("high-cities.taq");
+		assertThat(queryProgram2).isNotSameAs(queryProgram);
+		assertThat(getHighCities(queryProgram2)).isEqualTo(3);
+		assertThat(getHighCities(queryProgramParser.loadScript("high-cities.taq"))).isEqualTo(3);
+	}
+
+	@Test
+	public void test_session_compiled_ahead() 
+	{
+		AtomicInteger compileCount = new AtomicInteger();
+		QueryProgramParser queryProgramParser = new QueryProgramParser(folder.getRoot());
+		ProgramCache programCache = new ProgramCache(runnable -> {
+			compileCount.incrementAndGet();
+			runnable.run();
+		});
+		queryProgramParser.setProgramCache(programCache);
+		QueryProgram queryProgram = queryProgramParser.loadScript("high-cities.taq");
+		// First session is compiled when the program is added
+		assertThat(compileCount.get()).isEqualTo(1);
+		QueryProgram queryProgram2 = queryProgramParser.loadScript("high-cities.taq");
+		// Taking the session compiles the one to follow
+		assertThat(compileCount.get()).isEqualTo(2);
+		assertThat(queryProgram2).isNotSameAs(queryProgram);
+		assertThat(getHighCities(queryProgram2)).isEqualTo(2);
+		programCache.clear();
+		queryProgramParser.loadScript("high-cities.taq");
+		assertThat(compileCount.get()).isEqualTo(3);
+	}
+
+	@Test
+	public void test_concurrent_load() throws Exception 
+	{
+		QueryProgramParser queryProgramParser = new QueryProgramParser(folder.getRoot());
+		queryProgramParser.setProgramCache(new ProgramCache());
+		queryProgramParser.loadScript("high-cities.taq");
+		ExecutorService executorService = Executors.newFixedThreadPool(4);
+		try
+		{
+			List<Future<QueryProgram>> futureList = new ArrayList<>();
+			for (int i = 0; i < 8; i++)
+				futureList.add(executorService.submit(() -> queryProgramParser.loadScript("high-cities.taq")));
+			List<QueryProgram> programList = new ArrayList<>();
+			for (Future<QueryProgram> future: futureList)
+			{
+				QueryProgram queryProgram = future.get();
+				assertThat(programList).doesNotContain(queryProgram);
+				programList.add(queryProgram);
+				assertThat(getHighCities(queryProgram)).isEqualTo(2);
+			}
+		}
+		finally
+		{
+			executorService.shutdown();
+		}
+	}
+
+	private static void addCity(QueryProgram queryProgram, String name, long altitude)
+	{
+		QualifiedName cityName = QualifiedName.parseGlobalName("city");
+		ListAssembler listAssembler = queryProgram.getGlobalScope().getParserAssembler().getListAssembler();
+		AxiomArchetype cityArchetype = (AxiomArchetype)listAssembler.getAxiomItems(cityName).get(0).getArchetype();
+		listAssembler.add(cityName, new Axiom(cityArchetype, new Parameter("name", name), new Parameter("altitude", altitude)));
+	}
+
+	private static int getHighCities(QueryProgram queryProgram)
+	{
+		int count = 0;
+		Iterator<Axiom> iterator = queryProgram.executeQuery("high_cities").axiomIterator("high_cities");
+		while (iterator.hasNext())
+		{
+			iterator.next();
+			++count;
+		}
+		return count;
+	}
+}
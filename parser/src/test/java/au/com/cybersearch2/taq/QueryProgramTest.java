@@ -18,6 +18,14 @@ import static org.assertj.core.api.Assertions.failBecauseExceptionWasNotThrown;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import org.junit.Before;
 import org.junit.Test;
 
@@ -39,6 +47,8 @@ import au.com.cybersearch2.taq.language.QueryType;
 import au.com.cybersearch2.taq.language.Term;
 import au.com.cybersearch2.taq.list.AxiomTermList;
 import au.com.cybersearch2.taq.pattern.Axiom;
+import au.com.cybersearch2.taq.pattern.Template;
+import au.com.cybersearch2.taq.query.QueryExecutionException;
 import au.com.cybersearch2.taq.query.Solution;
 
 /**
@@ -60,6 +70,10 @@ public class QueryProgramTest
 	private static final String SCOPE_NAME = "ScopeName";
 	private static final String QUERY_SPEC_NAME = "QuerySpec";
 	private static final String VARIABLE_NAME = "VariableName";
+	private static final String HIGH_CITIES =
+		"include \"named_cities.taq\"\n" +
+		"template high_city(name, altitude ? altitude > 5000)\n" +
+		"query<axiom> high_cities(city : high_city)";
     protected QualifiedName Q_VARIABLE_NAME = new QualifiedName(SCOPE_NAME, VARIABLE_NAME);
 
 	@Before
@@ -205,4 +219,82 @@ public class QueryProgramTest
 		}
 	}
 
+
+	@Test
+	public void test_new_session() throws Exception
+	{
+		QueryProgram queryProgram = new QueryProgram();
+		try
+		{
+			queryProgram.newSession();
+			failBecauseExceptionWasNotThrown(QueryExecutionException.class);
+		}
+		catch(QueryExecutionException e)
+		{
+			assertThat(e.getMessage()).isEqualTo("Query program has no script from which to create a session");
+		}
+		queryProgram.setResourceBase(ResourceHelper.getTestResourcePath());
+		queryProgram.parseScript(HIGH_CITIES);
+		List<Callable<List<String>>> workers = new ArrayList<>();
+		for (int i = 0; i < 4; i++)
+		{
+			QueryProgram session = queryProgram.newSession();
+			assertThat(session).isNotSameAs(queryProgram);
+			workers.add(() -> {
+				List<String> cities = new ArrayList<>();
+				Iterator<Axiom> iterator = session.executeQuery("high_cities").axiomIterator("high_cities");
+				while (iterator.hasNext())
+					cities.add(iterator.next().getTermByName("name").getValue().toString());
+				return cities;
+			});
+		}
+		ExecutorService executorService = Executors.newFixedThreadPool(workers.size());
+		try
+		{
+			for (Future<List<String>> future: executorService.invokeAll(workers))
+				assertThat(future.get()).containsExactly("addis ababa", "denver", "flagstaff", "leadville");
+		}
+		finally
+		{
+			executorService.shutdown();
+		}
+	}
+
+	@Test
+	public void test_session_values_separate() throws Exception
+	{
+		QueryProgram queryProgram = new QueryProgram();
+		queryProgram.setResourceBase(ResourceHelper.getTestResourcePath());
+		queryProgram.parseScript(HIGH_CITIES);
+		QueryProgram session1 = queryProgram.newSession();
+		QueryProgram session2 = queryProgram.newSession();
+		// Templates and operands are per session
+		Template template = getHighCity(queryProgram);
+		Template template1 = getHighCity(session1);
+		Template template2 = getHighCity(session2);
+		assertThat(template1).isNotSameAs(template).isNotSameAs(template2);
+		assertThat(template1.getTermByName("altitude")).isNotSameAs(template2.getTermByName("altitude"));
+		// Values set while a query runs in one session are not seen by the other session or the program
+		List<Object> altitudes = new ArrayList<>();
+		session1.executeQuery("high_cities", new SolutionHandler() {
+
+			@Override
+			public boolean onSolution(Solution solution) {
+				altitudes.add(template1.getTermByName("altitude").getValue());
+				assertThat(template2.getTermByName("altitude").isEmpty()).isTrue();
+				assertThat(template.getTermByName("altitude").isEmpty()).isTrue();
+				return true;
+			}});
+		assertThat(altitudes).containsExactly(8000L, 5280L, 6970L, 10200L);
+		List<String> cities = new ArrayList<>();
+		Iterator<Axiom> iterator = session2.executeQuery("high_cities").axiomIterator("high_cities");
+		while (iterator.hasNext())
+			cities.add(iterator.next().getTermByName("name").getValue().toString());
+		assertThat(cities).containsExactly("addis ababa", "denver", "flagstaff", "leadville");
+	}
+
+	private Template getHighCity(QueryProgram queryProgram)
+	{
+		return queryProgram.getGlobalScope().getParserAssembler().getTemplateAssembler().getTemplate("high_city");
+	}
 }
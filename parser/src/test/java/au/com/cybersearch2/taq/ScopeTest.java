@@ -32,6 +32,7 @@ import au.com.cybersearch2.taq.compile.TemplateAssembler;
 import au.com.cybersearch2.taq.compile.TemplateType;
 import au.com.cybersearch2.taq.helper.QualifiedTemplateName;
 import au.com.cybersearch2.taq.interfaces.LocaleAxiomListener;
+import au.com.cybersearch2.taq.language.InternedName;
 import au.com.cybersearch2.taq.language.NameParser;
 import au.com.cybersearch2.taq.language.Parameter;
 import au.com.cybersearch2.taq.language.QualifiedName;
@@ -44,7 +45,7 @@ import au.com.cybersearch2.taq.scope.ScopeManager;
  */
 public class ScopeTest 
 {
-	static Map<QualifiedName, List<LocaleAxiomListener>> EMPTY_AXIOM_LISTENER_MAP = Collections.emptyMap();
+	static Map<InternedName, List<LocaleAxiomListener>> EMPTY_AXIOM_LISTENER_MAP = Collections.emptyMap();
 	
 	private static final String AXIOM_KEY = "AxiomKey";
 	private static final String TEMPLATE_NAME = "TemplateName";
@@ -102,15 +103,15 @@ public class ScopeTest
 		when(scopeManager.getGlobalScope()).thenReturn(globalScope);
 		ParserAssembler globalParserAssembler = mock(ParserAssembler.class);
 		when(globalScope.getParserAssembler()).thenReturn(globalParserAssembler);
-		Map<QualifiedName, List<LocaleAxiomListener>> axiomListenerMap = new HashMap<>();
+		Map<InternedName, List<LocaleAxiomListener>> axiomListenerMap = new HashMap<>();
 		LocaleAxiomListener axiomListener = mock(LocaleAxiomListener.class);
-		axiomListenerMap.put(Q_AXIOM_NAME, Collections.singletonList(axiomListener));
+		axiomListenerMap.put(Q_AXIOM_NAME.intern(), Collections.singletonList(axiomListener));
         ListAssembler listAssembler = mock(ListAssembler.class);
         when(globalParserAssembler.getListAssembler()).thenReturn(listAssembler);
         when(listAssembler.getAxiomListenerMap()).thenReturn(EMPTY_AXIOM_LISTENER_MAP);
 		when(listAssembler.getAxiomListenerMap()).thenReturn(axiomListenerMap);
         Scope scope = new Scope(scopeManager, SCOPE_NAME, Scope.EMPTY_PROPERTIES);
-		assertThat(scope.getAxiomListenerMap().get(Q_AXIOM_NAME).get(0)).isEqualTo(axiomListener);
+		assertThat(scope.getAxiomListenerMap().get(Q_AXIOM_NAME.intern()).get(0)).isEqualTo(axiomListener);
 	}
 
 }
@@ -0,0 +1,157 @@
+/** Copyright 2026 TAQ contributors
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License. */
+package au.com.cybersearch2.taq.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Test;
+
+import au.com.cybersearch2.taq.db.AxiomPipeline.Backpressure;
+import au.com.cybersearch2.taq.interfaces.LocaleAxiomListener;
+import au.com.cybersearch2.taq.language.Parameter;
+import au.com.cybersearch2.taq.language.QualifiedName;
+import au.com.cybersearch2.taq.pattern.Axiom;
+import au.com.cybersearch2.taq.pattern.AxiomArchetype;
+import au.com.cybersearch2.taq.query.QueryExecutionException;
+
+/**
+ * AxiomPipelineTest
+ */
+public class AxiomPipelineTest 
+{
+	@Test
+	public void test_write_in_order() 
+	{
+		AxiomPipeline axiomPipeline = new AxiomPipeline("test");
+		axiomPipeline.setQueueDepth(4);
+		List<Object> cities = Collections.synchronizedList(new ArrayList<>());
+		List<Thread> threads = Collections.synchronizedList(new ArrayList<>());
+		LocaleAxiomListener listener = axiomPipeline.listenerInstance((qname, axiom, locale) -> {
+			cities.add(axiom.getTermByName("name").getValue());
+			threads.add(Thread.currentThread());
+			return true;
+		});
+		Parameter name = new Parameter("name", "");
+		Axiom axiom = new Axiom("city", name);
+		for (int i = 0; i < 100; ++i)
+		{   // Modify the axiom after each write to check a copy is queued 
+			name.setValue("city" + i);
+			listener.onNextAxiom(QualifiedName.parseGlobalName("city"), axiom, Locale.getDefault());
+		}
+		axiomPipeline.close();
+		assertThat(cities).hasSize(100);
+		for (int i = 0; i < 100; ++i)
+			assertThat(cities.get(i)).isEqualTo("city" + i);
+		assertThat(threads.get(0)).isNotEqualTo(Thread.currentThread());
+		// Writer restarts after close
+		listener.onNextAxiom(QualifiedName.parseGlobalName("city"), axiom, Locale.getDefault());
+		axiomPipeline.close();
+		assertThat(cities).hasSize(101);
+		// Zero depth writes on calling thread
+		axiomPipeline.setQueueDepth(0);
+		listener.onNextAxiom(QualifiedName.parseGlobalName("city"), axiom, Locale.getDefault());
+		assertThat(threads.get(101)).isEqualTo(Thread.currentThread());
+		axiomPipeline.close();
+	}
+
+	@Test
+	public void test_mutable_archetype() 
+	{
+		AxiomPipeline axiomPipeline = new AxiomPipeline("test");
+		List<Object> cities = Collections.synchronizedList(new ArrayList<>());
+		LocaleAxiomListener listener = axiomPipeline.listenerInstance((qname, axiom, locale) -> {
+			cities.add(axiom.getTermByName("name").getValue());
+			return true;
+		});
+		AxiomArchetype archetype = new AxiomArchetype(QualifiedName.parseGlobalName("city"));
+		Axiom axiom = new Axiom(archetype);
+		Parameter name = new Parameter("name", "denver");
+		axiom.addTerm(name);
+		assertThat(archetype.isMutable()).isTrue();
+		listener.onNextAxiom(QualifiedName.parseGlobalName("city"), axiom, Locale.getDefault());
+		name.setValue("bilene");
+		listener.onNextAxiom(QualifiedName.parseGlobalName("city"), axiom, Locale.getDefault());
+		axiomPipeline.close();
+		// Values captured and archetype left unchanged
+		assertThat(cities).containsExactly("denver", "bilene");
+		assertThat(archetype.isMutable()).isTrue();
+		assertThat(archetype.getTermCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void test_error_on_close() 
+	{
+		AxiomPipeline axiomPipeline = new AxiomPipeline("test");
+		LocaleAxiomListener listener = axiomPipeline.listenerInstance((qname, axiom, locale) -> {
+			throw new QueryExecutionException("Insert failed");
+		});
+		listener.onNextAxiom(QualifiedName.parseGlobalName("city"), new Axiom("city", new Parameter("name", "denver")), Locale.getDefault());
+		try
+		{
+			axiomPipeline.close();
+			fail("QueryExecutionException expected");
+		}
+		catch (QueryExecutionException e)
+		{
+			assertThat(e.getMessage()).isEqualTo("Insert failed");
+		}
+		// Error is reported once only
+		axiomPipeline.close();
+	}
+
+	@Test
+	public void test_fail_when_full() throws InterruptedException 
+	{
+		AxiomPipeline axiomPipeline = new AxiomPipeline("test");
+		axiomPipeline.setQueueDepth(1);
+		axiomPipeline.setBackpressure(Backpressure.FAIL);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		LocaleAxiomListener listener = axiomPipeline.listenerInstance((qname, axiom, locale) -> {
+			started.countDown();
+			try 
+			{
+				release.await();
+			} 
+			catch (InterruptedException e) 
+			{
+			}
+			return true;
+		});
+		Axiom axiom = new Axiom("city", new Parameter("name", "denver"));
+		QualifiedName qname = QualifiedName.parseGlobalName("city");
+		listener.onNextAxiom(qname, axiom, Locale.getDefault());
+		started.await();
+		// Writer is busy, so queue takes one axiom only
+		listener.onNextAxiom(qname, axiom, Locale.getDefault());
+		try
+		{
+			listener.onNextAxiom(qname, axiom, Locale.getDefault());
+			fail("QueryExecutionException expected");
+		}
+		catch (QueryExecutionException e)
+		{
+			assertThat(e.getMessage()).startsWith("Queue full");
+		}
+		release.countDown();
+		axiomPipeline.close();
+	}
+}
@@ -0,0 +1,116 @@
+/** Copyright 2026 TAQ contributors
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License. */
+package au.com.cybersearch2.taq.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import au.com.cybersearch2.taq.axiom.AxiomReflection;
+import au.com.cybersearch2.taq.language.Null;
+import au.com.cybersearch2.taq.language.Parameter;
+import au.com.cybersearch2.taq.language.QualifiedName;
+import au.com.cybersearch2.taq.pattern.Axiom;
+import au.com.cybersearch2.taq.pattern.AxiomArchetype;
+import au.com.cybersearch2.taq.provider.generic.GenericStatementRunnerTest.City;
+
+/**
+ * ResultSetConverterTest
+ */
+public class ResultSetConverterTest 
+{
+	private static final String SELECT = "SELECT id,name,altitude FROM city ORDER BY id";
+
+	private Connection connection;
+	private ColumnGetter<City> columns;
+
+	@Before
+	public void setUp() throws Exception
+	{
+		connection = DriverManager.getConnection("jdbc:sqlite::memory:");
+		try (Statement stmt = connection.createStatement()) {
+			stmt.executeUpdate("CREATE TABLE city (id INTEGER PRIMARY KEY, name TEXT, altitude INTEGER)");
+			stmt.executeUpdate("INSERT INTO city (name, altitude) VALUES ('denver', 5280), ('bilene', 1718)");
+		}
+		columns = new ColumnGetter<>(City.class);
+	}
+
+	@After
+	public void tearDown() throws Exception
+	{
+		connection.close();
+	}
+
+	@Test
+	public void test_empty_archetype() throws Exception
+	{
+		AxiomArchetype archetype = new AxiomArchetype(QualifiedName.parseGlobalName("city"));
+		ResultSetConverter rowConverter = 
+			new ResultSetConverter(new AxiomReflection(archetype, MethodAnalyser.getNameMap(City.class)), columns);
+		assertThat(rowConverter.isMapped()).isTrue();
+		AxiomConverter axiomConverter = new AxiomConverter(new AxiomReflection(archetype, MethodAnalyser.getNameMap(City.class)));
+		try (Statement stmt = connection.createStatement();
+			 ResultSet rs = stmt.executeQuery(SELECT)) {
+			while (rs.next()) {
+				City city = new City();
+				columns.setColumns(rs, city);
+				Axiom expected = axiomConverter.getAxiomFromEntity(city);
+				assertThat(rowConverter.getAxiom(rs).toString()).isEqualTo(expected.toString());
+			}
+		} catch (Throwable e) {
+			throw new Exception(e);
+		}
+	}
+
+	@Test
+	public void test_declared_archetype() throws Exception
+	{
+		Axiom cityAxiom = new Axiom("city", new Parameter("altitude"), new Parameter("name"));
+		AxiomArchetype archetype = (AxiomArchetype)cityAxiom.getArchetype();
+		ResultSetConverter rowConverter = 
+			new ResultSetConverter(new AxiomReflection(archetype, MethodAnalyser.getNameMap(City.class)), columns);
+		assertThat(rowConverter.isMapped()).isTrue();
+		try (Statement stmt = connection.createStatement();
+			 ResultSet rs = stmt.executeQuery(SELECT)) {
+			rs.next();
+			Axiom axiom = rowConverter.getAxiom(rs);
+			assertThat(axiom.toString()).isEqualTo("city(altitude=5280, name=denver)");
+			stmt.execute("UPDATE city SET name = NULL WHERE id = 2");
+		}
+		try (Statement stmt = connection.createStatement();
+			 ResultSet rs = stmt.executeQuery(SELECT)) {
+			rs.next();
+			rs.next();
+			Axiom axiom = rowConverter.getAxiom(rs);
+			assertThat(axiom.getTermByName("name").getValueClass()).isEqualTo(Null.class);
+		}
+	}
+
+	@Test
+	public void test_unmapped_term() throws Exception
+	{
+		Axiom cityAxiom = new Axiom("city", new Parameter("name"), new Parameter("country"));
+		AxiomArchetype archetype = (AxiomArchetype)cityAxiom.getArchetype();
+		ResultSetConverter rowConverter = 
+			new ResultSetConverter(new AxiomReflection(archetype, MethodAnalyser.getNameMap(City.class)), columns);
+		assertThat(rowConverter.isMapped()).isFalse();
+	}
+}
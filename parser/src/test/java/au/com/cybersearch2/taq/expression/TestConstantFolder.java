@@ -0,0 +1,99 @@
+/** Copyright 2026 TAQ contributors
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License. */
+package au.com.cybersearch2.taq.expression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+import au.com.cybersearch2.taq.helper.EvaluationStatus;
+import au.com.cybersearch2.taq.language.QualifiedName;
+import au.com.cybersearch2.taq.pattern.Template;
+import au.com.cybersearch2.taq.pattern.TemplateArchetype;
+
+/**
+ * TestConstantFolder
+ */
+public class TestConstantFolder 
+{
+	@Test
+	public void test_fold()
+	{
+		// seconds = 60 * 60 * 24
+		Evaluator hours = new Evaluator(literal(60), "*", literal(60));
+		Variable seconds = new Variable(QualifiedName.parseGlobalName("seconds"), new Evaluator(hours, "*", literal(24)));
+		// total = count + 2 * 3
+		Variable count = new Variable(QualifiedName.parseGlobalName("count"));
+		Evaluator sum = new Evaluator(count, "+", new Evaluator(literal(2), "*", literal(3)));
+		Variable total = new Variable(QualifiedName.parseGlobalName("total"), sum);
+		// flag = !(1.5 < 1.0)
+		Evaluator less = new Evaluator(new DoubleOperand(QualifiedName.ANONYMOUS, Double.valueOf(1.5)), "<", 
+				                       new DoubleOperand(QualifiedName.ANONYMOUS, Double.valueOf(1.0)));
+		Variable flag = new Variable(QualifiedName.parseGlobalName("flag"), new Evaluator(less, "!", Orientation.unary_prefix));
+		// error = 1 / 0 is left to fail at run time
+		Evaluator divide = new Evaluator(literal(1), "/", literal(0));
+		Variable error = new Variable(QualifiedName.parseGlobalName("error"), divide);
+		Template template = new Template(new TemplateArchetype(QualifiedName.parseTemplateName("constants")), seconds, total, flag, error);
+		ConstantFolder constantFolder = new ConstantFolder();
+		constantFolder.fold(template);
+		assertThat(constantFolder.getFoldCount()).isEqualTo(5);
+		assertThat(seconds.getLeftOperand()).isInstanceOf(IntegerOperand.class);
+		assertThat(seconds.getLeftOperand().getValue()).isEqualTo(Long.valueOf(86400));
+		assertThat(total.getLeftOperand()).isSameAs(sum);
+		assertThat(sum.getRightOperand()).isInstanceOf(IntegerOperand.class);
+		assertThat(flag.getLeftOperand()).isInstanceOf(BooleanOperand.class);
+		assertThat(flag.getLeftOperand().getValue()).isEqualTo(Boolean.TRUE);
+		assertThat(error.getLeftOperand()).isSameAs(divide);
+		assertThat(divide.isEmpty()).isTrue();
+		// Folded expressions evaluate as before
+		assertThat(seconds.evaluate(1)).isEqualTo(EvaluationStatus.COMPLETE);
+		assertThat(seconds.getValue()).isEqualTo(Long.valueOf(86400));
+		count.setValue(Long.valueOf(4));
+		assertThat(total.evaluate(1)).isEqualTo(EvaluationStatus.COMPLETE);
+		assertThat(total.getValue()).isEqualTo(Long.valueOf(10));
+		total.backup(1);
+		count.setValue(Long.valueOf(5));
+		assertThat(total.evaluate(1)).isEqualTo(EvaluationStatus.COMPLETE);
+		assertThat(total.getValue()).isEqualTo(Long.valueOf(11));
+	}
+
+	@Test
+	public void test_fold_shared()
+	{
+		// width = 2 * 3 and area = 2 * 3 share the one expression
+		Evaluator shared = new Evaluator(literal(2), "*", literal(3));
+		Variable width = new Variable(QualifiedName.parseGlobalName("width"), shared);
+		Variable area = new Variable(QualifiedName.parseGlobalName("area"), shared);
+		// Anonymous template term 4 + 5 is not replaced so is not counted
+		Evaluator term = new Evaluator(literal(4), "+", literal(5));
+		Template template = new Template(new TemplateArchetype(QualifiedName.parseTemplateName("shared")), width, area, term);
+		ConstantFolder constantFolder = new ConstantFolder();
+		constantFolder.fold(template);
+		assertThat(constantFolder.getFoldCount()).isEqualTo(1);
+		assertThat(width.getLeftOperand()).isInstanceOf(IntegerOperand.class);
+		assertThat(area.getLeftOperand()).isSameAs(width.getLeftOperand());
+		assertThat(template.getTermByIndex(2)).isSameAs(term);
+		assertThat(width.evaluate(1)).isEqualTo(EvaluationStatus.COMPLETE);
+		assertThat(width.getValue()).isEqualTo(Long.valueOf(6));
+		assertThat(area.evaluate(1)).isEqualTo(EvaluationStatus.COMPLETE);
+		assertThat(area.getValue()).isEqualTo(Long.valueOf(6));
+		assertThat(term.evaluate(1)).isEqualTo(EvaluationStatus.COMPLETE);
+		assertThat(term.getValue()).isEqualTo(Long.valueOf(9));
+	}
+
+	private static IntegerOperand literal(long value)
+	{
+		return new IntegerOperand(QualifiedName.ANONYMOUS, Long.valueOf(value));
+	}
+}
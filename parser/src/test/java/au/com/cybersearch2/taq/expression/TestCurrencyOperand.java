@@ -26,12 +26,14 @@ import java.text.NumberFormat;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.Locale;
+import java.util.Random;
 
 import org.junit.Test;
 
 import au.com.cybersearch2.taq.ResourceHelper;
 import au.com.cybersearch2.taq.helper.EvaluationStatus;
 import au.com.cybersearch2.taq.interfaces.Operand;
+import au.com.cybersearch2.taq.language.OperatorEnum;
 import au.com.cybersearch2.taq.language.Parameter;
 import au.com.cybersearch2.taq.language.QualifiedName;
 import au.com.cybersearch2.taq.language.Term;
@@ -191,6 +193,22 @@ public class TestCurrencyOperand
 		assertThat(currencyOperand.getValue()).isEqualTo(expectedResult);
 	}
 	
+	@Test
+	public void test_integer_conversion()
+	{
+		CurrencyOperator currencyOperator = new CurrencyOperator(Locale.US);
+		Random random = new Random(4217);
+		for (int i = 0; i < 1000; ++i)
+		{
+			Long quantity = Long.valueOf(random.nextLong() >> random.nextInt(64));
+			// Value and scale must both match parsing the integer as text
+			assertThat(currencyOperator.convertObject(quantity, Long.class)).isEqualTo(new BigDecimal(quantity.toString()));
+		}
+		Parameter amount = new Parameter(Term.ANONYMOUS, new BigDecimal("12.35"));
+		assertThat(currencyOperator.numberEvaluation(amount, OperatorEnum.STAR, new Parameter(Term.ANONYMOUS, Long.valueOf(3)))).isEqualTo(new BigDecimal("37.05"));
+		assertThat(currencyOperator.numberEvaluation(amount, OperatorEnum.PLUS, new Parameter(Term.ANONYMOUS, Integer.valueOf(-2)))).isEqualTo(new BigDecimal("10.35"));
+	}
+
 	public static Collection<Locale> getLocalesFromIso4217(String iso4217code) 
     {
         Collection<Locale> returnValue = new LinkedList<Locale>();
@@ -19,6 +19,7 @@ import org.junit.Test;
 
 import au.com.cybersearch2.taq.helper.EvaluationStatus;
 import au.com.cybersearch2.taq.helper.EvaluationUtils;
+import au.com.cybersearch2.taq.helper.TriState;
 import au.com.cybersearch2.taq.interfaces.Operand;
 import au.com.cybersearch2.taq.interfaces.Operator;
 import au.com.cybersearch2.taq.language.Null;
@@ -231,6 +232,184 @@ public class TestEvaluator
         assertThat(leftTerm.getValue()).isEqualTo(63.0f);
 	}
 
+	@Test
+	public void test_compiled_evaluation()
+	{
+		Variable leftTerm = new Variable(QualifiedName.parseGlobalName("x"));
+		Variable rightTerm = new Variable(QualifiedName.parseGlobalName("y"));
+		Evaluator evaluator = new ParseNameEvaluator(leftTerm, "*", rightTerm);
+		leftTerm.setValue(Long.valueOf(7));
+		rightTerm.setValue(Long.valueOf(5));
+		assertThat(evaluator.evaluate(1)).isEqualTo(EvaluationStatus.COMPLETE);
+		assertThat(evaluator.getValue()).isEqualTo(Long.valueOf(35));
+		assertThat(evaluator.isCompiled()).isTrue();
+		evaluator.backup(0);
+		leftTerm.setValue(Long.valueOf(8));
+		rightTerm.setValue(Long.valueOf(6));
+		assertThat(evaluator.evaluate(1)).isEqualTo(EvaluationStatus.COMPLETE);
+		assertThat(evaluator.getValue()).isEqualTo(Long.valueOf(48));
+		assertThat(evaluator.isCompiled()).isTrue();
+		// Change of type reverts to interpreter, then compiles for new type
+		evaluator.backup(0);
+		leftTerm.setValue(Double.valueOf(2.5));
+		rightTerm.setValue(Long.valueOf(2));
+		assertThat(evaluator.evaluate(1)).isEqualTo(EvaluationStatus.COMPLETE);
+		assertThat(evaluator.getValue()).isEqualTo(Double.valueOf(5.0));
+		assertThat(evaluator.isCompiled()).isFalse();
+		evaluator.backup(0);
+		leftTerm.setValue(Double.valueOf(2.5));
+		rightTerm.setValue(Double.valueOf(3.0));
+		assertThat(evaluator.evaluate(1)).isEqualTo(EvaluationStatus.COMPLETE);
+		assertThat(evaluator.getValue()).isEqualTo(Double.valueOf(7.5));
+		assertThat(evaluator.isCompiled()).isTrue();
+		evaluator.backup(0);
+		leftTerm.setValue(Double.valueOf(2.0));
+		rightTerm.setValue(Double.valueOf(4.0));
+		assertThat(evaluator.evaluate(1)).isEqualTo(EvaluationStatus.COMPLETE);
+		assertThat(evaluator.getValue()).isEqualTo(Double.valueOf(8.0));
+		// Compiled comparison short circuits on false
+		Variable a = new Variable(QualifiedName.parseGlobalName("a"));
+		Variable b = new Variable(QualifiedName.parseGlobalName("b"));
+		Evaluator comparison = new ParseNameEvaluator(a, "<", b);
+		a.setValue(Long.valueOf(1));
+		b.setValue(Long.valueOf(2));
+		assertThat(comparison.evaluate(1)).isEqualTo(EvaluationStatus.COMPLETE);
+		assertThat(comparison.getValue()).isEqualTo(Boolean.TRUE);
+		assertThat(comparison.isCompiled()).isTrue();
+		comparison.backup(0);
+		a.setValue(Long.valueOf(3));
+		b.setValue(Long.valueOf(2));
+		comparison.evaluate(1);
+		assertThat(comparison.getValue()).isEqualTo(Boolean.FALSE);
+		assertThat(comparison.isCompiled()).isTrue();
+	}
+
+	@Test
+	public void test_specialized_evaluation()
+	{
+		Variable leftTerm = new Variable(QualifiedName.parseGlobalName("x"));
+		Variable rightTerm = new Variable(QualifiedName.parseGlobalName("y"));
+		Evaluator evaluator = new ParseNameEvaluator(leftTerm, "-", rightTerm);
+		// Mixed value classes are specialised without a kernel
+		leftTerm.setValue(Long.valueOf(7));
+		rightTerm.setValue(Double.valueOf(2.5));
+		assertThat(evaluator.evaluate(1)).isEqualTo(EvaluationStatus.COMPLETE);
+		assertThat(evaluator.getValue()).isEqualTo(Double.valueOf(4.5));
+		assertThat(evaluator.isSpecialized()).isTrue();
+		assertThat(evaluator.isCompiled()).isFalse();
+		evaluator.backup(0);
+		leftTerm.setValue(Long.valueOf(10));
+		rightTerm.setValue(Double.valueOf(0.5));
+		assertThat(evaluator.evaluate(1)).isEqualTo(EvaluationStatus.COMPLETE);
+		assertThat(evaluator.getValue()).isEqualTo(Double.valueOf(9.5));
+		assertThat(evaluator.isSpecialized()).isTrue();
+		// Decimal on right performs the operation
+		evaluator.backup(0);
+		leftTerm.setValue(Long.valueOf(10));
+		rightTerm.setValue(new BigDecimal("0.25"));
+		assertThat(evaluator.evaluate(1)).isEqualTo(EvaluationStatus.COMPLETE);
+		assertThat(evaluator.getValue()).isEqualTo(new BigDecimal("9.75"));
+		assertThat(evaluator.isSpecialized()).isTrue();
+		evaluator.backup(0);
+		leftTerm.setValue(Long.valueOf(3));
+		rightTerm.setValue(new BigDecimal("1.5"));
+		assertThat(evaluator.evaluate(1)).isEqualTo(EvaluationStatus.COMPLETE);
+		assertThat(evaluator.getValue()).isEqualTo(new BigDecimal("1.5"));
+		// NaN is handled by the interpreter
+		evaluator.backup(0);
+		leftTerm.setValue(Double.valueOf(Double.NaN));
+		rightTerm.setValue(Long.valueOf(1));
+		assertThat(evaluator.evaluate(1)).isEqualTo(EvaluationStatus.COMPLETE);
+		assertThat(((Double)evaluator.getValue()).isNaN()).isTrue();
+		assertThat(evaluator.isSpecialized()).isFalse();
+		// Repeated change of type reverts permanently to interpreter
+		evaluator.backup(0);
+		leftTerm.setValue(Long.valueOf(4));
+		rightTerm.setValue(Long.valueOf(1));
+		assertThat(evaluator.evaluate(1)).isEqualTo(EvaluationStatus.COMPLETE);
+		assertThat(evaluator.isCompiled()).isTrue();
+		evaluator.backup(0);
+		leftTerm.setValue(Long.valueOf(4));
+		rightTerm.setValue(Double.valueOf(1.0));
+		assertThat(evaluator.evaluate(1)).isEqualTo(EvaluationStatus.COMPLETE);
+		assertThat(evaluator.getValue()).isEqualTo(Double.valueOf(3.0));
+		assertThat(evaluator.isSpecialized()).isFalse();
+		// Mixed comparison
+		Variable a = new Variable(QualifiedName.parseGlobalName("a"));
+		Variable b = new Variable(QualifiedName.parseGlobalName("b"));
+		Evaluator comparison = new ParseNameEvaluator(a, ">=", b);
+		a.setValue(Long.valueOf(2));
+		b.setValue(Double.valueOf(1.5));
+		assertThat(comparison.evaluate(1)).isEqualTo(EvaluationStatus.COMPLETE);
+		assertThat(comparison.getValue()).isEqualTo(Boolean.TRUE);
+		assertThat(comparison.isSpecialized()).isTrue();
+		comparison.backup(0);
+		a.setValue(Long.valueOf(1));
+		b.setValue(Double.valueOf(2.5));
+		comparison.evaluate(1);
+		assertThat(comparison.getValue()).isEqualTo(Boolean.FALSE);
+		assertThat(comparison.isSpecialized()).isTrue();
+	}
+
+	@Test
+	public void test_typed_accessors()
+	{
+		TestIntegerOperand integerOperand = new TestIntegerOperand("L", Long.valueOf(1234567));
+		assertThat(integerOperand.getLong()).isEqualTo(1234567L);
+		integerOperand = new TestIntegerOperand("L");
+		integerOperand.assign(new Parameter(Term.ANONYMOUS, "42"));
+		assertThat(integerOperand.getValue()).isEqualTo(Long.valueOf(42));
+		assertThat(integerOperand.getLong()).isEqualTo(42L);
+		TestDoubleOperand doubleOperand = new TestDoubleOperand("R", Double.valueOf(2.5));
+		assertThat(doubleOperand.getDouble()).isEqualTo(2.5);
+		// Operators read values through typed accessors
+		assertThat(integerOperand.getOperator().numberEvaluation(integerOperand, OperatorEnum.STAR, new TestIntegerOperand("R", Long.valueOf(2)))).isEqualTo(Long.valueOf(84));
+		assertThat(doubleOperand.getOperator().numberEvaluation(doubleOperand, OperatorEnum.STAR, new TestDoubleOperand("R", Double.valueOf(4.0)))).isEqualTo(Double.valueOf(10.0));
+		// Compiled kernels read values through typed accessors
+		TestIntegerOperand leftTerm = new TestIntegerOperand("x");
+		TestDoubleOperand rightTerm = new TestDoubleOperand("y");
+		Evaluator evaluator = new ParseNameEvaluator(leftTerm, "-", new TestIntegerOperand("z", Long.valueOf(3)));
+		Evaluator ratio = new ParseNameEvaluator(rightTerm, "/", new TestDoubleOperand("w", Double.valueOf(4.0)));
+		for (long i = 1; i <= 2; i++)
+		{
+			evaluator.backup(0);
+			ratio.backup(0);
+			leftTerm.setValue(Long.valueOf(1000000 * i));
+			rightTerm.setValue(Double.valueOf(10.0 * i));
+			assertThat(evaluator.evaluate(1)).isEqualTo(EvaluationStatus.COMPLETE);
+			assertThat(ratio.evaluate(1)).isEqualTo(EvaluationStatus.COMPLETE);
+			assertThat(evaluator.isCompiled()).isTrue();
+			assertThat(ratio.isCompiled()).isTrue();
+			assertThat(evaluator.getValue()).isEqualTo(Long.valueOf(1000000 * i - 3));
+			assertThat(ratio.getValue()).isEqualTo(Double.valueOf(2.5 * i));
+		}
+		TestBooleanOperand booleanOperand = new TestBooleanOperand("B", Boolean.TRUE);
+		assertThat(booleanOperand.getBoolean()).isTrue();
+	}
+
+	@Test
+	public void test_truth_value()
+	{
+		assertThat(new TestBooleanOperand("T", Boolean.TRUE).getTruthValue()).isEqualTo(TriState.TRUE);
+		assertThat(new TestBooleanOperand("F", Boolean.FALSE).isFalse()).isTrue();
+		assertThat(new TestBooleanOperand("B").getTruthValue()).isEqualTo(TriState.UNKNOWN);
+		assertThat(new TestStringOperand("S", "false").isFalse()).isTrue();
+		assertThat(new TestStringOperand("S", "maybe").getTruthValue()).isEqualTo(TriState.UNKNOWN);
+		assertThat(new TestIntegerOperand("I", Long.valueOf(1)).getTruthValue()).isEqualTo(TriState.TRUE);
+		assertThat(new TestIntegerOperand("I", Long.valueOf(-7)).isTrue()).isTrue();
+		assertThat(new TestIntegerOperand("I", Long.valueOf(0)).isFalse()).isTrue();
+		assertThat(new TestIntegerOperand("I").getTruthValue()).isEqualTo(TriState.UNKNOWN);
+		assertThat(new TestDoubleOperand("D", Double.valueOf(0.0)).getTruthValue()).isEqualTo(TriState.FALSE);
+		assertThat(new TestDoubleOperand("D", Double.valueOf(-0.0)).isFalse()).isTrue();
+		assertThat(new TestDoubleOperand("D", Double.valueOf(0.5)).isTrue()).isTrue();
+		assertThat(new TestDoubleOperand("D", Double.valueOf(Double.NaN)).getTruthValue()).isEqualTo(TriState.UNKNOWN);
+		assertThat(new TestBigDecimalOperand("M", new BigDecimal("0.00")).isFalse()).isTrue();
+		assertThat(new TestBigDecimalOperand("M", new BigDecimal("12.50")).isTrue()).isTrue();
+		assertThat(new TestBigDecimalOperand("M").getTruthValue()).isEqualTo(TriState.UNKNOWN);
+		assertThat(EvaluationUtils.isNaNValue(Double.valueOf(Double.NaN))).isTrue();
+		assertThat(EvaluationUtils.isNaNValue(Long.valueOf(0))).isFalse();
+	}
+
 	@Test
 	public void test_to_string()
 	{
@@ -0,0 +1,149 @@
+/** Copyright 2026 TAQ contributors
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License. */
+package au.com.cybersearch2.taq.expression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import au.com.cybersearch2.taq.debug.ExecutionContext;
+import au.com.cybersearch2.taq.helper.EvaluationStatus;
+import au.com.cybersearch2.taq.language.QualifiedName;
+import au.com.cybersearch2.taq.language.Term;
+import au.com.cybersearch2.taq.pattern.Template;
+import au.com.cybersearch2.taq.pattern.TemplateArchetype;
+import au.com.cybersearch2.taq.provider.ObjectSpec;
+
+/**
+ * TestObjectOperand
+ */
+public class TestObjectOperand 
+{
+	public static class Functions
+	{
+		public List<Object> received = new ArrayList<>();
+		
+		public long count()
+		{
+			return 42;
+		}
+		
+		public String join(String first, String second)
+		{
+			return first + second;
+		}
+		
+		public Long sum(Long a, Long b, Long c, Long d, Long e)
+		{
+			return a + b + c + d + e;
+		}
+		
+		public void record(String value)
+		{
+			received.add(value);
+		}
+		
+		public String names(Term... terms)
+		{
+			StringBuilder builder = new StringBuilder();
+			for (Term term: terms)
+				builder.append(term.getName()).append('=').append(term.getValue().toString()).append(' ');
+			return builder.toString().trim();
+		}
+		
+		public String fail(String message)
+		{
+			throw new IllegalStateException(message);
+		}
+	}
+
+	@Test
+	public void test_call_site()
+	{
+		Functions functions = new Functions();
+		ObjectOperand count = objectOperand(functions, "count");
+		assertThat(count.evaluate(1)).isEqualTo(EvaluationStatus.COMPLETE);
+		assertThat(count.getValue()).isEqualTo(Long.valueOf(42));
+		ObjectOperand join = objectOperand(functions, "join", "taq", "lang");
+		assertThat(join.evaluate(1)).isEqualTo(EvaluationStatus.COMPLETE);
+		assertThat(join.getValue()).isEqualTo("taqlang");
+		// Arity above exact maximum
+		ObjectOperand sum = objectOperand(functions, "sum", 1L, 2L, 3L, 4L, 5L);
+		assertThat(sum.evaluate(1)).isEqualTo(EvaluationStatus.COMPLETE);
+		assertThat(sum.getValue()).isEqualTo(Long.valueOf(15));
+		ObjectOperand record = objectOperand(functions, "record", "first");
+		record.evaluate(1);
+		record.backup(1);
+		record.evaluate(1);
+		assertThat(functions.received).containsExactly("first", "first");
+		ObjectOperand failure = objectOperand(functions, "fail", "oops");
+		try
+		{
+			failure.evaluate(1);
+			fail("ExpressionException expected");
+		}
+		catch (ExpressionException e)
+		{
+			assertThat(e.getMessage()).isEqualTo("Error invoking method fail of class " + Functions.class.getName());
+			assertThat(e.getCause().getCause()).isInstanceOf(IllegalStateException.class);
+		}
+	}
+
+	@Test
+	public void test_call_site_terms()
+	{
+		Functions functions = new Functions();
+		IntegerOperand x = new IntegerOperand(QualifiedName.parseGlobalName("x"), Long.valueOf(1));
+		IntegerOperand y = new IntegerOperand(QualifiedName.parseGlobalName("y"), Long.valueOf(2));
+		Template template = new Template(new TemplateArchetype(QualifiedName.parseTemplateName("names")), x, y);
+		ObjectSpec objectSpec = new ObjectSpec("names", template);
+		objectSpec.setObject(functions);
+		objectSpec.setObjectClass(Functions.class);
+		ObjectOperand names = new ObjectOperand(objectSpec);
+		names.setExecutionContext(new ExecutionContext());
+		assertThat(names.evaluate(1)).isEqualTo(EvaluationStatus.COMPLETE);
+		assertThat(names.getValue()).isEqualTo("x=1 y=2");
+		names.backup(1);
+		y.setValue(Long.valueOf(3));
+		assertThat(names.evaluate(1)).isEqualTo(EvaluationStatus.COMPLETE);
+		assertThat(names.getValue()).isEqualTo("x=1 y=3");
+	}
+
+	@Test
+	public void test_format_function()
+	{
+		IntegerOperand amount = new IntegerOperand(QualifiedName.parseGlobalName("amount"), Long.valueOf(1234));
+		ObjectOperand format = new ObjectOperand(new ObjectSpec("format", Collections.emptyList(), amount));
+		assertThat(format.evaluate(1)).isEqualTo(EvaluationStatus.COMPLETE);
+		assertThat(format.getValue()).isEqualTo(amount.getOperator().getTrait().formatValue(Long.valueOf(1234)));
+		format.backup(1);
+		amount.setValue(Long.valueOf(5678));
+		assertThat(format.evaluate(1)).isEqualTo(EvaluationStatus.COMPLETE);
+		assertThat(format.getValue()).isEqualTo(amount.getOperator().getTrait().formatValue(Long.valueOf(5678)));
+	}
+
+	private static ObjectOperand objectOperand(Functions functions, String methodName, Object... parameters)
+	{
+		ObjectSpec objectSpec = new ObjectSpec(methodName, Arrays.asList(parameters), null);
+		objectSpec.setObject(functions);
+		objectSpec.setObjectClass(Functions.class);
+		return new ObjectOperand(objectSpec);
+	}
+}
@@ -111,6 +111,33 @@ public class TestVariable
 		
 	}
     
+	@Test
+	public void test_delegate_validity()
+	{
+		Variable variable = new ParseNameVariable(NAME);
+		// Empty variable permits assignment and equality only
+		assertThat(variable.getDelegateOperator().isLeftBinaryOp(OperatorEnum.ASSIGN)).isTrue();
+		assertThat(variable.getDelegateOperator().isRightBinaryOp(OperatorEnum.NE)).isTrue();
+		assertThat(variable.getDelegateOperator().isLeftBinaryOp(OperatorEnum.PLUS)).isFalse();
+		// Validity table is rebound when the delegate changes
+		variable.unifyTerm(new Parameter("x", Long.valueOf(1)), 1);
+		OperatorEnum[] leftOps = variable.getDelegateOperator().getLeftBinaryOps();
+		for (OperatorEnum operatorEnum: OperatorEnum.values())
+		{
+			boolean isLeftOp = false;
+			for (OperatorEnum leftOp: leftOps)
+				if (leftOp == operatorEnum)
+					isLeftOp = true;
+			assertThat(variable.getDelegateOperator().isLeftBinaryOp(operatorEnum)).isEqualTo(isLeftOp);
+		}
+		assertThat(variable.getDelegateOperator().isRightUnaryOp(OperatorEnum.TILDE)).isTrue();
+		assertThat(variable.getDelegateOperator().isConcatenateOp(OperatorEnum.PLUS)).isFalse();
+		variable = new ParseNameVariable(NAME);
+		variable.unifyTerm(new Parameter("x", "text"), 1);
+		assertThat(variable.getDelegateOperator().isConcatenateOp(OperatorEnum.PLUS)).isTrue();
+		assertThat(variable.getDelegateOperator().isLeftBinaryOp(OperatorEnum.STAR)).isFalse();
+	}
+
 	@Test
 	public void test_empty_methods()
 	{
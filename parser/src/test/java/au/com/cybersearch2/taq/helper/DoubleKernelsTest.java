@@ -0,0 +1,132 @@
+/** Copyright 2026 TAQ contributors
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License. */
+package au.com.cybersearch2.taq.helper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.Test;
+
+import au.com.cybersearch2.taq.complex.Complex;
+import au.com.cybersearch2.taq.expression.ExpressionException;
+import au.com.cybersearch2.taq.terms.DoubleArrayTerm;
+
+/**
+ * DoubleKernelsTest
+ */
+public class DoubleKernelsTest
+{
+    @Test
+    public void test_reductions()
+    {
+        // Lengths chosen to exercise unrolled and remainder loops
+        for (int length = 0; length < 12; ++length)
+        {
+            double[] x = new double[length + 3];
+            double[] y = new double[length + 3];
+            double sum = 0.0, dot = 0.0;
+            double min = Double.POSITIVE_INFINITY, max = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < x.length; ++i)
+            {
+                x[i] = (i % 2 == 0 ? 1.5 : -2.25) * (i + 1);
+                y[i] = 0.5 * i - 1.0;
+                if (i < length)
+                {
+                    sum += x[i];
+                    dot += x[i] * y[i];
+                    min = Math.min(min, x[i]);
+                    max = Math.max(max, x[i]);
+                }
+            }
+            assertThat(DoubleKernels.sum(x, length)).isCloseTo(sum, within(1.0E-9));
+            assertThat(DoubleKernels.dot(x, y, length)).isCloseTo(dot, within(1.0E-9));
+            if (length == 0)
+            {
+                assertThat(DoubleKernels.min(x, length)).isNaN();
+                assertThat(DoubleKernels.max(x, length)).isNaN();
+            }
+            else
+            {
+                assertThat(DoubleKernels.min(x, length)).isEqualTo(min);
+                assertThat(DoubleKernels.max(x, length)).isEqualTo(max);
+            }
+        }
+        double[] withNaN = new double[] { 1.0, Double.NaN, 3.0 };
+        assertThat(DoubleKernels.min(withNaN, 3)).isNaN();
+        assertThat(DoubleKernels.max(withNaN, 3)).isNaN();
+    }
+
+    @Test
+    public void test_element_wise()
+    {
+        double[] x = new double[] { 1.0, 2.0, 3.0, 4.0, 5.0 };
+        double[] y = new double[] { 10.0, 20.0, 30.0, 40.0, 50.0 };
+        DoubleKernels.axpy(2.0, x, y, 4);
+        assertThat(y).containsExactly(12.0, 24.0, 36.0, 48.0, 50.0);
+        double[] totals = new double[5];
+        DoubleKernels.prefixSum(x, totals, 5);
+        assertThat(totals).containsExactly(1.0, 3.0, 6.0, 10.0, 15.0);
+        // In place
+        DoubleKernels.prefixSum(x, x, 3);
+        assertThat(x).containsExactly(1.0, 3.0, 6.0, 4.0, 5.0);
+    }
+
+    @Test
+    public void test_complex()
+    {
+        // (1 + 2i)(3 + 4i) = -5 + 10i, (0 + 1i)(0 + 1i) = -1
+        double[] a = new double[] { 1.0, 2.0, 0.0, 1.0 };
+        double[] b = new double[] { 3.0, 4.0, 0.0, 1.0 };
+        double[] product = new double[4];
+        DoubleKernels.complexMultiply(a, b, product, 2);
+        assertThat(product).containsExactly(-5.0, 10.0, -1.0, 0.0);
+        double[] magnitude = new double[2];
+        DoubleKernels.complexAbs(b, magnitude, 2);
+        assertThat(magnitude).containsExactly(5.0, 1.0);
+        // Product overwrites first operand
+        DoubleKernels.complexMultiply(a, b, a, 2);
+        assertThat(a).containsExactly(-5.0, 10.0, -1.0, 0.0);
+    }
+
+    @Test
+    public void test_double_array_term()
+    {
+        DoubleArrayTerm x = new DoubleArrayTerm(new double[] { 1.0, 2.0, 3.0, 4.0, 5.0 });
+        DoubleArrayTerm y = new DoubleArrayTerm("10", "20", "30", "40", "50");
+        assertThat(x.sum()).isEqualTo(15.0);
+        assertThat(x.dot(y)).isEqualTo(550.0);
+        assertThat(x.axpy(2.0, y).getValue()).containsExactly(12.0, 24.0, 36.0, 48.0, 60.0);
+        // Operands are not changed
+        assertThat(y.getValue()).containsExactly(10.0, 20.0, 30.0, 40.0, 50.0);
+        assertThat(x.prefixSum().getValue()).containsExactly(1.0, 3.0, 6.0, 10.0, 15.0);
+        assertThat(new DoubleArrayTerm(new double[0]).sum()).isEqualTo(0.0);
+        assertThatThrownBy(() -> x.dot(new DoubleArrayTerm("1")))
+            .isInstanceOf(ExpressionException.class);
+    }
+
+    @Test
+    public void test_complex_element_wise()
+    {
+        double[] a = new double[] { 1.0, 2.0, 0.0, 1.0 };
+        double[] b = new double[] { 3.0, 4.0, 0.0, 1.0 };
+        assertThat(Complex.multiply(a, b)).containsExactly(-5.0, 10.0, -1.0, 0.0);
+        assertThat(a).containsExactly(1.0, 2.0, 0.0, 1.0);
+        assertThat(Complex.abs(b)).containsExactly(5.0, 1.0);
+        assertThatThrownBy(() -> Complex.multiply(a, new double[] { 1.0, 2.0 }))
+            .isInstanceOf(ExpressionException.class);
+        assertThatThrownBy(() -> Complex.abs(new double[] { 1.0 }))
+            .isInstanceOf(ExpressionException.class);
+    }
+}
@@ -0,0 +1,77 @@
+/** Copyright 2026 TAQ contributors
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License. */
+package au.com.cybersearch2.taq.language;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+import au.com.cybersearch2.taq.helper.QualifiedTemplateName;
+
+/**
+ * InternedNameTest
+ */
+public class InternedNameTest
+{
+    @Test
+    public void test_identity()
+    {
+        QualifiedName qname1 = new QualifiedName("scope1", "template1", "name1");
+        QualifiedName qname2 = QualifiedName.parseName("scope1.template1.name1");
+        assertThat(qname1.intern()).isSameAs(qname2.intern());
+        assertThat(qname1.intern()).isSameAs(InternedName.intern("scope1", "template1", "name1"));
+        assertThat(qname1.intern().hashCode()).isEqualTo(qname1.hashCode());
+        assertThat(qname1.intern().toString()).isEqualTo("scope1.template1.name1");
+        assertThat(qname1.intern().toQualifiedName()).isEqualTo(qname1);
+        // Global scope is the same as empty scope
+        assertThat(new QualifiedTemplateName(QualifiedName.GLOBAL_SCOPE, "template1").intern())
+            .isSameAs(QualifiedName.parseTemplateName("template1").intern());
+        // Name and template parts are distinct
+        assertThat(new QualifiedName("x").intern()).isNotSameAs(QualifiedName.parseTemplateName("x").intern());
+    }
+
+    @Test
+    public void test_modified_name()
+    {
+        QualifiedName qname = new QualifiedName("scope1", "template1", "name1");
+        InternedName interned = qname.intern();
+        qname.clearTemplate();
+        assertThat(qname.intern()).isNotSameAs(interned);
+        assertThat(qname.intern()).isSameAs(InternedName.intern("scope1", "", "name1"));
+        qname.clearScope();
+        assertThat(qname.intern()).isSameAs(new QualifiedName("name1").intern());
+    }
+
+    @Test
+    public void test_explicit_scope()
+    {
+        // An explicit empty or global scope is distinct from an absent scope, as for QualifiedName
+        QualifiedName absent = new QualifiedName("name1");
+        QualifiedName empty = new QualifiedName("name1");
+        empty.setScope(QualifiedName.EMPTY);
+        QualifiedName global = new QualifiedName("name1");
+        global.setScope(QualifiedName.GLOBAL_SCOPE);
+        assertThat(empty).isNotEqualTo(absent);
+        assertThat(global).isNotEqualTo(absent);
+        assertThat(global).isNotEqualTo(empty);
+        assertThat(empty.intern()).isNotSameAs(absent.intern());
+        assertThat(global.intern()).isNotSameAs(absent.intern());
+        assertThat(global.intern()).isNotSameAs(empty.intern());
+        QualifiedName empty2 = new QualifiedName("name1");
+        empty2.setScope(QualifiedName.EMPTY);
+        assertThat(empty2.intern()).isSameAs(empty.intern());
+        assertThat(empty.intern().toQualifiedName()).isEqualTo(empty);
+        assertThat(global.intern().toQualifiedName()).isEqualTo(global);
+    }
+}
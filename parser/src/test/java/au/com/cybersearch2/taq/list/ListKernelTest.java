@@ -0,0 +1,68 @@
+/** Copyright 2026 TAQ contributors
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License. */
+package au.com.cybersearch2.taq.list;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Iterator;
+
+import org.junit.Test;
+
+import au.com.cybersearch2.taq.QueryProgram;
+import au.com.cybersearch2.taq.pattern.Axiom;
+import au.com.cybersearch2.taq.result.Result;
+
+/**
+ * ListKernelTest
+ */
+public class ListKernelTest 
+{
+	private final static String DIMENSIONS =
+		"list<double> dimensions = { 12.5, 7.0, 9.25, -3.0 }\n" +
+		"list<integer> weights = { 2, 1, 1, 4 }\n" +
+		"template stats(total = dimensions.sum(), low = dimensions.min(), high = dimensions.max(),\n" +
+		"  weighted = dimensions.dot(weights), count = weights.sum(), size = dimensions.size())\n" +
+		"query<axiom> dimension_stats(stats)";
+
+	private final static String LOOP =
+		"list<double> dimensions = { 12.5, 7.0, 9.25, -3.0 }\n" +
+		"flow stats(n = dimensions.size(), i = 0, total = 0.0, { total += dimensions[i], ? ++i < n })\n" +
+		"query<axiom> dimension_stats(stats)";
+
+	@Test
+	public void test_list_kernels()
+	{
+		QueryProgram queryProgram = new QueryProgram();
+		queryProgram.parseScript(DIMENSIONS);
+		Axiom stats = getStats(queryProgram.executeQuery("dimension_stats"));
+		assertThat(stats.getValueByName("total")).isEqualTo(Double.valueOf(25.75));
+		assertThat(stats.getValueByName("low")).isEqualTo(Double.valueOf(-3.0));
+		assertThat(stats.getValueByName("high")).isEqualTo(Double.valueOf(12.5));
+		assertThat(stats.getValueByName("weighted")).isEqualTo(Double.valueOf(29.25));
+		assertThat(stats.getValueByName("count")).isEqualTo(Double.valueOf(8.0));
+		assertThat(stats.getValueByName("size")).isEqualTo(Integer.valueOf(4));
+		// Kernel results match the equivalent loop
+		queryProgram = new QueryProgram();
+		queryProgram.parseScript(LOOP);
+		stats = getStats(queryProgram.executeQuery("dimension_stats"));
+		assertThat(stats.getValueByName("total")).isEqualTo(Double.valueOf(25.75));
+	}
+
+	private static Axiom getStats(Result result)
+	{
+		Iterator<Axiom> iterator = result.axiomIterator("dimension_stats");
+		assertThat(iterator.hasNext()).isTrue();
+		return iterator.next();
+	}
+}
@@ -57,6 +57,41 @@ public class UnifierTest
  		verify(operand).unifyTerm(term2, 3);
 	}
 	
+    @Test
+    public void test_reset()
+    {
+        // One unifier is reset for each axiom and reuses its solution pairer
+        Axiom axiom1 = mock(Axiom.class);
+        Axiom axiom2 = mock(Axiom.class);
+        Operand operand = mock(Operand.class);
+        Term term1 = mock(Term.class);
+        Term term2 = mock(Term.class);
+        when(operand.getName()).thenReturn(OPERAND_NAME);
+        when(axiom1.getTermByIndex(1)).thenReturn(term1);
+        when(axiom2.getTermByIndex(1)).thenReturn(term2);
+        when(operand.isEmpty()).thenReturn(true);
+        when(operand.getArchetypeIndex()).thenReturn(0);
+        when(operand.getArchetypeId()).thenReturn(3);
+        Template template = mock(Template.class);
+        when(template.getId()).thenReturn(3);
+        Solution solution = mock(Solution.class);
+        Set<String> keyset = new HashSet<String>();
+        keyset.add(TEMPLATE_NAME);
+        when(solution.keySet()).thenReturn(keyset);
+        SolutionPairer solutionPairer = mock(SolutionPairer.class);
+        when(template.getSolutionPairer(solution)).thenReturn(solutionPairer);
+        int[] termMapping = new int[] { 1, 0};
+        Unifier underTest = new Unifier(template);
+        underTest.reset(axiom1, termMapping, solution);
+        assertThat(underTest.next(operand, 1)).isTrue();
+        verify(operand).unifyTerm(term1, 3);
+        underTest.reset(axiom2, termMapping, solution);
+        assertThat(underTest.next(operand, 1)).isTrue();
+        verify(operand).unifyTerm(term2, 3);
+        verify(template, times(1)).getSolutionPairer(solution);
+        verify(solutionPairer).setSolution(solution);
+    }
+    
     @Test
     public void test_non_empty_match()
     {
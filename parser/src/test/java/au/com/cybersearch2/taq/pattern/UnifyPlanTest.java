@@ -0,0 +1,68 @@
+/** Copyright 2026 TAQ contributors
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License. */
+package au.com.cybersearch2.taq.pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+import au.com.cybersearch2.taq.QueryProgram;
+import au.com.cybersearch2.taq.ResourceHelper;
+import au.com.cybersearch2.taq.expression.Evaluator;
+import au.com.cybersearch2.taq.interfaces.AxiomSource;
+import au.com.cybersearch2.taq.language.QualifiedName;
+import au.com.cybersearch2.taq.result.Result;
+
+/**
+ * UnifyPlanTest
+ */
+public class UnifyPlanTest 
+{
+	private final static String CITY_HEIGHTS =
+		"include \"named_cities.taq\"\n" +
+		"template city_height(city ? name, height = altitude)\n" +
+		"query<axiom> city_heights(city : city_height)(city = \"denver\")";
+
+	@Test
+	public void test_plan()
+	{
+		QueryProgram queryProgram = new QueryProgram();
+		queryProgram.setResourceBase(ResourceHelper.getTestResourcePath());
+		queryProgram.parseScript(CITY_HEIGHTS);
+		// Template archetype acquires axiom term names when the query runs 
+		Result result = queryProgram.executeQuery("city_heights");
+		assertThat(result.axiomIterator("city_heights").next().toString()).isEqualTo("city_height(city=denver, height=5280)");
+		Template template = queryProgram.getGlobalScope().getParserAssembler().getTemplateAssembler().getTemplate("city_height");
+		AxiomSource axiomSource = queryProgram.getGlobalScope().findAxiomSource(QualifiedName.parseGlobalName("city"));
+		int[] termMapping = template.getTemplateArchetype().getTermMapping(axiomSource.getArchetype());
+		UnifyPlan underTest = new UnifyPlan(template, termMapping);
+		assertThat(underTest.isValid(template)).isTrue();
+		int axiomSlotCount = 0;
+		for (int i = 0; i < underTest.size(); i++)
+		{
+			int slot = underTest.getAxiomSlot(i);
+			String name = underTest.getOperand(i).getName();
+			if (slot != UnifyPlan.SOLUTION)
+			{
+				++axiomSlotCount;
+				assertThat(name).isIn("name", "altitude");
+				assertThat(slot).isEqualTo(name.equals("altitude") ? 1 : 0);
+			}
+		}
+		assertThat(axiomSlotCount).isEqualTo(2);
+		// Evaluators do not take part in unification
+		for (int i = 0; i < underTest.size(); i++)
+			assertThat(underTest.getOperand(i)).isNotInstanceOf(Evaluator.class);
+	}
+}
@@ -0,0 +1,297 @@
+/** Copyright 2026 TAQ contributors
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License. */
+package au.com.cybersearch2.taq.provider.generic;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import au.com.cybersearch2.taq.ProviderManager;
+import au.com.cybersearch2.taq.QueryProgram;
+import au.com.cybersearch2.taq.axiom.AxiomSelection;
+import au.com.cybersearch2.taq.db.AxiomConverter;
+import au.com.cybersearch2.taq.db.ConnectionProfile;
+import au.com.cybersearch2.taq.db.StatementRunner;
+import au.com.cybersearch2.taq.db.sqlite.Sqlite;
+import au.com.cybersearch2.taq.interfaces.ProviderFactory;
+import au.com.cybersearch2.taq.interfaces.ResourceProvider;
+import au.com.cybersearch2.taq.language.OperatorEnum;
+import au.com.cybersearch2.taq.language.QualifiedName;
+import au.com.cybersearch2.taq.pattern.Axiom;
+import au.com.cybersearch2.taq.pattern.AxiomArchetype;
+import au.com.cybersearch2.taq.provider.generic.GenericStatementRunnerTest.City;
+
+/**
+ * GenericCursorTest
+ */
+public class GenericCursorTest 
+{
+	@Entity(name="town")
+	public static class Town
+	{
+	    @Id @GeneratedValue
+	 	int id;
+
+		@Column(name="name")
+		String name;
+
+		@Column(name="altitude")
+		Long altitude;
+
+		public Town()
+		{
+		}
+
+		public int getId() {
+			return id;
+		}
+
+		public void setId(int id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public Long getAltitude() {
+			return altitude;
+		}
+
+		public void setAltitude(Long altitude) {
+			this.altitude = altitude;
+		}
+	}
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private EntityPersistence entityPersistence;
+	private GenericEntityCollector<City> collector;
+
+	@Before
+	public void setUp() throws Exception
+	{
+		String databasePath = "jdbc:sqlite:" + new File(folder.getRoot(), "cities.db").getAbsolutePath();
+		entityPersistence = new EntityPersistence(new ConnectionProfile("cities", new Sqlite(), databasePath));
+		GenericEntityEmitter<City> emitter = entityPersistence.addEmitterEntity("city", City.class);
+		collector = new GenericEntityCollector<>(City.class);
+		entityPersistence.addCollector("city", collector);
+		entityPersistence.open();
+		StatementRunner<City> statementRunner = emitter.getStatementRunner();
+		for (int i = 0; i < 7; ++i)
+			statementRunner.addEntity(new City("city" + i, 1000 + i));
+		statementRunner.flush();
+	}
+
+	@Test
+	public void test_cursor_streams_rows() throws Exception
+	{
+		collector.setFetchSize(2);
+		Iterator<Axiom> iterator = entityPersistence.iterator(cityArchetype());
+		assertThat(iterator).isInstanceOf(GenericCursor.class);
+		assertThat(((GenericCursor<?>)iterator).isKeysetPaging()).isFalse();
+		List<String> names = new ArrayList<>();
+		while (iterator.hasNext()) {
+			Axiom axiom = iterator.next();
+			names.add(axiom.getValueByName("name").toString());
+			assertThat(axiom.getValueByName("altitude")).isEqualTo(Long.valueOf(1000 + names.size() - 1));
+		}
+		assertThat(names).containsExactly("city0", "city1", "city2", "city3", "city4", "city5", "city6");
+		assertThat(iterator.next()).isNull();
+		entityPersistence.close();
+	}
+
+	@Test
+	public void test_keyset_paging() throws Exception
+	{
+		collector.setMaxResults(3);
+		collector.setKeysetPaging(true);
+		Iterator<Axiom> iterator = entityPersistence.iterator(cityArchetype());
+		assertThat(((GenericCursor<?>)iterator).isKeysetPaging()).isTrue();
+		List<String> names = new ArrayList<>();
+		while (iterator.hasNext()) 
+			names.add(iterator.next().getValueByName("name").toString());
+		assertThat(names).containsExactly("city0", "city1", "city2", "city3", "city4", "city5", "city6");
+		entityPersistence.close();
+	}
+
+	@Test
+	public void test_paging_without_keyset() throws Exception
+	{
+		collector.setMaxResults(3);
+		Iterator<Axiom> iterator = entityPersistence.iterator(cityArchetype());
+		assertThat(iterator).isNotInstanceOf(GenericCursor.class);
+		int count = 0;
+		while (iterator.hasNext()) {
+			iterator.next();
+			++count;
+		}
+		assertThat(count).isEqualTo(7);
+		entityPersistence.close();
+	}
+
+	@Test
+	public void test_provider_close_closes_cursor() throws Exception
+	{
+		Iterator<Axiom> iterator = entityPersistence.iterator(cityArchetype());
+		assertThat(iterator.next().getValueByName("name")).isEqualTo("city0");
+		entityPersistence.close();
+		assertThat(iterator.hasNext()).isFalse();
+		// A new cursor is available after reopening
+		entityPersistence.open();
+		iterator = entityPersistence.iterator(cityArchetype());
+		assertThat(iterator.next().getValueByName("name")).isEqualTo("city0");
+		entityPersistence.close();
+	}
+
+	@Test
+	public void test_concurrent_cursors() throws Exception
+	{
+		collector.setFetchSize(2);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		List<Future<Integer>> counts = new ArrayList<>();
+		for (int i = 0; i < 16; ++i)
+			counts.add(executor.submit(() -> {
+				Iterator<Axiom> iterator = entityPersistence.iterator(cityArchetype());
+				int count = 0;
+				while (iterator.hasNext()) {
+					iterator.next();
+					++count;
+				}
+				return count;
+			}));
+		for (Future<Integer> count: counts)
+			assertThat(count.get()).isEqualTo(7);
+		executor.shutdown();
+		entityPersistence.close();
+	}
+
+	@Test
+	public void test_cursor_selection() throws Exception
+	{
+		collector.setMaxResults(2);
+		collector.setKeysetPaging(true);
+		AxiomSelection selection = new AxiomSelection();
+		selection.addTermName("name");
+		selection.addCriterion("altitude", OperatorEnum.GT, Long.valueOf(1003));
+		selection.addCriterion("altitude", OperatorEnum.NE, Long.valueOf(1005));
+		// Text comparison is left to the query
+		selection.addCriterion("name", OperatorEnum.NE, "city5");
+		selection.addCriterion("name", OperatorEnum.LT, "city0");
+		Iterator<Axiom> iterator = entityPersistence.iterator(cityArchetype(), selection);
+		assertThat(((GenericCursor<?>)iterator).getQuery())
+		    .isEqualTo("SELECT name,id FROM city WHERE altitude > ? AND (altitude <> ? OR altitude IS NULL) AND id > ? ORDER BY id LIMIT 2");
+		List<String> names = new ArrayList<>();
+		while (iterator.hasNext()) {
+			Axiom axiom = iterator.next();
+			names.add(axiom.getValueByName("name").toString());
+			assertThat(axiom.getTermByName("altitude")).isNull();
+		}
+		assertThat(names).containsExactly("city4", "city6");
+		entityPersistence.close();
+	}
+
+	@Test
+	public void test_pushdown_query() throws Exception
+	{
+		String databasePath = "jdbc:sqlite:" + new File(folder.getRoot(), "towns.db").getAbsolutePath();
+		// Names compare ignoring case and one altitude is unknown
+		try (Connection connection = DriverManager.getConnection(databasePath);
+			 Statement stmt = connection.createStatement())
+		{
+			stmt.execute("CREATE TABLE town(name TEXT COLLATE NOCASE, altitude INTEGER, id INTEGER PRIMARY KEY AUTOINCREMENT)");
+			stmt.execute("INSERT INTO town(name, altitude) VALUES('denver', 1609), ('leadville', NULL), ('bilene', 5280), ('Denver', 1000)");
+		}
+		String script = 
+			"resource towns { axiom town (name, altitude) }\n" +
+			"template other_town(name ? name != \"Denver\", altitude ? altitude != 5280)\n" +
+			"query<axiom> other_towns(town : other_town)";
+		// Paging without a key reads every row, so no criteria are pushed down
+		List<String> queries = new ArrayList<>();
+		List<String> expected = queryTowns(databasePath, script, 100, queries);
+		assertThat(queries).isEmpty();
+		assertThat(expected).containsExactly(
+			"other_town(name=denver, altitude=1609)", 
+			"other_town(name=leadville, altitude=0)");
+		// Streamed with the altitude criterion pushed down
+		assertThat(queryTowns(databasePath, script, 0, queries)).isEqualTo(expected);
+		assertThat(queries).containsExactly("SELECT name,altitude FROM town WHERE (altitude <> ? OR altitude IS NULL)");
+	}
+
+	private List<String> queryTowns(String databasePath, String script, int maxResults, List<String> queries)
+	{
+		ProviderManager providerManager = new ProviderManager();
+		providerManager.putResourceProvider(new ProviderFactory() {
+
+			@Override
+			public boolean isResourceName(String name) {
+				return "towns".equals(name);
+			}
+
+			@Override
+			public ResourceProvider createResourceProvider(String name) {
+				EntityPersistence townPersistence = new EntityPersistence(new ConnectionProfile(name, new Sqlite(), databasePath));
+				GenericEntityCollector<Town> townCollector = new GenericEntityCollector<Town>(Town.class) {
+
+					@Override
+					public GenericCursor<Town> cursorInstance(AxiomConverter axiomConverter, AxiomSelection selection) throws ExecutionException {
+						GenericCursor<Town> cursor = super.cursorInstance(axiomConverter, selection);
+						queries.add(cursor.getQuery());
+						return cursor;
+					}
+				};
+				townCollector.setMaxResults(maxResults);
+				townPersistence.addCollector("town", townCollector);
+				return townPersistence;
+			}
+		});
+		QueryProgram queryProgram = new QueryProgram(providerManager);
+		queryProgram.parseScript(script);
+		Iterator<Axiom> iterator = queryProgram.executeQuery("other_towns").axiomIterator("other_towns");
+		List<String> towns = new ArrayList<>();
+		while (iterator.hasNext())
+			towns.add(iterator.next().toString());
+		return towns;
+	}
+
+	private AxiomArchetype cityArchetype()
+	{
+		return new AxiomArchetype(QualifiedName.parseGlobalName("city"));
+	}
+}
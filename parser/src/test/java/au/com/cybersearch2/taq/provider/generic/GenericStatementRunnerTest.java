@@ -0,0 +1,270 @@
+/** Copyright 2026 TAQ contributors
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License. */
+package au.com.cybersearch2.taq.provider.generic;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.File;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Locale;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import au.com.cybersearch2.taq.ProviderManager;
+import au.com.cybersearch2.taq.db.ConnectionProfile;
+import au.com.cybersearch2.taq.db.ProviderConnection;
+import au.com.cybersearch2.taq.db.StatementRunner;
+import au.com.cybersearch2.taq.db.sqlite.Sqlite;
+import au.com.cybersearch2.taq.interfaces.ProviderFactory;
+import au.com.cybersearch2.taq.interfaces.ResourceProvider;
+import au.com.cybersearch2.taq.language.Parameter;
+import au.com.cybersearch2.taq.pattern.Axiom;
+import au.com.cybersearch2.taq.query.QueryExecutionException;
+
+/**
+ * GenericStatementRunnerTest
+ */
+public class GenericStatementRunnerTest 
+{
+	@Entity(name="city")
+	public static class City
+	{
+	    @Id @GeneratedValue
+	 	int id;
+
+		@Column(name="name")
+		String name;
+
+		@Column(name="altitude")
+		long altitude;
+
+		public City()
+		{
+		}
+
+		public City(String name, long altitude)
+		{
+			this.name = name;
+			this.altitude = altitude;
+		}
+
+		public int getId() {
+			return id;
+		}
+
+		public void setId(int id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public long getAltitude() {
+			return altitude;
+		}
+
+		public void setAltitude(long altitude) {
+			this.altitude = altitude;
+		}
+	}
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void test_batch_insert() throws Exception
+	{
+		String databasePath = "jdbc:sqlite:" + new File(folder.getRoot(), "cities.db").getAbsolutePath();
+		EntityPersistence entityPersistence = new EntityPersistence(new ConnectionProfile("cities", new Sqlite(), databasePath));
+		GenericEntityEmitter<City> emitter = entityPersistence.addEmitterEntity("city", City.class);
+		emitter.setBatchSize(3);
+		entityPersistence.open();
+		StatementRunner<City> statementRunner = emitter.getStatementRunner();
+		for (int i = 0; i < 7; ++i)
+			statementRunner.addEntity(new City("city" + i, 1000 + i));
+		// Two full batches committed, one row pending
+		assertThat(countRows(databasePath)).isEqualTo(6);
+		// Single insert flushes pending row first and returns generated key
+		City denver = new City("denver", 5280);
+		int rowId = statementRunner.insertEntity(denver);
+		assertThat(rowId).isEqualTo(8);
+		assertThat(denver.getId()).isEqualTo(8);
+		assertThat(countRows(databasePath)).isEqualTo(8);
+		statementRunner.addEntity(new City("bilene", 1718));
+		assertThat(countRows(databasePath)).isEqualTo(8);
+		// Close flushes pending row
+		entityPersistence.close();
+		assertThat(countRows(databasePath)).isEqualTo(9);
+		// Reopen with cached statements re-prepared on new connection
+		entityPersistence.open();
+		statementRunner.addEntity(new City("addis ababa", 8000));
+		entityPersistence.close();
+		assertThat(countRows(databasePath)).isEqualTo(10);
+	}
+
+	@Test
+	public void test_generated_keys() throws Exception
+	{
+		String databasePath = "jdbc:sqlite:" + new File(folder.getRoot(), "keys.db").getAbsolutePath();
+		EntityPersistence entityPersistence = new EntityPersistence(new ConnectionProfile("cities", new Sqlite(), databasePath));
+		GenericEntityEmitter<City> emitter = entityPersistence.addEmitterEntity("city", City.class);
+		emitter.setBatchSize(3);
+		emitter.setGeneratedKeys(true);
+		entityPersistence.open();
+		City leadville = new City("leadville", 10200);
+		City denver = new City("denver", 5280);
+		emitter.internalEmitData(leadville);
+		emitter.internalEmitData(denver);
+		// Rows inserted immediately so keys are available
+		assertThat(leadville.getId()).isEqualTo(1);
+		assertThat(denver.getId()).isEqualTo(2);
+		assertThat(countRows(databasePath)).isEqualTo(2);
+		emitter.setGeneratedKeys(false);
+		City bilene = new City("bilene", 1718);
+		emitter.internalEmitData(bilene);
+		assertThat(bilene.getId()).isEqualTo(0);
+		assertThat(countRows(databasePath)).isEqualTo(2);
+		entityPersistence.close();
+		assertThat(countRows(databasePath)).isEqualTo(3);
+	}
+
+	@Test
+	public void test_close_error() throws Exception
+	{
+		String firstPath = "jdbc:sqlite:" + new File(folder.getRoot(), "first.db").getAbsolutePath();
+		String secondPath = "jdbc:sqlite:" + new File(folder.getRoot(), "second.db").getAbsolutePath();
+		ProviderManager providerManager = new ProviderManager();
+		providerManager.putResourceProvider(providerFactory("first", firstPath, 0, 3));
+		providerManager.putResourceProvider(providerFactory("second", secondPath, 0, 3));
+		EntityPersistence first = (EntityPersistence)providerManager.getResourceProvider("first");
+		EntityPersistence second = (EntityPersistence)providerManager.getResourceProvider("second");
+		first.open();
+		second.open();
+		first.emit(new Axiom("city", new Parameter("name", "leadville"), new Parameter("altitude", 10200L)), Locale.US);
+		second.emit(new Axiom("city", new Parameter("name", "denver"), new Parameter("altitude", 5280L)), Locale.US);
+		// Pending row of first provider cannot be inserted
+		try (Connection connection = DriverManager.getConnection(firstPath);
+			 Statement stmt = connection.createStatement())
+		{
+			stmt.execute("DROP TABLE city");
+		}
+		assertThatThrownBy(() -> providerManager.close())
+			.isInstanceOf(QueryExecutionException.class)
+			.hasMessage("Error inserting pending rows");
+		// Second provider is still closed and its pending row inserted
+		assertThat(countRows(secondPath)).isEqualTo(1);
+	}
+
+	@Test
+	public void test_writer_error() throws Exception
+	{
+		String firstPath = "jdbc:sqlite:" + new File(folder.getRoot(), "first.db").getAbsolutePath();
+		String secondPath = "jdbc:sqlite:" + new File(folder.getRoot(), "second.db").getAbsolutePath();
+		ProviderManager providerManager = new ProviderManager();
+		providerManager.putResourceProvider(providerFactory("first", firstPath, 16, 1));
+		providerManager.putResourceProvider(providerFactory("second", secondPath, 16, 3));
+		EntityPersistence first = (EntityPersistence)providerManager.getResourceProvider("first");
+		EntityPersistence second = (EntityPersistence)providerManager.getResourceProvider("second");
+		first.open();
+		second.open();
+		// Writer thread of first provider cannot insert row
+		try (Connection connection = DriverManager.getConnection(firstPath);
+			 Statement stmt = connection.createStatement())
+		{
+			stmt.execute("DROP TABLE city");
+		}
+		first.emit(new Axiom("city", new Parameter("name", "leadville"), new Parameter("altitude", 10200L)), Locale.US);
+		second.emit(new Axiom("city", new Parameter("name", "denver"), new Parameter("altitude", 5280L)), Locale.US);
+		assertThatThrownBy(() -> providerManager.close())
+			.isInstanceOf(QueryExecutionException.class)
+			.hasMessageContaining("failed");
+		// Second provider is still closed and its queued row inserted
+		assertThat(countRows(secondPath)).isEqualTo(1);
+	}
+
+	@Test
+	public void test_writer_shares_connection() throws Exception
+	{
+		String databasePath = "jdbc:sqlite:" + new File(folder.getRoot(), "shared.db").getAbsolutePath();
+		EntityPersistence entityPersistence = new EntityPersistence(new ConnectionProfile("cities", new Sqlite(), databasePath));
+		GenericEntityCollector<City> collector = new GenericEntityCollector<>(City.class);
+		entityPersistence.addCollector("city", collector);
+		entityPersistence.addEmitterEntity("city", City.class).setBatchSize(1);
+		entityPersistence.setQueueDepth(16);
+		entityPersistence.open();
+		ProviderConnection providerConnection = collector.getProviderConnection();
+		assertThat(providerConnection).isNotNull();
+		// First row prepares the insert statement on the writer thread
+		entityPersistence.emit(new Axiom("city", new Parameter("name", "denver"), new Parameter("altitude", 5280L)), Locale.US);
+		for (int i = 0; (i < 100) && (countRows(databasePath) == 0); ++i)
+			Thread.sleep(50);
+		assertThat(countRows(databasePath)).isEqualTo(1);
+		// Writer thread waits while a reader is using the connection
+		synchronized(providerConnection)
+		{
+			entityPersistence.emit(new Axiom("city", new Parameter("name", "leadville"), new Parameter("altitude", 10200L)), Locale.US);
+			Thread.sleep(200);
+			assertThat(countRows(databasePath)).isEqualTo(1);
+		}
+		entityPersistence.close();
+		assertThat(countRows(databasePath)).isEqualTo(2);
+	}
+
+	private static ProviderFactory providerFactory(String name, String databasePath, int queueDepth, int batchSize)
+	{
+		return new ProviderFactory() {
+
+			@Override
+			public boolean isResourceName(String resourceName) {
+				return name.equals(resourceName);
+			}
+
+			@Override
+			public ResourceProvider createResourceProvider(String resourceName) {
+				EntityPersistence entityPersistence = new EntityPersistence(new ConnectionProfile(name, new Sqlite(), databasePath));
+				entityPersistence.addEmitterEntity("city", City.class).setBatchSize(batchSize);
+				entityPersistence.setQueueDepth(queueDepth);
+				return entityPersistence;
+			}
+		};
+	}
+
+	private int countRows(String databasePath) throws SQLException
+	{
+		try (Connection connection = DriverManager.getConnection(databasePath);
+			 Statement stmt = connection.createStatement();
+			 ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM city"))
+		{
+			rs.next();
+			return rs.getInt(1);
+		}
+	}
+}
@@ -0,0 +1,299 @@
+/** Copyright 2026 TAQ contributors
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License. */
+package au.com.cybersearch2.taq.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Locale;
+
+import org.junit.Test;
+
+import au.com.cybersearch2.taq.ProviderManager;
+import au.com.cybersearch2.taq.QueryProgram;
+import au.com.cybersearch2.taq.axiom.AxiomIndex;
+import au.com.cybersearch2.taq.axiom.AxiomListSource;
+import au.com.cybersearch2.taq.axiom.AxiomSelection;
+import au.com.cybersearch2.taq.axiom.AxiomSelection.TermCriterion;
+import au.com.cybersearch2.taq.axiom.IndexedAxiomSource;
+import au.com.cybersearch2.taq.axiom.VersionedAxiomList;
+import au.com.cybersearch2.taq.interfaces.AxiomSource;
+import au.com.cybersearch2.taq.interfaces.LocaleAxiomListener;
+import au.com.cybersearch2.taq.interfaces.ProviderFactory;
+import au.com.cybersearch2.taq.interfaces.ResourceProvider;
+import au.com.cybersearch2.taq.language.OperatorEnum;
+import au.com.cybersearch2.taq.language.Parameter;
+import au.com.cybersearch2.taq.language.QualifiedName;
+import au.com.cybersearch2.taq.language.Term;
+import au.com.cybersearch2.taq.pattern.Axiom;
+import au.com.cybersearch2.taq.pattern.AxiomArchetype;
+import au.com.cybersearch2.taq.pattern.Template;
+import au.com.cybersearch2.taq.result.Result;
+
+/**
+ * QueryPlannerTest
+ */
+public class QueryPlannerTest 
+{
+	private final static String GROUPING =
+		"axiom list city (Name, Region)\n" +
+		"{\"Tokyo\", \"Asia\"}\n" +
+		"{\"Cairo\", \"Africa\"}\n" +
+		"{\"Delhi\", \"Asia\"}\n" +
+		"{\"Moscow\", \"Europe\"}\n" +
+		"{\"Lagos\", \"Africa\"}\n" +
+		"axiom list regions(region)\n" +
+		"{ \"Asia\" }\n" +
+		"{ \"Africa\" }\n" +
+		"{ \"Oceania\" }\n" +
+		"template group(region)\n" +
+		"template group_by_region(region ? Region, city = Name)\n" +
+		"query<axiom> cities_by_region(regions : group, city : group_by_region)";
+
+	@Test
+	public void test_plan()
+	{
+		QueryProgram queryProgram = new QueryProgram();
+		queryProgram.parseScript(GROUPING);
+		QueryPlanner queryPlanner = new QueryPlanner();
+		Template template = queryProgram.getGlobalScope().getParserAssembler().getTemplateAssembler().getTemplate("group_by_region");
+		assertThat(queryPlanner.plan(template)).isNotNull();
+		template = queryProgram.getGlobalScope().getParserAssembler().getTemplateAssembler().getTemplate("group");
+		assertThat(queryPlanner.plan(template)).isNull();
+		AxiomSource axiomSource = queryProgram.getGlobalScope().findAxiomSource(QualifiedName.parseGlobalName("city"));
+		assertThat(axiomSource).isInstanceOf(IndexedAxiomSource.class);
+	}
+
+	@Test
+	public void test_indexed_query()
+	{
+		QueryProgram queryProgram = new QueryProgram();
+		queryProgram.parseScript(GROUPING);
+		Result result = queryProgram.executeQuery("cities_by_region");
+		Iterator<Axiom> iterator = result.axiomIterator("cities_by_region");
+		List<String> cities = new ArrayList<>();
+		while (iterator.hasNext())
+			cities.add(iterator.next().toString());
+		assertThat(cities).containsExactly(
+			"group_by_region(region=Asia, city=Tokyo)",
+			"group_by_region(region=Asia, city=Delhi)",
+			"group_by_region(region=Africa, city=Cairo)",
+			"group_by_region(region=Africa, city=Lagos)");
+	}
+
+	@Test
+	public void test_hash_join_query()
+	{
+		// Cities are provided by a resource, which is not indexed, so the hash join applies 
+		CityProvider cityProvider = new CityProvider();
+		ProviderManager providerManager = new ProviderManager();
+		providerManager.putResourceProvider(cityProvider);
+		QueryProgram queryProgram = new QueryProgram(providerManager);
+		queryProgram.parseScript(
+			"resource world { axiom city (Name, Region) }\n" +
+			"axiom list regions(region)\n" +
+			"{ \"Asia\" }\n" +
+			"{ \"Africa\" }\n" +
+			"{ \"Oceania\" }\n" +
+			"template group(region)\n" +
+			"template group_by_region(region ? Region, city = Name)\n" +
+			"query<axiom> cities_by_region(regions : group, city : group_by_region)\n" +
+			"query<axiom> hash_cities_by_region(regions : group, city : group_by_region)(join = \"hash\")");
+		List<String> expected = Arrays.asList(
+			"group_by_region(region=Asia, city=Tokyo)",
+			"group_by_region(region=Asia, city=Delhi)",
+			"group_by_region(region=Africa, city=Cairo)",
+			"group_by_region(region=Africa, city=Lagos)");
+		// Nested loop reads the cities once for each region
+		assertThat(getCities(queryProgram, "cities_by_region")).isEqualTo(expected);
+		assertThat(cityProvider.readCount).isEqualTo(3);
+		// Hash join reads the cities once and then reuses the table while the cities are unchanged
+		cityProvider.readCount = 0;
+		assertThat(getCities(queryProgram, "hash_cities_by_region")).isEqualTo(expected);
+		assertThat(cityProvider.readCount).isEqualTo(1);
+		assertThat(getCities(queryProgram, "hash_cities_by_region")).isEqualTo(expected);
+		assertThat(cityProvider.readCount).isEqualTo(1);
+		cityProvider.addCity("Nairobi", "Africa");
+		assertThat(getCities(queryProgram, "hash_cities_by_region")).endsWith("group_by_region(region=Africa, city=Nairobi)");
+		assertThat(cityProvider.readCount).isEqualTo(2);
+	}
+
+	@Test
+	public void test_build_hash_table()
+	{
+		QueryProgram queryProgram = new QueryProgram();
+		queryProgram.parseScript(GROUPING);
+		Template template = queryProgram.getGlobalScope().getParserAssembler().getTemplateAssembler().getTemplate("group_by_region");
+		List<Axiom> axiomList = new ArrayList<>();
+		axiomList.add(new Axiom("city", new Parameter("Name", "Tokyo"), new Parameter("Region", "Asia")));
+		axiomList.add(new Axiom("city", new Parameter("Name", "Cairo"), new Parameter("Region", "Africa")));
+		// Plain list source is not indexed, so a hash table is built
+		LogicQuery logicQuery = new LogicQuery(new AxiomListSource(axiomList));
+		logicQuery.setIndexPlan(new QueryPlanner().plan(template));
+		assertThat(logicQuery.buildHashTable(null)).isTrue();
+		// Fall back to nested loop when there is no equi-join key
+		logicQuery.setIndexPlan(null);
+		assertThat(logicQuery.buildHashTable(null)).isFalse();
+		// Indexed source is used directly
+		logicQuery = new LogicQuery(new IndexedAxiomSource(new AxiomIndex(axiomList), null));
+		logicQuery.setIndexPlan(new QueryPlanner().plan(template));
+		assertThat(logicQuery.buildHashTable(null)).isFalse();
+	}
+
+	@Test
+	public void test_pushdown()
+	{
+		QueryProgram queryProgram = new QueryProgram();
+		queryProgram.parseScript(
+			"axiom list city (name, altitude)\n" +
+			"{\"bilene\", 1718}\n" +
+			"{\"denver\", 5280}\n" +
+			"template high_city(name, altitude ? altitude > 5000)\n" +
+			"query<axiom> high_cities(city : high_city)");
+		Template template = queryProgram.getGlobalScope().getParserAssembler().getTemplateAssembler().getTemplate("high_city");
+		PushdownPlan pushdownPlan = new QueryPlanner().pushdown(template);
+		assertThat(pushdownPlan.isEmpty()).isFalse();
+		AxiomArchetype archetype = new AxiomArchetype(QualifiedName.parseGlobalName("city"));
+		AxiomSelection selection = pushdownPlan.selection(archetype, new Solution(Locale.getDefault()));
+		assertThat(selection.getTermNames()).containsExactly("name", "altitude");
+		assertThat(selection.getCriteria()).hasSize(1);
+		TermCriterion criterion = selection.getCriteria().get(0);
+		assertThat(criterion.termName).isEqualTo("altitude");
+		assertThat(criterion.operator).isEqualTo(OperatorEnum.GT);
+		assertThat(criterion.value).isEqualTo(Long.valueOf(5000));
+	}
+
+	@Test
+	public void test_axiom_index()
+	{
+		List<Axiom> axiomList = new VersionedAxiomList();
+		axiomList.add(new Axiom("city", new Parameter("Name", "Tokyo"), new Parameter("Region", "Asia")));
+		axiomList.add(new Axiom("city", new Parameter("Name", "Cairo"), new Parameter("Region", "Africa")));
+		axiomList.add(new Axiom("city", new Parameter("Name", "Delhi"), new Parameter("Region", "Asia")));
+		AxiomIndex axiomIndex = new AxiomIndex(axiomList);
+		assertThat(axiomIndex.lookup("Region", "Asia")).hasSize(2);
+		assertThat(axiomIndex.lookup("Region", "Europe")).isEmpty();
+		// Key of different type cannot be used
+		assertThat(axiomIndex.lookup("Region", Long.valueOf(1))).isNull();
+		// Index is rebuilt when list changes size
+		axiomList.add(new Axiom("city", new Parameter("Name", "Moscow"), new Parameter("Region", "Europe")));
+		assertThat(axiomIndex.lookup("Region", "Europe")).hasSize(1);
+		// Index is rebuilt when an element is replaced
+		axiomList.set(1, new Axiom("city", new Parameter("Name", "Nairobi"), new Parameter("Region", "Africa")));
+		assertThat(axiomIndex.lookup("Name", "Nairobi")).hasSize(1);
+		assertThat(axiomIndex.lookup("Name", "Cairo")).isEmpty();
+		ListIterator<Axiom> listIterator = axiomList.listIterator();
+		listIterator.next();
+		listIterator.set(new Axiom("city", new Parameter("Name", "Osaka"), new Parameter("Region", "Asia")));
+		assertThat(axiomIndex.lookup("Name", "Tokyo")).isEmpty();
+		// Changes to a plain list cannot be detected, so it is not indexed
+		assertThat(new AxiomIndex(new ArrayList<>(axiomList)).lookup("Name", "Osaka")).isNull();
+		// Mixed value types disable the index for the term
+		axiomList.add(new Axiom("city", new Parameter("Name", "Atlantis"), new Parameter("Region", Long.valueOf(0))));
+		assertThat(axiomIndex.lookup("Region", "Asia")).isNull();
+		assertThat(axiomIndex.lookup("Name", "Atlantis")).hasSize(1);
+	}
+
+	private List<String> getCities(QueryProgram queryProgram, String queryName)
+	{
+		Result result = queryProgram.executeQuery(queryName);
+		Iterator<Axiom> iterator = result.axiomIterator(queryName);
+		List<String> cities = new ArrayList<>();
+		while (iterator.hasNext())
+			cities.add(iterator.next().toString());
+		return cities;
+	}
+
+	/** Resource which provides cities and counts how often they are read */
+	private static class CityProvider implements ProviderFactory, ResourceProvider
+	{
+		final List<String[]> cityList;
+		int readCount;
+
+		CityProvider()
+		{
+			cityList = new ArrayList<>();
+			addCity("Tokyo", "Asia");
+			addCity("Cairo", "Africa");
+			addCity("Delhi", "Asia");
+			addCity("Moscow", "Europe");
+			addCity("Lagos", "Africa");
+		}
+
+		void addCity(String name, String region)
+		{
+			cityList.add(new String[] { name, region });
+		}
+
+		@Override
+		public boolean isResourceName(String name)
+		{
+			return "world".equals(name);
+		}
+
+		@Override
+		public ResourceProvider createResourceProvider(String name)
+		{
+			return this;
+		}
+
+		@Override
+		public String getName()
+		{
+			return "world";
+		}
+
+		@Override
+		public void open()
+		{
+		}
+
+		@Override
+		public void close()
+		{
+		}
+
+		@Override
+		public Iterator<Axiom> iterator(AxiomArchetype archetype)
+		{
+			++readCount;
+			List<Axiom> axiomList = new ArrayList<>();
+			cityList.forEach(city -> 
+				axiomList.add(new Axiom(archetype, Arrays.<Term>asList(new Parameter("Name", city[0]), new Parameter("Region", city[1])))));
+			return axiomList.iterator();
+		}
+
+		@Override
+		public int getVersion(AxiomArchetype archetype)
+		{
+			return cityList.size();
+		}
+
+		@Override
+		public LocaleAxiomListener getAxiomListener(String axiomName)
+		{
+			return null;
+		}
+
+		@Override
+		public boolean isEmpty()
+		{
+			return cityList.isEmpty();
+		}
+	}
+}
@@ -0,0 +1,102 @@
+/** Copyright 2026 TAQ contributors
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License. */
+package au.com.cybersearch2.taq.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+import au.com.cybersearch2.taq.QueryParams;
+import au.com.cybersearch2.taq.QueryProgram;
+import au.com.cybersearch2.taq.ResourceHelper;
+import au.com.cybersearch2.taq.pattern.Axiom;
+
+/**
+ * SolutionSpliteratorTest
+ */
+public class SolutionSpliteratorTest 
+{
+	private final static String HIGH_CITIES =
+		"include \"named_cities.taq\"\n" +
+		"template high_city(name, altitude ? altitude > 5000)\n" +
+		"query high_cities(city : high_city)\n" +
+		"query<axiom> high_city_list(city : high_city)";
+
+	@Test
+	public void test_stream()
+	{
+		QueryProgram queryProgram = compile();
+		List<String> cities;
+		try (Stream<Axiom> stream = queryProgram.stream("high_cities"))
+		{
+			cities = stream.map(axiom -> axiom.getTermByName("name").getValue().toString()).collect(Collectors.toList());
+		}
+		assertThat(cities).containsExactly("addis ababa", "denver", "flagstaff", "leadville");
+	}
+
+	@Test
+	public void test_cancel()
+	{
+		QueryProgram queryProgram = compile();
+		try (Stream<Axiom> stream = queryProgram.stream("high_cities"))
+		{
+			Iterator<Axiom> iterator = stream.iterator();
+			assertThat(iterator.next().toString()).isEqualTo("high_city(name=addis ababa, altitude=8000)");
+		}
+		// Query cancelled on close leaves program ready for next query
+		Iterator<Axiom> iterator = queryProgram.executeQuery("high_city_list").axiomIterator("high_city_list");
+		List<String> cities = new ArrayList<>();
+		while (iterator.hasNext())
+			cities.add(iterator.next().toString());
+		assertThat(cities).containsExactly(
+			"high_city(name=addis ababa, altitude=8000)",
+			"high_city(name=denver, altitude=5280)",
+			"high_city(name=flagstaff, altitude=6970)",
+			"high_city(name=leadville, altitude=10200)");
+	}
+
+	@Test
+	public void test_solution_handler()
+	{
+		QueryProgram queryProgram = compile();
+		QueryParams queryParams = queryProgram.getQueryParams("high_cities");
+		List<String> handled = new ArrayList<>();
+		// Handler sees every solution and ends the query after the second one
+		queryParams.setSolutionHandler(solution -> {
+			handled.add(solution.getString("high_city", "name"));
+			return handled.size() < 2;
+		});
+		List<String> cities;
+		try (Stream<Axiom> stream = queryProgram.stream(queryParams))
+		{
+			cities = stream.map(axiom -> axiom.getTermByName("name").getValue().toString()).collect(Collectors.toList());
+		}
+		assertThat(handled).containsExactly("addis ababa", "denver");
+		assertThat(cities).containsExactly("addis ababa", "denver");
+	}
+
+	private static QueryProgram compile()
+	{
+		QueryProgram queryProgram = new QueryProgram();
+		queryProgram.setResourceBase(ResourceHelper.getTestResourcePath());
+		queryProgram.parseScript(HIGH_CITIES);
+		return queryProgram;
+	}
+}
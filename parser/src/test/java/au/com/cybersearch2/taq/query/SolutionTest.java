@@ -0,0 +1,62 @@
+/** Copyright 2026 TAQ contributors
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License. */
+package au.com.cybersearch2.taq.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Locale;
+
+import org.junit.Test;
+
+import au.com.cybersearch2.taq.language.Parameter;
+import au.com.cybersearch2.taq.pattern.Axiom;
+
+/**
+ * SolutionTest
+ */
+public class SolutionTest 
+{
+	@Test
+	public void test_slots()
+	{
+		Solution solution = new Solution(Locale.getDefault());
+		solution.put("seed", new Axiom("seed", new Parameter("x", "1")));
+		int slot1 = solution.assignSlot("group");
+		int slot2 = solution.assignSlot("group_by_region");
+		assertThat(solution.assignSlot("group")).isEqualTo(slot1);
+		solution.put(slot1, new Axiom("group", new Parameter("region", "Asia")));
+		solution.put(slot2, new Axiom("group_by_region", new Parameter("city", "Tokyo")));
+		assertThat(solution.size()).isEqualTo(3);
+		assertThat(solution.keySet()).containsOnly("seed", "group", "group_by_region");
+		assertThat(solution.getCurrentKey()).isEqualTo("group_by_region");
+		// Key-based methods are redirected to slots
+		assertThat(solution.getString("group", "region")).isEqualTo("Asia");
+		assertThat(solution.getAxiom("group_by_region")).isSameAs(solution.getAxiom(slot2));
+		solution.remove("group_by_region");
+		assertThat(solution.getAxiom(slot2)).isNull();
+		assertThat(solution.getCurrentKey()).isEqualTo("group");
+		solution.put("group_by_region", new Axiom("group_by_region", new Parameter("city", "Delhi")));
+		assertThat(solution.getAxiom(slot2).toString()).isEqualTo("group_by_region(city=Delhi)");
+		solution.remove(slot1);
+		assertThat(solution.size()).isEqualTo(2);
+		// Key set skips the empty slot
+		assertThat(solution.keySet()).containsOnly("seed", "group_by_region");
+		// Removing an earlier key pops later keys from the stack
+		assertThat(solution.getCurrentKey()).isEqualTo("seed");
+		solution.reset();
+		assertThat(solution.size()).isEqualTo(0);
+		assertThat(solution.getStackSize()).isEqualTo(0);
+		assertThat(solution.keySet()).isEmpty();
+	}
+}
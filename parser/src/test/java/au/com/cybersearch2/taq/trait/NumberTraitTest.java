@@ -0,0 +1,137 @@
+/** Copyright 2026 TAQ contributors
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License. */
+package au.com.cybersearch2.taq.trait;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.text.NumberFormat;
+import java.util.Locale;
+import java.util.Scanner;
+
+import org.junit.Test;
+
+import au.com.cybersearch2.taq.helper.FormatCache;
+
+/**
+ * NumberTraitTest
+ */
+public class NumberTraitTest 
+{
+	private static final Locale[] LOCALES = new Locale[] 
+	{
+		Locale.US, Locale.GERMANY, Locale.FRANCE, Locale.JAPAN, new Locale("hi", "IN"), Locale.forLanguageTag("ar-EG")
+	};
+
+	private static final String[] NUMBERS = new String[]
+	{
+		"0", "-0", "7", "007", "-42", "123456789012345678", "1.5", "1.50", "-0.25", "1234.5678", "0.0"
+	};
+
+	@Test
+	public void test_plain_number_parse()
+	{
+		for (Locale locale: LOCALES)
+		{
+			IntegerTrait integerTrait = new IntegerTrait();
+			integerTrait.setLocale(locale);
+			DoubleTrait doubleTrait = new DoubleTrait();
+			doubleTrait.setLocale(locale);
+			BigDecimalTrait bigDecimalTrait = new BigDecimalTrait();
+			bigDecimalTrait.setLocale(locale);
+			for (String number: NUMBERS)
+			{
+				// Results must match locale-sensitive scanning
+				String message = locale + " " + number;
+				assertThat(integerTrait.parseValue(number)).as(message).isEqualTo(scanLong(number, locale));
+				assertThat(doubleTrait.parseValue(number)).as(message).isEqualTo(scanDouble(number, locale));
+				BigDecimal expected = scanBigDecimal(number, locale);
+				if (expected != null)
+					assertThat(bigDecimalTrait.parseValue(number)).as(message).isEqualTo(expected);
+			}
+		}
+		IntegerTrait integerTrait = new IntegerTrait();
+		integerTrait.setLocale(Locale.US);
+		assertThat(integerTrait.isPlainNumber("1234567890123456789", false)).isFalse();
+		assertThat(integerTrait.isPlainNumber("1,234", false)).isFalse();
+		assertThat(integerTrait.isPlainNumber("-", false)).isFalse();
+		assertThat(integerTrait.isPlainNumber("1.5", false)).isFalse();
+		assertThat(integerTrait.isPlainNumber("1.5", true)).isTrue();
+		integerTrait.setLocale(Locale.GERMANY);
+		assertThat(integerTrait.isPlainNumber("1.5", true)).isFalse();
+	}
+
+	@Test
+	public void test_format_cache()
+	{
+		for (Locale locale: LOCALES)
+		{
+			NumberFormat numberFormat = FormatCache.getNumberFormat(locale);
+			assertThat(FormatCache.getNumberFormat(locale)).isSameAs(numberFormat);
+			assertThat(numberFormat.format(1234567.891)).isEqualTo(NumberFormat.getInstance(locale).format(1234567.891));
+			assertThat(FormatCache.getCurrencyFormat(locale)).isSameAs(FormatCache.getCurrencyFormat(locale));
+			CurrencyTrait currencyTrait = new CurrencyTrait();
+			currencyTrait.setLocale(locale);
+			String amount = currencyTrait.formatValue(new BigDecimal("1234.56"));
+			assertThat(currencyTrait.formatValue(new BigDecimal("1234.56"))).isEqualTo(amount);
+		}
+		for (Locale locale: new Locale[] { Locale.US, Locale.GERMANY })
+		{
+			CurrencyTrait currencyTrait = new CurrencyTrait();
+			currencyTrait.setLocale(locale);
+			String amount = NumberFormat.getCurrencyInstance(locale).format(1234.56);
+			assertThat(currencyTrait.parseValue(amount)).isEqualTo(new BigDecimal("1234.56"));
+			assertThat(currencyTrait.parseValue(amount)).isEqualTo(new BigDecimal("1234.56"));
+		}
+	}
+
+	private static Long scanLong(String string, Locale locale)
+	{
+		Long value = Long.valueOf(0L);
+		try (Scanner scanner = new Scanner(string))
+		{
+			scanner.useLocale(locale);
+			if (scanner.hasNextLong())
+				value = scanner.nextLong();
+		}
+		return value;
+	}
+
+	private static Double scanDouble(String string, Locale locale)
+	{
+		Double value = Double.NaN;
+		try (Scanner scanner = new Scanner(string))
+		{
+			scanner.useLocale(locale);
+			if (scanner.hasNextDouble())
+				value = scanner.nextDouble();
+			else if (scanner.hasNextLong())
+				value = Double.valueOf(string);
+		}
+		return value;
+	}
+
+	private static BigDecimal scanBigDecimal(String string, Locale locale)
+	{
+		try (Scanner scanner = new Scanner(string))
+		{
+			scanner.useLocale(locale);
+			if (scanner.hasNextBigDecimal())
+				return scanner.nextBigDecimal();
+			if (scanner.hasNextDouble() || scanner.hasNextLong())
+				return new BigDecimal(string);
+		}
+		return null;
+	}
+}